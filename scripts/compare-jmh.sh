@@ -0,0 +1,25 @@
+#!/usr/bin/env bash
+# Compares two JMH JSON reports (mvn -Pbenchmark verify -Djmh.result=...) benchmark by benchmark and
+# parameter set, printing both scores and the change as tab-separated columns. A positive change means
+# slower, all benchmarks here report time per operation. Needs jq.
+#
+#   scripts/compare-jmh.sh target/jmh-1.3.0.json target/jmh-1.4.0.json
+set -euo pipefail
+
+BASELINE=${1:?usage: compare-jmh.sh <baseline.json> <candidate.json>}
+CANDIDATE=${2:?usage: compare-jmh.sh <baseline.json> <candidate.json>}
+
+printf 'benchmark\tbaseline\tcandidate\tunit\tchange\n'
+jq -r -n --slurpfile base "$BASELINE" --slurpfile cand "$CANDIDATE" '
+  def key: .benchmark + "(" + ((.params // {}) | to_entries | map(.key + "=" + .value) | join(",")) + ")";
+  ($base[0] | map({key: key, value: .primaryMetric}) | from_entries) as $b
+  | $cand[0][]
+  | key as $k
+  | .primaryMetric as $c
+  | ($b[$k].score) as $old
+  | [ ($k | sub("^com\\.project\\.task_management_app\\."; "")),
+      (if $old == null then "-" else ($old * 1000 | round / 1000 | tostring) end),
+      ($c.score * 1000 | round / 1000 | tostring),
+      $c.scoreUnit,
+      (if $old == null or $old == 0 then "new" else ((($c.score - $old) / $old * 1000 | round) / 10 | tostring) + "%" end) ]
+  | @tsv'
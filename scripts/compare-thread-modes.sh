@@ -0,0 +1,62 @@
+#!/usr/bin/env bash
+# Compares throughput and p99 latency of the app on platform threads vs virtual threads, with the same
+# HikariCP pool size in both runs. Needs a packaged jar (mvn package -DskipTests), a seeded database
+# configured in application.properties, an existing user with a workspace, curl and hey
+# (https://github.com/rakyll/hey).
+#
+#   USERNAME=alice PASSWORD=secret WORKSPACE_ID=<uuid> scripts/compare-thread-modes.sh
+set -euo pipefail
+
+JAR=${JAR:-target/task-management-app-0.0.1-SNAPSHOT.jar}
+PORT=${PORT:-8080}
+POOL_SIZE=${POOL_SIZE:-10}
+CONCURRENCY=${CONCURRENCY:-200}
+DURATION=${DURATION:-60s}
+WARMUP=${WARMUP:-15s}
+BASE_URL="http://localhost:${PORT}"
+: "${USERNAME:?set USERNAME}" "${PASSWORD:?set PASSWORD}" "${WORKSPACE_ID:?set WORKSPACE_ID}"
+
+ENDPOINTS=(
+  "/api/v1/workspaces/${WORKSPACE_ID}/tasks?page=1&size=20"
+  "/api/v1/users/dashboard"
+)
+
+run_mode() {
+  local virtual=$1
+  java -jar "$JAR" \
+    --server.port="$PORT" \
+    --spring.threads.virtual.enabled="$virtual" \
+    --spring.datasource.hikari.maximum-pool-size="$POOL_SIZE" \
+    --spring.jpa.show-sql=false \
+    --logging.level.root=WARN --logging.level.org.hibernate=WARN --logging.level.org.springframework.transaction=WARN \
+    > "target/thread-mode-virtual-${virtual}.log" 2>&1 &
+  local pid=$!
+  trap "kill $pid 2>/dev/null || true" EXIT
+
+  until curl -sf "${BASE_URL}/v3/api-docs" > /dev/null; do sleep 1; done
+
+  local token
+  token=$(curl -sf -H 'Content-Type: application/json' \
+    -d "{\"username\":\"${USERNAME}\",\"password\":\"${PASSWORD}\"}" \
+    "${BASE_URL}/api/v1/auth/signin" | sed -E 's/.*"token":"([^"]+)".*/\1/')
+
+  for endpoint in "${ENDPOINTS[@]}"; do
+    hey -z "$WARMUP" -c "$CONCURRENCY" -H "Authorization: Bearer ${token}" "${BASE_URL}${endpoint}" > /dev/null
+    local report
+    report=$(hey -z "$DURATION" -c "$CONCURRENCY" -H "Authorization: Bearer ${token}" "${BASE_URL}${endpoint}")
+    local rps p99
+    rps=$(awk '/Requests\/sec/ {print $2}' <<< "$report")
+    p99=$(awk '/ 99% in / {print $3 * 1000}' <<< "$report")
+    printf '%-9s %-55s %10s %10s\n' "$([ "$virtual" = true ] && echo virtual || echo platform)" "$endpoint" "$rps" "$p99"
+  done
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  trap - EXIT
+}
+
+mkdir -p target
+printf 'pool=%s concurrency=%s duration=%s\n' "$POOL_SIZE" "$CONCURRENCY" "$DURATION"
+printf '%-9s %-55s %10s %10s\n' "threads" "endpoint" "req/s" "p99 (ms)"
+run_mode false
+run_mode true
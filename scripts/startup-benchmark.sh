@@ -0,0 +1,75 @@
+#!/usr/bin/env bash
+# Compares time-to-first-successful-request of the standard image (plain fat jar) and the optimized image
+# (layered jar, Spring AOT and a CDS archive). Both images are built from the same jar, so package it with
+# the AOT classes first (mvn -Pfast-startup clean package -DskipTests). Needs docker and curl.
+#
+#   RUNS=5 scripts/startup-benchmark.sh
+set -euo pipefail
+
+RUNS=${RUNS:-5}
+PORT=${PORT:-18080}
+NETWORK=startup-benchmark
+DB=startup-benchmark-mysql
+APP=startup-benchmark-app
+JWT_SECRET=c3RhcnR1cC1iZW5jaG1hcmstand0LXNlY3JldC10aGF0LWlzLWxvbmctZW5vdWdo
+
+cleanup() {
+  docker rm -f "$APP" "$DB" > /dev/null 2>&1 || true
+  docker network rm "$NETWORK" > /dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+now_ms() { date +%s%3N; }
+
+docker build -q --target standard -t task-management-app:standard . > /dev/null
+docker build -q -t task-management-app:optimized . > /dev/null
+
+docker network create "$NETWORK" > /dev/null
+docker run -d --name "$DB" --network "$NETWORK" \
+  -e MYSQL_ROOT_PASSWORD=root -e MYSQL_DATABASE=task_db -e MYSQL_USER=task_user -e MYSQL_PASSWORD=task_pass \
+  mysql:8 > /dev/null
+until docker exec "$DB" mysql -utask_user -ptask_pass -e 'select 1' task_db > /dev/null 2>&1; do sleep 1; done
+
+# The first start runs the migrations, so neither image pays for them in the measured runs
+start_app() {
+  docker run -d --name "$APP" --network "$NETWORK" -p "${PORT}:8080" \
+    -e SPRING_DATASOURCE_URL="jdbc:mysql://${DB}:3306/task_db" \
+    -e SPRING_DATASOURCE_USERNAME=task_user -e SPRING_DATASOURCE_PASSWORD=task_pass \
+    -e SPRING_JPA_HIBERNATE_DDL_AUTO=validate \
+    -e JWT_SECRET="$JWT_SECRET" -e JWT_EXPIRATION=3600000 \
+    -e APP_DOMAIN=localhost -e APP_WORKSPACE_INVITE_BASEURL="http://localhost:${PORT}" \
+    "$1" > /dev/null
+}
+
+measure() {
+  local image=$1 start elapsed
+  start=$(now_ms)
+  start_app "$image"
+  until curl -sf "http://localhost:${PORT}/v3/api-docs" > /dev/null; do
+    if [ "$(docker inspect -f '{{.State.Running}}' "$APP")" != true ]; then
+      docker logs "$APP" >&2
+      exit 1
+    fi
+    sleep 0.1
+  done
+  elapsed=$(( $(now_ms) - start ))
+  docker rm -f "$APP" > /dev/null
+  echo "$elapsed"
+}
+
+median() { sort -n | awk '{a[NR]=$1} END {print (NR % 2) ? a[(NR + 1) / 2] : int((a[NR / 2] + a[NR / 2 + 1]) / 2)}'; }
+
+measure task-management-app:standard > /dev/null
+
+printf 'runs=%s\n' "$RUNS"
+printf '%-10s %12s %12s %12s\n' "image" "median (ms)" "min (ms)" "max (ms)"
+for image in standard optimized; do
+  times=()
+  for _ in $(seq "$RUNS"); do
+    times+=("$(measure "task-management-app:${image}")")
+  done
+  printf '%-10s %12s %12s %12s\n' "$image" \
+    "$(printf '%s\n' "${times[@]}" | median)" \
+    "$(printf '%s\n' "${times[@]}" | sort -n | head -1)" \
+    "$(printf '%s\n' "${times[@]}" | sort -n | tail -1)"
+done
@@ -0,0 +1,106 @@
+package com.project.task_management_app;
+
+import com.project.task_management_app.enums.AssignmentStatus;
+import com.project.task_management_app.enums.Role;
+import com.project.task_management_app.enums.TaskPriority;
+import com.project.task_management_app.enums.TaskStatus;
+import com.project.task_management_app.enums.WorkspaceType;
+import com.project.task_management_app.models.Task;
+import com.project.task_management_app.models.TaskAssignment;
+import com.project.task_management_app.models.User;
+import com.project.task_management_app.models.Workspace;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+// Detached entities shaped like production rows, built from a seeded Random so runs are comparable
+public final class BenchmarkFixtures {
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    private final Random random;
+
+    public BenchmarkFixtures(long seed) {
+        this.random = new Random(seed);
+    }
+
+    public User user() {
+        String name = "user" + Integer.toHexString(random.nextInt());
+        User user = new User();
+        user.setId(new UUID(random.nextLong(), random.nextLong()));
+        user.setUsername(name);
+        user.setEmail(name + "@example.com");
+        user.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z1KJ2zQ1bT3r0vQ5qGj8Gx1e");
+        user.setRole(Role.USER);
+        user.setUserImgUrl("https://cdn.example.com/avatars/" + name + ".png");
+        user.setCreatedAt(NOW.minusDays(random.nextInt(365)));
+        user.setUpdatedAt(NOW);
+        return user;
+    }
+
+    public List<User> users(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(user());
+        }
+        return users;
+    }
+
+    public Workspace workspace(User owner, List<User> members) {
+        Workspace workspace = new Workspace();
+        workspace.setId(new UUID(random.nextLong(), random.nextLong()));
+        workspace.setName("Workspace " + random.nextInt(10_000));
+        workspace.setDescription("Synthetic workspace for benchmarks");
+        workspace.setEntryCode(Integer.toHexString(random.nextInt(0xFFFFFF)));
+        workspace.setOwner(owner);
+        workspace.setType(WorkspaceType.PUBLIC);
+        Set<User> all = new HashSet<>(members);
+        all.add(owner);
+        workspace.setMembers(all);
+        workspace.setCreatedAt(NOW.minusDays(30));
+        workspace.setUpdatedAt(NOW);
+        return workspace;
+    }
+
+    // A task with one assignment per assignee, statuses drawn at random
+    public Task task(Workspace workspace, User creator, List<User> assignees) {
+        Task task = new Task();
+        task.setId(new UUID(random.nextLong(), random.nextLong()));
+        task.setTitle("Task " + random.nextInt(1_000_000));
+        task.setDescription("Synthetic task used to measure mapping and status calculation");
+        task.setStatus(TaskStatus.TODO);
+        task.setPriority(TaskPriority.values()[random.nextInt(TaskPriority.values().length)]);
+        task.setCategory("Work");
+        task.setDueDate(NOW.plusDays(random.nextInt(30) + 1));
+        task.setCreatedAt(NOW.minusDays(3));
+        task.setUpdatedAt(NOW);
+        task.setUser(creator);
+        task.setWorkspace(workspace);
+        for (User assignee : assignees) {
+            TaskAssignment assignment = new TaskAssignment();
+            assignment.setId(new UUID(random.nextLong(), random.nextLong()));
+            assignment.setTask(task);
+            assignment.setAssignee(assignee);
+            assignment.setStatus(AssignmentStatus.values()[random.nextInt(AssignmentStatus.values().length)]);
+            assignment.setAssignedAt(NOW.minusDays(1));
+            task.getAssignments().add(assignment);
+        }
+        return task;
+    }
+
+    // Chronological login times over the last days, mostly daily with occasional gaps and repeat logins
+    public List<LocalDateTime> loginHistory(int logins) {
+        List<LocalDateTime> history = new ArrayList<>(logins);
+        LocalDateTime time = NOW.minusDays(logins);
+        for (int i = 0; i < logins; i++) {
+            int step = random.nextInt(10);
+            time = time.plusHours(step == 0 ? 2 : step == 1 ? 72 : 24);
+            history.add(time);
+        }
+        return history;
+    }
+}
@@ -0,0 +1,47 @@
+package com.project.task_management_app.mapper;
+
+import com.project.task_management_app.BenchmarkFixtures;
+import com.project.task_management_app.models.Task;
+import com.project.task_management_app.models.User;
+import com.project.task_management_app.models.Workspace;
+import com.project.task_management_app.payload.Response.TaskResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Task to TaskResponse for one page of tasks, the mapping every task list and task event goes through
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskMapperBenchmark {
+    @Param({"1", "5", "25"})
+    public int assigneesPerTask;
+
+    @Param({"20"})
+    public int tasksPerPage;
+
+    private List<Task> page;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures fixtures = new BenchmarkFixtures(42);
+        User owner = fixtures.user();
+        List<User> members = fixtures.users(Math.max(50, assigneesPerTask));
+        Workspace workspace = fixtures.workspace(owner, members);
+        page = new ArrayList<>(tasksPerPage);
+        for (int i = 0; i < tasksPerPage; i++) {
+            int from = i % (members.size() - assigneesPerTask + 1);
+            page.add(fixtures.task(workspace, owner, members.subList(from, from + assigneesPerTask)));
+        }
+    }
+
+    @Benchmark
+    public List<TaskResponse> mapPage() {
+        return page.stream().map(TaskMapper::mapToTaskResponse).toList();
+    }
+}
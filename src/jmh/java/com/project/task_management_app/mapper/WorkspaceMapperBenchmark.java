@@ -0,0 +1,33 @@
+package com.project.task_management_app.mapper;
+
+import com.project.task_management_app.BenchmarkFixtures;
+import com.project.task_management_app.models.Workspace;
+import com.project.task_management_app.payload.Response.WorkspaceResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Workspace to WorkspaceResponse, which copies every member into the response
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkspaceMapperBenchmark {
+    @Param({"10", "100", "1000"})
+    public int members;
+
+    private Workspace workspace;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures fixtures = new BenchmarkFixtures(42);
+        workspace = fixtures.workspace(fixtures.user(), fixtures.users(members));
+    }
+
+    @Benchmark
+    public WorkspaceResponse mapWorkspace() {
+        return WorkspaceMapper.mapToWorkspaceResponse(workspace);
+    }
+}
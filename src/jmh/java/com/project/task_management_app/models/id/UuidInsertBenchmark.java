@@ -0,0 +1,98 @@
+package com.project.task_management_app.models.id;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Rows per second inserted into a table keyed by BINARY(16), with random version 4 ids (the previous scheme)
+// against time-ordered version 7 ids. The table keeps growing across iterations, which is where random keys
+// fall behind: every insert lands on a different page of the clustered index. Defaults to H2 so it runs
+// anywhere; for numbers that mean something for production point it at MySQL with a table larger than the
+// buffer pool, e.g. -Djmh.args="UuidInsert -p url=jdbc:mysql://localhost:3306/bench?rewriteBatchedStatements=true
+// -p user=root -p password=secret -p prefillRows=5000000"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class UuidInsertBenchmark {
+    private static final int BATCH_ROWS = 1000;
+
+    @Param({"v4", "v7"})
+    public String scheme;
+
+    @Param({"jdbc:h2:mem:uuid_insert;MODE=MySQL;DB_CLOSE_DELAY=-1"})
+    public String url;
+
+    @Param({"sa"})
+    public String user;
+
+    @Param({""})
+    public String password;
+
+    @Param({"200000"})
+    public int prefillRows;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private String table;
+    private final byte[] payload = new byte[200];
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(url, user, password);
+        connection.setAutoCommit(false);
+        table = "uuid_insert_" + scheme;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            // Shaped like a narrow tasks row: the key plus a few hundred bytes
+            statement.execute("CREATE TABLE " + table + " (id BINARY(16) NOT NULL PRIMARY KEY, payload VARBINARY(200))");
+        }
+        connection.commit();
+        insert = connection.prepareStatement("INSERT INTO " + table + " (id, payload) VALUES (?, ?)");
+        for (int i = 0; i < prefillRows; i += BATCH_ROWS) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE " + table);
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_ROWS)
+    public void insert() throws SQLException {
+        insertBatch();
+    }
+
+    private void insertBatch() throws SQLException {
+        boolean timeOrdered = scheme.equals("v7");
+        for (int i = 0; i < BATCH_ROWS; i++) {
+            insert.setBytes(1, bytes(timeOrdered ? UuidV7Generator.next() : UUID.randomUUID()));
+            insert.setBytes(2, payload);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    private static byte[] bytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,51 @@
+package com.project.task_management_app.security.jwt;
+
+import com.project.task_management_app.BenchmarkFixtures;
+import com.project.task_management_app.services.UserDetailsImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+// JWT signing and parsing. authenticateRequest is what AuthTokenFilter does on every request:
+// validate the token, then parse it again for the username.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilsBenchmark {
+    private static final String SECRET = "YmVuY2htYXJrLW9ubHktand0LXNlY3JldC10aGF0LWlzLWxvbmctZW5vdWdoLWZvci1oczI1Ng==";
+
+    private JwtUtils jwtUtils;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 3_600_000);
+        UserDetailsImpl principal = UserDetailsImpl.build(new BenchmarkFixtures(42).user());
+        authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        token = jwtUtils.generateJwtToken(authentication);
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtUtils.generateJwtToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return jwtUtils.validateJwtToken(token);
+    }
+
+    @Benchmark
+    public String authenticateRequest() {
+        return jwtUtils.validateJwtToken(token) ? jwtUtils.getUserNameFromJwtToken(token) : null;
+    }
+}
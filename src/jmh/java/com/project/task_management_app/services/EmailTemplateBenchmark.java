@@ -0,0 +1,71 @@
+package com.project.task_management_app.services;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Welcome email rendering: the old load-and-replace approach against the precompiled template engine
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailTemplateBenchmark {
+    private static final String TEMPLATE = EmailService.WORKSPACE_WELCOME_TEMPLATE;
+
+    private final ResourceLoader resourceLoader = new DefaultResourceLoader();
+    private EmailTemplateEngine engine;
+    private String preloadedTemplate;
+    private Map<String, String> variables;
+
+    @Setup
+    public void setUp() throws IOException {
+        engine = new EmailTemplateEngine(resourceLoader);
+        engine.loadTemplates();
+        preloadedTemplate = load();
+        variables = Map.of(
+                "userName", "alice",
+                "workspaceName", "Platform Team",
+                "workspaceLink", "https://taskbuddy.com/workspace/6f1c2a9e-7d7e-4c44-9a53-1d3c3a0f6b21",
+                "unsubscribeLink", "taskbuddy.com/unsubscribe?email=alice@example.com"
+        );
+    }
+
+    // What EmailService did before: read the classpath resource on every send, then four replace passes
+    @Benchmark
+    public String legacyLoadAndReplace() throws IOException {
+        return replaceAll(load());
+    }
+
+    // Same as above with the file read taken out, isolates the cost of the replace passes
+    @Benchmark
+    public String legacyReplaceOnly() {
+        return replaceAll(preloadedTemplate);
+    }
+
+    @Benchmark
+    public String compiledRender() {
+        return engine.render(TEMPLATE, variables);
+    }
+
+    private String replaceAll(String html) {
+        return html
+                .replace("{{userName}}", variables.get("userName"))
+                .replace("{{workspaceName}}", variables.get("workspaceName"))
+                .replace("{{workspaceLink}}", variables.get("workspaceLink"))
+                .replace("{{unsubscribeLink}}", variables.get("unsubscribeLink"));
+    }
+
+    private String load() throws IOException {
+        Resource resource = resourceLoader.getResource("classpath:/templates/" + TEMPLATE);
+        return StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8);
+    }
+}
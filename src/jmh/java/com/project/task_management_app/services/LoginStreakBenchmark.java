@@ -0,0 +1,37 @@
+package com.project.task_management_app.services;
+
+import com.project.task_management_app.BenchmarkFixtures;
+import com.project.task_management_app.models.User;
+import com.project.task_management_app.payload.Response.Dashboard.LoginStreakStats;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Login streak of the dashboard, linear in the user's whole login history. The history comes back
+// chronological, as it does from user_login_history, so the sort inside is the cheap already-sorted case.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoginStreakBenchmark {
+    @Param({"30", "365", "2000"})
+    public int logins;
+
+    private DashboardService dashboardService;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        dashboardService = new DashboardService(null, null, null, null, null);
+        BenchmarkFixtures fixtures = new BenchmarkFixtures(42);
+        user = fixtures.user();
+        user.setLoginHistory(fixtures.loginHistory(logins));
+    }
+
+    @Benchmark
+    public LoginStreakStats calculate() {
+        return dashboardService.calculateLoginStreak(user);
+    }
+}
@@ -0,0 +1,40 @@
+package com.project.task_management_app.services;
+
+import com.project.task_management_app.BenchmarkFixtures;
+import com.project.task_management_app.enums.TaskStatus;
+import com.project.task_management_app.models.Task;
+import com.project.task_management_app.models.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Global status from the assignment statuses, run for every task by the hourly refresh
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskStatusBenchmark {
+    @Param({"1", "5", "25"})
+    public int assigneesPerTask;
+
+    private TaskService taskService;
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        // recalculateTaskStatus touches none of the collaborators
+        taskService = new TaskService(null, null, null, null, null, null, null, null);
+        BenchmarkFixtures fixtures = new BenchmarkFixtures(42);
+        List<User> assignees = fixtures.users(assigneesPerTask);
+        User owner = fixtures.user();
+        task = fixtures.task(fixtures.workspace(owner, assignees), owner, assignees);
+    }
+
+    @Benchmark
+    public TaskStatus recalculate() {
+        return taskService.recalculateTaskStatus(task, task.getAssignments());
+    }
+}
@@ -0,0 +1,71 @@
+package com.project.task_management_app.services;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Typeahead over 100k workspace names: the sorted key index against a linear scan of the same names
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkspaceTypeaheadBenchmark {
+    private static final String[] WORDS = {
+            "platform", "team", "marketing", "design", "backend", "frontend", "mobile", "data",
+            "growth", "sales", "support", "infra", "security", "research", "ops", "finance"
+    };
+
+    @Param({"100000"})
+    public int workspaces;
+
+    @Param({"pla", "team", "sec", "zzz"})
+    public String prefix;
+
+    private WorkspaceNameIndex index;
+    private List<String> names;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<UUID> ids = new ArrayList<>(workspaces);
+        names = new ArrayList<>(workspaces);
+        for (int i = 0; i < workspaces; i++) {
+            ids.add(new UUID(random.nextLong(), random.nextLong()));
+            names.add(WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i);
+        }
+        index = WorkspaceNameIndex.of(ids, names);
+    }
+
+    @Benchmark
+    public List<WorkspaceNameIndex.Match> indexTop10() {
+        return index.search(prefix, 10);
+    }
+
+    // What a naive in-memory filter over the user's workspaces costs, for comparison
+    @Benchmark
+    public List<String> linearScanTop10() {
+        List<String> matches = new ArrayList<>(10);
+        for (String name : names) {
+            String lower = name.toLowerCase(Locale.ROOT);
+            if (lower.startsWith(prefix) || lower.contains(" " + prefix)) {
+                matches.add(name);
+                if (matches.size() == 10) break;
+            }
+        }
+        return matches;
+    }
+
+    // Cost of patching the index after a join, a linear merge into the sorted keys
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public WorkspaceNameIndex addWorkspace() {
+        return index.with(UUID.randomUUID(), "new workspace");
+    }
+}
@@ -0,0 +1,281 @@
+package com.project.task_management_app.loadtest;
+
+import com.project.task_management_app.enums.AssignmentStatus;
+import com.project.task_management_app.enums.Role;
+import com.project.task_management_app.enums.TaskPriority;
+import com.project.task_management_app.enums.TaskStatus;
+import com.project.task_management_app.enums.WorkspaceType;
+import com.project.task_management_app.models.id.UuidV7Generator;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+// Bulk-inserts the synthetic data set with batched JDBC statements, committing every COMMIT_TASKS tasks.
+// Workspace sizes follow a Zipf distribution (a few workspaces with hundreds of members and tens of
+// thousands of tasks, a long tail of small ones), due dates spread around the coming week with a
+// share already overdue, and task statuses are derived from assignment statuses the way the app does.
+final class DataGenerator {
+    static final String USER_PREFIX = "lt";
+    static final String WORKSPACE_PREFIX = "lt-ws-";
+    static final String TASK_PREFIX = "lt-";
+    static final String PASSWORD = "loadtest";
+    static final double WORKSPACE_SKEW = 1.0;
+
+    private static final int BATCH_ROWS = 1_000;
+    private static final int COMMIT_TASKS = 10_000;
+    private static final String[] CATEGORIES = {"Work", "Personal", "Ops", "Design", "Research", "Support"};
+    // Zero to four assignees; PENDING, IN_PROGRESS, COMPLETED; LOW, MEDIUM, HIGH, CRITICAL
+    private static final int[] ASSIGNEE_WEIGHTS = {10, 45, 30, 10, 5};
+    private static final int[] ASSIGNMENT_STATUS_WEIGHTS = {40, 30, 30};
+    private static final int[] PRIORITY_WEIGHTS = {30, 40, 20, 10};
+
+    private final DataSource dataSource;
+    private final LoadTestOptions options;
+    private final String passwordHash;
+    private final SplittableRandom random;
+    private final LocalDateTime now = LocalDateTime.now();
+
+    DataGenerator(DataSource dataSource, LoadTestOptions options, String passwordHash) {
+        this.dataSource = dataSource;
+        this.options = options;
+        this.passwordHash = passwordHash;
+        this.random = new SplittableRandom(options.randomSeed());
+    }
+
+    void generate() throws SQLException {
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            UuidColumns uuids = UuidColumns.of(connection);
+
+            List<UUID> users = insertUsers(connection, uuids);
+            connection.commit();
+            List<UUID> workspaces = new ArrayList<>(options.workspaces());
+            List<List<UUID>> members = insertWorkspaces(connection, uuids, users, workspaces);
+            connection.commit();
+            long assignments = insertTasks(connection, uuids, workspaces, members);
+            connection.commit();
+
+            System.out.printf("Seeded %,d users, %,d workspaces, %,d tasks and %,d assignments in %ds%n",
+                    users.size(), workspaces.size(), options.tasks(), assignments,
+                    (System.nanoTime() - start) / 1_000_000_000);
+        }
+    }
+
+    private List<UUID> insertUsers(Connection connection, UuidColumns uuids) throws SQLException {
+        List<UUID> users = new ArrayList<>(options.users());
+        try (Batch batch = new Batch(connection, "INSERT INTO users " +
+                "(id, user_img_url, username, email, password, role, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < options.users(); i++) {
+                UUID id = uuid();
+                users.add(id);
+                PreparedStatement statement = batch.statement;
+                uuids.set(statement, 1, id);
+                statement.setString(2, null);
+                statement.setString(3, USER_PREFIX + i);
+                statement.setString(4, USER_PREFIX + i + "@loadtest.local");
+                statement.setString(5, passwordHash);
+                statement.setString(6, Role.USER.name());
+                Timestamp createdAt = timestamp(now.minusDays(random.nextInt(365)));
+                statement.setTimestamp(7, createdAt);
+                statement.setTimestamp(8, createdAt);
+                batch.add();
+            }
+        }
+        return users;
+    }
+
+    // Rank 0 gets a quarter of all users as members, sizes fall off with the rank
+    private List<List<UUID>> insertWorkspaces(Connection connection, UuidColumns uuids, List<UUID> users,
+                                              List<UUID> workspaces) throws SQLException {
+        List<List<UUID>> members = new ArrayList<>(options.workspaces());
+        try (Batch batch = new Batch(connection, "INSERT INTO workspaces " +
+                "(id, name, description, entry_code, owner_id, type, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int rank = 0; rank < options.workspaces(); rank++) {
+                UUID id = uuid();
+                UUID owner = users.get(random.nextInt(users.size()));
+                int size = (int) Math.max(2, Math.min(users.size(), Math.round(users.size() * 0.25 / Math.pow(rank + 1, 0.9))));
+                Set<UUID> memberSet = new LinkedHashSet<>();
+                memberSet.add(owner);
+                while (memberSet.size() < size) {
+                    memberSet.add(users.get(random.nextInt(users.size())));
+                }
+                workspaces.add(id);
+                members.add(List.copyOf(memberSet));
+
+                PreparedStatement statement = batch.statement;
+                uuids.set(statement, 1, id);
+                statement.setString(2, WORKSPACE_PREFIX + rank);
+                statement.setString(3, "Load test workspace of " + size + " members");
+                statement.setString(4, "lt" + Integer.toString(rank, 36));
+                uuids.set(statement, 5, owner);
+                statement.setString(6, (rank % 3 == 0 ? WorkspaceType.PUBLIC : WorkspaceType.PRIVATE).name());
+                Timestamp createdAt = timestamp(now.minusDays(200 + random.nextInt(165)));
+                statement.setTimestamp(7, createdAt);
+                statement.setTimestamp(8, createdAt);
+                batch.add();
+            }
+        }
+
+        try (Batch batch = new Batch(connection, "INSERT INTO workspace_members (workspace_id, user_id) VALUES (?, ?)")) {
+            for (int w = 0; w < workspaces.size(); w++) {
+                for (UUID member : members.get(w)) {
+                    uuids.set(batch.statement, 1, workspaces.get(w));
+                    uuids.set(batch.statement, 2, member);
+                    batch.add();
+                }
+            }
+        }
+        return members;
+    }
+
+    // Child rows are flushed after their tasks so foreign keys hold at every batch, returns the assignment count
+    private long insertTasks(Connection connection, UuidColumns uuids, List<UUID> workspaces,
+                             List<List<UUID>> members) throws SQLException {
+        ZipfDistribution workspaceOfTask = new ZipfDistribution(workspaces.size(), WORKSPACE_SKEW);
+        long assignments = 0;
+        try (Batch tasks = new Batch(connection, "INSERT INTO tasks " +
+                "(id, title, description, status, priority, category, attachment_url, due_date, created_at, updated_at, user_id, workspace_id) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+             Batch assignmentRows = new Batch(connection, "INSERT INTO task_assignments " +
+                     "(id, task_id, user_id, status, assigned_at) VALUES (?, ?, ?, ?, ?)")) {
+            tasks.autoFlush = assignmentRows.autoFlush = false;
+            for (int i = 0; i < options.tasks(); i++) {
+                int w = workspaceOfTask.sample(random);
+                List<UUID> workspaceMembers = members.get(w);
+                UUID taskId = uuid();
+                LocalDateTime createdAt = now.minusMinutes(random.nextLong(180L * 24 * 60));
+                LocalDateTime dueDate = now.plusHours(Math.round(gaussian() * 21 * 24 + 7 * 24));
+
+                int assigneeCount = Math.min(weighted(ASSIGNEE_WEIGHTS), workspaceMembers.size());
+                Set<UUID> assignees = new LinkedHashSet<>();
+                while (assignees.size() < assigneeCount) {
+                    assignees.add(workspaceMembers.get(random.nextInt(workspaceMembers.size())));
+                }
+                boolean allCompleted = true;
+                boolean anyInProgress = false;
+                boolean anyPending = false;
+                for (UUID assignee : assignees) {
+                    AssignmentStatus status = AssignmentStatus.values()[weighted(ASSIGNMENT_STATUS_WEIGHTS)];
+                    allCompleted &= status == AssignmentStatus.COMPLETED;
+                    anyInProgress |= status == AssignmentStatus.IN_PROGRESS;
+                    anyPending |= status == AssignmentStatus.PENDING;
+
+                    uuids.set(assignmentRows.statement, 1, uuid());
+                    uuids.set(assignmentRows.statement, 2, taskId);
+                    uuids.set(assignmentRows.statement, 3, assignee);
+                    assignmentRows.statement.setString(4, status.name());
+                    assignmentRows.statement.setTimestamp(5, timestamp(createdAt));
+                    assignmentRows.add();
+                    assignments++;
+                }
+
+                // Same rules as TaskService.recalculateTaskStatus
+                TaskStatus status = allCompleted ? TaskStatus.COMPLETED
+                        : dueDate.isBefore(now) ? TaskStatus.OVERDUE
+                        : anyInProgress ? TaskStatus.IN_PROGRESS
+                        : anyPending ? TaskStatus.TODO
+                        : TaskStatus.UPCOMING;
+
+                PreparedStatement statement = tasks.statement;
+                uuids.set(statement, 1, taskId);
+                statement.setString(2, TASK_PREFIX + i);
+                statement.setString(3, "Synthetic task " + i + " for load testing the task endpoints");
+                statement.setString(4, status.name());
+                statement.setString(5, TaskPriority.values()[weighted(PRIORITY_WEIGHTS)].name());
+                statement.setString(6, CATEGORIES[random.nextInt(CATEGORIES.length)]);
+                statement.setString(7, null);
+                statement.setTimestamp(8, timestamp(dueDate));
+                statement.setTimestamp(9, timestamp(createdAt));
+                statement.setTimestamp(10, timestamp(createdAt.plusMinutes(random.nextLong(Math.max(1, Duration.between(createdAt, now).toMinutes())))));
+                uuids.set(statement, 11, workspaceMembers.get(random.nextInt(workspaceMembers.size())));
+                uuids.set(statement, 12, workspaces.get(w));
+                tasks.add();
+
+                if ((i + 1) % BATCH_ROWS == 0) {
+                    tasks.execute();
+                    assignmentRows.execute();
+                }
+                if ((i + 1) % COMMIT_TASKS == 0) {
+                    connection.commit();
+                }
+                if ((i + 1) % 100_000 == 0) {
+                    System.out.printf("  %,d / %,d tasks%n", i + 1, options.tasks());
+                }
+            }
+            tasks.execute();
+            assignmentRows.execute();
+        }
+        return assignments;
+    }
+
+    // Same time-ordered ids the entities get, so the seeded indexes have the shape production ones have
+    private UUID uuid() {
+        return UuidV7Generator.next();
+    }
+
+    private int weighted(int[] weights) {
+        int total = 0;
+        for (int weight : weights) total += weight;
+        int pick = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            pick -= weights[i];
+            if (pick < 0) return i;
+        }
+        return weights.length - 1;
+    }
+
+    // Standard normal from two uniforms (Box-Muller), SplittableRandom has no nextGaussian
+    private double gaussian() {
+        return Math.sqrt(-2 * Math.log(1 - random.nextDouble())) * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+
+    private static Timestamp timestamp(LocalDateTime time) {
+        return Timestamp.valueOf(time);
+    }
+
+    // One prepared statement, executed every BATCH_ROWS rows unless the caller flushes related batches itself
+    private static final class Batch implements AutoCloseable {
+        final PreparedStatement statement;
+        boolean autoFlush = true;
+        private int pending;
+
+        Batch(Connection connection, String sql) throws SQLException {
+            this.statement = connection.prepareStatement(sql);
+        }
+
+        void add() throws SQLException {
+            statement.addBatch();
+            if (++pending >= BATCH_ROWS && autoFlush) {
+                execute();
+            }
+        }
+
+        void execute() throws SQLException {
+            if (pending > 0) {
+                statement.executeBatch();
+                pending = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                execute();
+            } finally {
+                statement.close();
+            }
+        }
+    }
+}
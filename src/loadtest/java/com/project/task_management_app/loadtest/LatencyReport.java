@@ -0,0 +1,87 @@
+package com.project.task_management_app.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Throughput and latency percentiles per operation over the measured window, printed and saved as JSON
+record LatencyReport(int threads, double seconds, List<Row> operations) {
+
+    record Row(String operation, long requests, long errors, double requestsPerSecond,
+               double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs) {}
+
+    static Row row(String operation, long[] latenciesNanos, long errors, double seconds) {
+        long[] sorted = latenciesNanos.clone();
+        Arrays.sort(sorted);
+        return new Row(operation, sorted.length, errors, sorted.length / seconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6);
+    }
+
+    // Nearest-rank percentile in milliseconds
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+
+    void print(PrintStream out) {
+        out.printf("%n%d threads, %.0fs measured%n", threads, seconds);
+        out.printf("%-10s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                "operation", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Row row : operations) {
+            out.printf("%-10s %10d %8d %10.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    row.operation(), row.requests(), row.errors(), row.requestsPerSecond(),
+                    row.p50Ms(), row.p90Ms(), row.p99Ms(), row.p999Ms(), row.maxMs());
+        }
+    }
+
+    void write(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(path.toFile(), this);
+    }
+
+    // Collects one thread's samples without synchronization, merged after the run
+    static final class Recorder {
+        private final long[][] samples = new long[Operation.values().length][1024];
+        private final int[] counts = new int[Operation.values().length];
+        private final long[] errors = new long[Operation.values().length];
+
+        void record(Operation operation, long nanos, boolean ok) {
+            int i = operation.ordinal();
+            if (counts[i] == samples[i].length) {
+                samples[i] = Arrays.copyOf(samples[i], samples[i].length * 2);
+            }
+            samples[i][counts[i]++] = nanos;
+            if (!ok) errors[i]++;
+        }
+
+        static LatencyReport merge(List<Recorder> recorders, int threads, double seconds) {
+            List<Row> rows = new ArrayList<>();
+            List<long[]> all = new ArrayList<>();
+            long allErrors = 0;
+            for (Operation operation : Operation.values()) {
+                int i = operation.ordinal();
+                long[] merged = recorders.stream()
+                        .flatMapToLong(r -> Arrays.stream(r.samples[i], 0, r.counts[i]))
+                        .toArray();
+                long errors = recorders.stream().mapToLong(r -> r.errors[i]).sum();
+                if (merged.length > 0) {
+                    rows.add(row(operation.name().toLowerCase(), merged, errors, seconds));
+                    all.add(merged);
+                    allErrors += errors;
+                }
+            }
+            rows.add(row("total", all.stream().flatMapToLong(Arrays::stream).toArray(), allErrors, seconds));
+            return new LatencyReport(threads, seconds, rows);
+        }
+    }
+}
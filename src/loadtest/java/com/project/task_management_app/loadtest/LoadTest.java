@@ -0,0 +1,44 @@
+package com.project.task_management_app.loadtest;
+
+import com.project.task_management_app.Application;
+import com.project.task_management_app.security.jwt.JwtUtils;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.sql.DataSource;
+
+// Starts the app in this JVM (embedded H2 unless --spring.datasource.* says otherwise), generates the
+// data set, replays the mixed workload over HTTP and reports throughput and latency percentiles.
+//
+//   mvn -Ploadtest verify -DskipTests -Dloadtest.args="tasks=1000000 threads=64 duration=2m"
+public final class LoadTest {
+
+    private LoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+                .properties(LoadTestOptions.EMBEDDED_DEFAULTS)
+                .run(options.springArgs());
+        try {
+            DataSource dataSource = context.getBean(DataSource.class);
+            if (options.seed()) {
+                String passwordHash = context.getBean(PasswordEncoder.class).encode(DataGenerator.PASSWORD);
+                new DataGenerator(dataSource, options, passwordHash).generate();
+            }
+            WorkloadModel model = WorkloadModel.load(dataSource);
+
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            System.out.printf("Driving %s with %d threads: %s warmup, %s measured, mix %s%n",
+                    baseUrl, options.threads(), options.warmup(), options.duration(), options.mix());
+            LatencyReport report = new WorkloadDriver(baseUrl, model, context.getBean(JwtUtils.class), options).run();
+
+            report.print(System.out);
+            report.write(options.report());
+            System.out.println("Report written to " + options.report().toAbsolutePath());
+        } finally {
+            context.close();
+        }
+    }
+}
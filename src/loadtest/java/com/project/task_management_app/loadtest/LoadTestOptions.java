@@ -0,0 +1,98 @@
+package com.project.task_management_app.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Harness options as key=value arguments; anything starting with -- is handed to Spring unchanged, so
+// --spring.datasource.url=jdbc:mysql://localhost:3306/tm_load points the run at a local MySQL
+record LoadTestOptions(
+        int users,
+        int workspaces,
+        int tasks,
+        boolean seed,
+        int threads,
+        Duration warmup,
+        Duration duration,
+        long randomSeed,
+        Map<Operation, Integer> mix,
+        Path report,
+        String[] springArgs
+) {
+    // Enough for the app to start on an in-memory H2 database in MySQL mode when nothing else is given
+    static final Map<String, Object> EMBEDDED_DEFAULTS = Map.ofEntries(
+            // No application.properties is read, the test one would otherwise be picked up from test-classes
+            Map.entry("spring.config.name", "loadtest"),
+            Map.entry("spring.application.name", "task-management-loadtest"),
+            Map.entry("app.domain", "localhost"),
+            Map.entry("app.workspace.invite.base-url", "http://localhost"),
+            Map.entry("spring.datasource.url", "jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"),
+            Map.entry("spring.datasource.username", "sa"),
+            Map.entry("spring.datasource.password", ""),
+            Map.entry("spring.datasource.hikari.maximum-pool-size", 20),
+            // The migrations are MySQL only, pass --spring.flyway.enabled=true --spring.jpa.hibernate.ddl-auto=validate with MySQL
+            Map.entry("spring.flyway.enabled", false),
+            Map.entry("spring.jpa.hibernate.ddl-auto", "update"),
+            Map.entry("spring.jpa.show-sql", false),
+            Map.entry("spring.jpa.properties.hibernate.jdbc.batch_size", 50),
+            Map.entry("jwt.secret", "bG9hZC10ZXN0LW9ubHktand0LXNlY3JldC10aGF0LWlzLWxvbmctZW5vdWdoLWZvci1oczI1Ng=="),
+            Map.entry("jwt.expiration", 86_400_000),
+            Map.entry("spring.mail.host", "localhost"),
+            Map.entry("app.mail.outbox.enabled", false),
+            Map.entry("server.port", 0),
+            Map.entry("logging.level.root", "WARN")
+    );
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        List<String> springArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.isBlank()) continue;
+            if (arg.startsWith("--")) {
+                springArgs.add(arg);
+                continue;
+            }
+            int eq = arg.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Expected key=value or --spring.property=value, got: " + arg);
+            }
+            values.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                Integer.parseInt(values.getOrDefault("users", "2000")),
+                Integer.parseInt(values.getOrDefault("workspaces", "500")),
+                Integer.parseInt(values.getOrDefault("tasks", "200000")),
+                Boolean.parseBoolean(values.getOrDefault("seed", "true")),
+                Integer.parseInt(values.getOrDefault("threads", "32")),
+                Duration.parse("PT" + values.getOrDefault("warmup", "15s").toUpperCase()),
+                Duration.parse("PT" + values.getOrDefault("duration", "60s").toUpperCase()),
+                Long.parseLong(values.getOrDefault("randomSeed", "42")),
+                parseMix(values.getOrDefault("mix", "list:40,search:20,dashboard:15,create:15,update:10")),
+                Path.of(values.getOrDefault("report", "target/loadtest-report.json")),
+                springArgs.toArray(String[]::new)
+        );
+        values.keySet().removeAll(List.of("users", "workspaces", "tasks", "seed", "threads", "warmup", "duration",
+                "randomSeed", "mix", "report"));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + values.keySet());
+        }
+        if (options.users() < 2 || options.workspaces() < 1 || options.workspaces() > options.users()) {
+            throw new IllegalArgumentException("Need at least 2 users and between 1 and users workspaces");
+        }
+        return options;
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : mix.split(",")) {
+            String[] pair = part.split(":");
+            weights.put(Operation.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,10 @@
+package com.project.task_management_app.loadtest;
+
+// The requests of the mixed workload, weighted by the mix option
+enum Operation {
+    LIST,       // GET /workspaces/{id}/tasks, one of the first five pages
+    SEARCH,     // GET /workspaces/{id}/tasks/search by title fragment and status
+    DASHBOARD,  // GET /users/dashboard
+    CREATE,     // POST /workspaces/{id}/tasks with up to three assignees
+    UPDATE      // PUT /workspaces/{id}/tasks/{taskId} on a task the same virtual user created earlier
+}
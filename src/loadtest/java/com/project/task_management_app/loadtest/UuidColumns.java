@@ -0,0 +1,41 @@
+package com.project.task_management_app.loadtest;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+// Hibernate stores UUIDs as binary(16) on MySQL and as the native UUID type on H2; plain JDBC has to match
+final class UuidColumns {
+    private final boolean binary;
+
+    private UuidColumns(boolean binary) {
+        this.binary = binary;
+    }
+
+    static UuidColumns of(Connection connection) throws SQLException {
+        String product = connection.getMetaData().getDatabaseProductName().toLowerCase();
+        return new UuidColumns(product.contains("mysql") || product.contains("mariadb"));
+    }
+
+    void set(PreparedStatement statement, int index, UUID uuid) throws SQLException {
+        if (binary) {
+            statement.setBytes(index, ByteBuffer.allocate(16)
+                    .putLong(uuid.getMostSignificantBits())
+                    .putLong(uuid.getLeastSignificantBits())
+                    .array());
+        } else {
+            statement.setObject(index, uuid);
+        }
+    }
+
+    UUID get(ResultSet resultSet, int index) throws SQLException {
+        if (binary) {
+            ByteBuffer bytes = ByteBuffer.wrap(resultSet.getBytes(index));
+            return new UUID(bytes.getLong(), bytes.getLong());
+        }
+        return resultSet.getObject(index, UUID.class);
+    }
+}
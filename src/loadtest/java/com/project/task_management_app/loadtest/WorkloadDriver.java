@@ -0,0 +1,194 @@
+package com.project.task_management_app.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.task_management_app.security.jwt.JwtUtils;
+import com.project.task_management_app.services.UserDetailsImpl;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Closed-loop driver: each thread sends the next request as soon as the previous one returns. Traffic
+// follows the data, workspaces are picked with the same Zipf skew the generator used and the caller is
+// one of the workspace's members, so big workspaces are both the largest and the busiest.
+final class WorkloadDriver {
+    private static final String[] SEARCH_STATUSES = {"TODO", "IN_PROGRESS", "OVERDUE", "COMPLETED"};
+    private static final int MAX_OWN_TASKS = 256;
+
+    private final String baseUrl;
+    private final WorkloadModel model;
+    private final JwtUtils jwtUtils;
+    private final LoadTestOptions options;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<UUID, String> tokens = new ConcurrentHashMap<>();
+    private final ZipfDistribution workspaceRank;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final AtomicLong created = new AtomicLong();
+
+    WorkloadDriver(String baseUrl, WorkloadModel model, JwtUtils jwtUtils, LoadTestOptions options) {
+        this.baseUrl = baseUrl;
+        this.model = model;
+        this.jwtUtils = jwtUtils;
+        this.options = options;
+        this.workspaceRank = new ZipfDistribution(model.workspaces().size(), DataGenerator.WORKSPACE_SKEW);
+        this.operations = options.mix().keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += options.mix().get(operations[i]);
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    LatencyReport run() throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+
+        List<LatencyReport.Recorder> recorders = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < options.threads(); t++) {
+            LatencyReport.Recorder recorder = new LatencyReport.Recorder();
+            recorders.add(recorder);
+            SplittableRandom random = new SplittableRandom(options.randomSeed() * 31 + t);
+            Thread thread = new Thread(() -> loop(random, recorder, measureFrom, end), "load-" + t);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return LatencyReport.Recorder.merge(recorders, options.threads(), options.duration().toMillis() / 1000.0);
+    }
+
+    private void loop(SplittableRandom random, LatencyReport.Recorder recorder, long measureFrom, long end) {
+        Deque<OwnTask> ownTasks = new ArrayDeque<>();
+        long now;
+        while ((now = System.nanoTime()) < end) {
+            Operation operation = pick(random);
+            int rank = workspaceRank.sample(random);
+            List<UUID> members = model.members().get(rank);
+            UUID user = members.get(random.nextInt(members.size()));
+            if (operation == Operation.UPDATE && ownTasks.isEmpty()) {
+                operation = Operation.CREATE;
+            }
+
+            boolean ok;
+            try {
+                ok = switch (operation) {
+                    case LIST -> get(user, "/api/v1/workspaces/" + model.workspaces().get(rank)
+                            + "/tasks?page=" + (1 + random.nextInt(5)) + "&size=20");
+                    case SEARCH -> get(user, "/api/v1/workspaces/" + model.workspaces().get(rank)
+                            + "/tasks/search?page=0&size=20&title=" + DataGenerator.TASK_PREFIX + random.nextInt(1000)
+                            + "&status=" + SEARCH_STATUSES[random.nextInt(SEARCH_STATUSES.length)]);
+                    case DASHBOARD -> get(user, "/api/v1/users/dashboard");
+                    case CREATE -> create(random, rank, user, ownTasks);
+                    case UPDATE -> update(random, ownTasks);
+                };
+            } catch (Exception e) {
+                ok = false;
+            }
+            if (now >= measureFrom) {
+                recorder.record(operation, System.nanoTime() - now, ok);
+            }
+        }
+    }
+
+    private boolean get(UUID user, String path) throws Exception {
+        HttpResponse<Void> response = client.send(request(user, path).GET().build(), HttpResponse.BodyHandlers.discarding());
+        return response.statusCode() < 400;
+    }
+
+    private boolean create(SplittableRandom random, int rank, UUID user, Deque<OwnTask> ownTasks) throws Exception {
+        UUID workspaceId = model.workspaces().get(rank);
+        List<UUID> members = model.members().get(rank);
+        Set<UUID> assignees = new LinkedHashSet<>();
+        int count = Math.min(random.nextInt(4), members.size());
+        while (assignees.size() < count) {
+            assignees.add(members.get(random.nextInt(members.size())));
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("title", "lt-run-" + Thread.currentThread().getName() + "-" + created.incrementAndGet() + "-" + System.nanoTime());
+        body.put("description", "Created by the load test driver");
+        body.put("status", "TODO");
+        body.put("priority", "MEDIUM");
+        body.put("category", "Work");
+        body.put("dueDate", LocalDateTime.now().plusDays(1 + random.nextInt(14)).withNano(0).toString());
+        body.put("workspaceId", workspaceId.toString());
+        body.put("assigneeIds", assignees.stream().map(UUID::toString).toList());
+
+        HttpResponse<String> response = client.send(request(user, "/api/v1/workspaces/" + workspaceId + "/tasks")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            return false;
+        }
+        JsonNode id = objectMapper.readTree(response.body()).path("data").path("id");
+        if (!id.isMissingNode()) {
+            if (ownTasks.size() == MAX_OWN_TASKS) ownTasks.removeFirst();
+            ownTasks.addLast(new OwnTask(workspaceId, UUID.fromString(id.asText()), user));
+        }
+        return true;
+    }
+
+    // Only the creator may update a task, so updates go to tasks this thread created earlier
+    private boolean update(SplittableRandom random, Deque<OwnTask> ownTasks) throws Exception {
+        OwnTask task = random.nextBoolean() ? ownTasks.peekLast() : ownTasks.peekFirst();
+        Map<String, Object> body = Map.of(
+                "description", "Updated by the load test driver at " + System.nanoTime(),
+                "priority", random.nextBoolean() ? "HIGH" : "LOW");
+        HttpResponse<Void> response = client.send(request(task.creator(), "/api/v1/workspaces/" + task.workspaceId() + "/tasks/" + task.taskId())
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build(), HttpResponse.BodyHandlers.discarding());
+        return response.statusCode() < 400;
+    }
+
+    private HttpRequest.Builder request(UUID user, String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + tokens.computeIfAbsent(user, this::token));
+    }
+
+    // Signed directly with the app's JwtUtils; going through /auth/signin would spend the warmup on bcrypt
+    private String token(UUID user) {
+        String username = model.usernames().get(user);
+        UserDetailsImpl principal = new UserDetailsImpl(user, null, username, username + "@loadtest.local", "",
+                List.of(), null, null, null, null, null);
+        return jwtUtils.generateJwtToken(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private Operation pick(SplittableRandom random) {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) return operations[i];
+        }
+        return operations[operations.length - 1];
+    }
+
+    private record OwnTask(UUID workspaceId, UUID taskId, UUID creator) {}
+}
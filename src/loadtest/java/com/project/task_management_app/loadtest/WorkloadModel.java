@@ -0,0 +1,58 @@
+package com.project.task_management_app.loadtest;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// What the driver needs to build valid requests: the generated workspaces in rank order, their members
+// and the usernames to sign tokens for. Read back from the database so a seed=false run can reuse data.
+record WorkloadModel(List<UUID> workspaces, List<List<UUID>> members, Map<UUID, String> usernames) {
+
+    static WorkloadModel load(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            UuidColumns uuids = UuidColumns.of(connection);
+
+            Map<UUID, Integer> rankById = new HashMap<>();
+            try (ResultSet rs = statement.executeQuery("SELECT id, name FROM workspaces WHERE name LIKE '"
+                    + DataGenerator.WORKSPACE_PREFIX + "%' AND deletion_requested_at IS NULL")) {
+                while (rs.next()) {
+                    rankById.put(uuids.get(rs, 1), Integer.parseInt(rs.getString(2).substring(DataGenerator.WORKSPACE_PREFIX.length())));
+                }
+            }
+            if (rankById.isEmpty()) {
+                throw new IllegalStateException("No generated workspaces found, run with seed=true first");
+            }
+
+            UUID[] workspaces = new UUID[rankById.values().stream().mapToInt(Integer::intValue).max().orElseThrow() + 1];
+            List<List<UUID>> members = new ArrayList<>(workspaces.length);
+            for (int i = 0; i < workspaces.length; i++) {
+                members.add(new ArrayList<>());
+            }
+            rankById.forEach((id, rank) -> workspaces[rank] = id);
+            try (ResultSet rs = statement.executeQuery("SELECT workspace_id, user_id FROM workspace_members")) {
+                while (rs.next()) {
+                    Integer rank = rankById.get(uuids.get(rs, 1));
+                    if (rank != null) {
+                        members.get(rank).add(uuids.get(rs, 2));
+                    }
+                }
+            }
+
+            Map<UUID, String> usernames = new HashMap<>();
+            try (ResultSet rs = statement.executeQuery("SELECT id, username FROM users WHERE username LIKE '"
+                    + DataGenerator.USER_PREFIX + "%'")) {
+                while (rs.next()) {
+                    usernames.put(uuids.get(rs, 1), rs.getString(2));
+                }
+            }
+            return new WorkloadModel(List.of(workspaces), members, usernames);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.project.task_management_app.loadtest;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// Ranks 0..n-1 with P(k) proportional to 1 / (k + 1)^exponent; rank 0 is the largest workspace
+final class ZipfDistribution {
+    private final double[] cumulative;
+
+    ZipfDistribution(int n, double exponent) {
+        cumulative = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1 / Math.pow(k + 1, exponent);
+            cumulative[k] = sum;
+        }
+        for (int k = 0; k < n; k++) {
+            cumulative[k] /= sum;
+        }
+    }
+
+    int sample(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+}
@@ -0,0 +1,95 @@
+package com.project.task_management_app.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+// With spring.threads.virtual.enabled=true Boot already moves Tomcat, @Scheduled and @Async onto virtual
+// threads. The I/O-bound pools below follow the same switch; CPU-bound and strictly ordered work
+// (password hashing, workspace deletion) stays on platform threads either way.
+@Configuration
+public class ExecutorConfig {
+    private final boolean virtualThreads;
+
+    public ExecutorConfig(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    // Bounded pool for BCrypt hashing during bulk provisioning, callers run the work themselves when it is saturated
+    @Bean(name = "passwordHashingExecutor")
+    public ThreadPoolTaskExecutor passwordHashingExecutor(
+            @Value("${app.provisioning.hash-threads:0}") int hashThreads,
+            @Value("${app.provisioning.chunk-size:500}") int chunkSize
+    ) {
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(chunkSize);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // Worker pool for the email outbox dispatcher, one SMTP connection per running batch
+    @Bean(name = "mailDispatchExecutor")
+    public TaskExecutor mailDispatchExecutor(@Value("${app.mail.outbox.workers:4}") int workers) {
+        if (virtualThreads) {
+            // The limit keeps the SMTP connection count where it was, extra batches wait for a slot
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("mail-dispatch-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(workers);
+            executor.setTaskTerminationTimeout(30_000);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers);
+        executor.setThreadNamePrefix("mail-dispatch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // Single worker for workspace purges, deletes run one chunk at a time so they never compete with each other
+    @Bean(name = "workspaceDeletionExecutor")
+    public ThreadPoolTaskExecutor workspaceDeletionExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("workspace-deletion-");
+        executor.initialize();
+        return executor;
+    }
+
+    // Drains SSE subscriber queues, a drain runs only while its subscriber has queued events
+    @Bean(name = "sseDispatchExecutor")
+    public TaskExecutor sseDispatchExecutor(@Value("${app.events.dispatch-threads:8}") int threads) {
+        if (virtualThreads) {
+            // One virtual thread per active drain, a subscriber stuck on a slow socket no longer blocks a pool slot
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("sse-dispatch-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(10_000);
+        executor.setThreadNamePrefix("sse-dispatch-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,201 @@
+package com.project.task_management_app.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.task_management_app.payload.Response.APIResponse;
+import com.project.task_management_app.services.IdempotencyService;
+import com.project.task_management_app.services.UserDetailsImpl;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Idempotency-Key support for the create endpoints that mobile clients retry. Runs after Spring Security,
+// keys are scoped to the authenticated user. See IdempotencyService for how responses are stored.
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String REPLAYED = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    // Headers a client may need from a create response, stored and replayed with its body
+    private static final List<String> REPLAYED_HEADERS = List.of(HttpHeaders.LOCATION, HttpHeaders.ETAG);
+    private static final List<String> IDEMPOTENT_POSTS = List.of("/api/v1/workspaces", "/api/v1/workspaces/*/tasks");
+    private static final AntPathMatcher PATHS = new AntPathMatcher();
+
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!HttpMethod.POST.matches(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY) == null) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return IDEMPOTENT_POSTS.stream().noneMatch(pattern -> PATHS.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserDetailsImpl user)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String key = request.getHeader(IDEMPOTENCY_KEY).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, HttpStatus.BAD_REQUEST,
+                    IDEMPOTENCY_KEY + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        byte[] body = request.getInputStream().readAllBytes();
+        String fingerprint = fingerprint(request, body);
+        HttpServletRequest replayable = new CachedBodyRequest(request, body);
+
+        IdempotencyService.Result result = idempotencyService.execute(
+                new IdempotencyService.Key(user.getId(), key), fingerprint, () -> {
+                    ContentCachingResponseWrapper capturing = new ContentCachingResponseWrapper(response);
+                    chain.doFilter(replayable, capturing);
+                    Map<String, String> headers = new LinkedHashMap<>();
+                    for (String name : REPLAYED_HEADERS) {
+                        String value = capturing.getHeader(name);
+                        if (value != null) {
+                            headers.put(name, value);
+                        }
+                    }
+                    IdempotencyService.StoredResponse stored = new IdempotencyService.StoredResponse(fingerprint,
+                            capturing.getStatus(), capturing.getContentType(), capturing.getContentAsByteArray(), headers);
+                    capturing.copyBodyToResponse();
+                    return stored;
+                });
+
+        switch (result.outcome()) {
+            case EXECUTED -> {
+            }
+            case REPLAYED -> {
+                IdempotencyService.StoredResponse stored = result.response();
+                response.setStatus(stored.statusCode());
+                if (stored.contentType() != null) {
+                    response.setContentType(stored.contentType());
+                }
+                stored.headers().forEach(response::setHeader);
+                response.setHeader(REPLAYED, "true");
+                response.setContentLength(stored.body().length);
+                response.getOutputStream().write(stored.body());
+            }
+            case IN_PROGRESS -> writeError(request, response, HttpStatus.CONFLICT,
+                    "A request with this " + IDEMPOTENCY_KEY + " is still being processed, retry later");
+            case MISMATCH -> writeError(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    IDEMPOTENCY_KEY + " was already used for a different request");
+        }
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status, String message)
+            throws IOException {
+        APIResponse<Object> body = new APIResponse<>();
+        body.setSuccess(false);
+        body.setMessage(message);
+        body.setStatusCode(status.value());
+        body.setMethod(request.getMethod());
+        body.setPath(request.getRequestURI());
+        body.setTimestamp(String.valueOf(LocalDateTime.now()));
+
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private static String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + " " + request.getRequestURI() + "\n").getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // The body was read for the fingerprint, the controller reads it again from here
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return in.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // The whole body is already in memory, so it is available at once
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
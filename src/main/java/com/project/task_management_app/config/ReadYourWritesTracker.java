@@ -0,0 +1,72 @@
+package com.project.task_management_app.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.task_management_app.services.UserDetailsImpl;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+
+// Keeps a user's reads on the primary for a short window after they changed something, so they see
+// their own write even when the replicas are behind. A mutating request reads from the primary
+// throughout, and marks its user once it succeeded.
+public class ReadYourWritesTracker implements HandlerInterceptor {
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Cache<UUID, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    public void recordWrite(UUID userId) {
+        recentWriters.put(userId, Boolean.TRUE);
+    }
+
+    public boolean mustReadFromPrimary() {
+        if (isMutatingRequest(currentRequest())) {
+            return true;
+        }
+        UUID userId = currentUserId();
+        return userId != null && recentWriters.getIfPresent(userId) != null;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (ex != null || response.getStatus() >= 400 || !isMutatingRequest(request)) {
+            return;
+        }
+        UUID userId = currentUserId();
+        if (userId != null) {
+            recordWrite(userId);
+        }
+    }
+
+    private static HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servlet ? servlet.getRequest() : null;
+    }
+
+    private static boolean isMutatingRequest(HttpServletRequest request) {
+        return request != null && !SAFE_METHODS.contains(request.getMethod());
+    }
+
+    private static UUID currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserDetailsImpl user) {
+            return user.getId();
+        }
+        return null;
+    }
+}
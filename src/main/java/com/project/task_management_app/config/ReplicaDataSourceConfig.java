@@ -0,0 +1,114 @@
+package com.project.task_management_app.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Sends @Transactional(readOnly = true) work to read replicas. The application DataSource is a lazy proxy
+// over the primary: the physical connection is only picked once the transaction has marked it read-only,
+// and read-only connections come from ReplicaRoutingDataSource instead. Off unless replicas are enabled.
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    // Same spring.datasource.* / spring.datasource.hikari.* settings Boot would apply to its own pool
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaHealthMonitor replicaHealthMonitor(
+            DataSourceProperties properties,
+            @Value("${app.datasource.replicas.urls}") List<String> urls,
+            @Value("${app.datasource.replicas.username:}") String username,
+            @Value("${app.datasource.replicas.password:}") String password,
+            @Value("${app.datasource.replicas.pool-size:10}") int poolSize,
+            @Value("${app.datasource.replicas.connection-timeout:2s}") Duration connectionTimeout,
+            @Value("${app.datasource.replicas.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+            @Value("${app.datasource.replicas.max-lag:5s}") Duration maxLag
+    ) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : urls) {
+            String name = "replica-" + (replicas.size() + 1);
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName(name);
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(StringUtils.hasText(username) ? username : properties.determineUsername());
+            replica.setPassword(StringUtils.hasText(password) ? password : properties.determinePassword());
+            replica.setMaximumPoolSize(poolSize);
+            replica.setConnectionTimeout(connectionTimeout.toMillis());
+            replica.setReadOnly(true);
+            // A replica that is down at startup is simply left out of rotation until it comes up
+            replica.setInitializationFailTimeout(-1);
+            replicas.put(name, replica);
+        }
+
+        ReplicaHealthMonitor monitor = new ReplicaHealthMonitor(replicas, lagQuery, maxLag);
+        monitor.check(); // Start with a known set instead of sending everything to the primary until the first poll
+        return monitor;
+    }
+
+    // Should cover the usual replica lag, max-lag is a sensible lower bound
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${app.datasource.replicas.read-your-writes-window:5s}") Duration window
+    ) {
+        return new ReadYourWritesTracker(window);
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             ReplicaHealthMonitor replicaHealthMonitor,
+                                                             ReadYourWritesTracker readYourWritesTracker) {
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaHealthMonitor.replicas(),
+                replicaHealthMonitor, readYourWritesTracker);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+        proxy.setReadOnlyDataSource(replicaRoutingDataSource);
+        return proxy;
+    }
+
+    // Hibernate normally keeps the connection it got first for the whole session, which with open-in-view
+    // is the whole request. Releasing it after each transaction lets every transaction be routed on its own.
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionsAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    @Bean
+    public WebMvcConfigurer readYourWritesInterceptor(ReadYourWritesTracker readYourWritesTracker) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(readYourWritesTracker);
+            }
+        };
+    }
+}
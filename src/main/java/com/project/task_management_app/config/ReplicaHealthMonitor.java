@@ -0,0 +1,100 @@
+package com.project.task_management_app.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Polls every replica for its replication lag. A replica is used for reads only while it answers and
+// is at most maxLag behind; otherwise reads fall back to the primary until a later check passes.
+@Slf4j
+public class ReplicaHealthMonitor implements AutoCloseable {
+    private static final String[] LAG_COLUMNS = {"Seconds_Behind_Source", "Seconds_Behind_Master"};
+
+    private final Map<String, DataSource> replicas;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final Map<String, Boolean> healthy = new ConcurrentHashMap<>();
+    private volatile List<String> healthyReplicas = List.of();
+
+    public ReplicaHealthMonitor(Map<String, DataSource> replicas, String lagQuery, Duration maxLag) {
+        this.replicas = replicas;
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+    }
+
+    public Map<String, DataSource> replicas() {
+        return replicas;
+    }
+
+    // Names of the replicas that passed the last check, in configuration order
+    public List<String> healthyReplicas() {
+        return healthyReplicas;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.health-check-interval:5s}")
+    public void check() {
+        List<String> passed = new ArrayList<>(replicas.size());
+        for (Map.Entry<String, DataSource> replica : replicas.entrySet()) {
+            String name = replica.getKey();
+            boolean ok = isHealthy(name, replica.getValue());
+            Boolean previous = healthy.put(name, ok);
+            if (previous != null && previous != ok) {
+                log.warn("Replica {} is now {}", name, ok ? "in rotation" : "out of rotation");
+            }
+            if (ok) passed.add(name);
+        }
+        healthyReplicas = List.copyOf(passed);
+    }
+
+    private boolean isHealthy(String name, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+            if (!rs.next()) {
+                return true; // No replication status, a plain server (local setups) counts as caught up
+            }
+            Long lagSeconds = lagSeconds(rs);
+            if (lagSeconds == null) {
+                log.debug("Replica {} reports no lag, replication is not running", name);
+                return false;
+            }
+            return lagSeconds <= maxLag.toSeconds();
+        } catch (SQLException e) {
+            log.debug("Health check of replica {} failed: {}", name, e.getMessage());
+            return false;
+        }
+    }
+
+    // The replica pools are not beans of their own, close them with the monitor
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    // MySQL 8.0.22+ names the column Seconds_Behind_Source, older servers Seconds_Behind_Master
+    private static Long lagSeconds(ResultSet rs) throws SQLException {
+        for (String column : LAG_COLUMNS) {
+            try {
+                long lag = rs.getLong(column);
+                return rs.wasNull() ? null : lag;
+            } catch (SQLException e) {
+                // Try the next column name
+            }
+        }
+        throw new SQLException("Lag query returned neither " + String.join(" nor ", LAG_COLUMNS));
+    }
+}
@@ -0,0 +1,41 @@
+package com.project.task_management_app.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Read-only connections only: spreads them round-robin over the healthy replicas, and sends them to
+// the primary when no replica is healthy or the current user has to see their own recent writes.
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    static final String PRIMARY = "primary";
+
+    private final ReplicaHealthMonitor healthMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    ReplicaHealthMonitor healthMonitor, ReadYourWritesTracker readYourWritesTracker) {
+        this.healthMonitor = healthMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        List<String> healthy = healthMonitor.healthyReplicas();
+        if (healthy.isEmpty() || readYourWritesTracker.mustReadFromPrimary()) {
+            return PRIMARY;
+        }
+        return healthy.get(Math.floorMod(next.getAndIncrement(), healthy.size()));
+    }
+}
@@ -0,0 +1,41 @@
+package com.project.task_management_app.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+
+// In-process second-level cache for the rows nearly every request starts with (users, workspaces and
+// workspace member sets). Regions, their sizes and TTLs are defined in hibernate-cache.conf; the cache
+// manager is a bean so the admin stats endpoint reads the same caches Hibernate writes to.
+@Configuration
+@ConditionalOnProperty(name = "app.cache.second-level.enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${app.cache.second-level.config:classpath:hibernate-cache.conf}") String config
+    ) {
+        return Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create(config), getClass().getClassLoader());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCache(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // A region missing from the config would otherwise be created unbounded
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+}
@@ -0,0 +1,78 @@
+package com.project.task_management_app.controllers;
+
+import com.project.task_management_app.payload.Request.SignUpRequest;
+import com.project.task_management_app.payload.Response.APIResponse;
+import com.project.task_management_app.payload.Response.CacheRegionStatsResponse;
+import com.project.task_management_app.services.CacheStatsService;
+import com.project.task_management_app.services.UserProvisioningService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Admin", description = "Administrative APIs, restricted to ADMIN users")
+public class AdminController {
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final UserProvisioningService userProvisioningService;
+    private final CacheStatsService cacheStatsService;
+
+    // Bulk provision users from a JSON array
+    @PostMapping(value = "/users/bulk", consumes = MediaType.APPLICATION_JSON_VALUE, produces = NDJSON)
+    @Operation(summary = "Bulk provision users (JSON)", description = "Create many users and their default workspaces, streaming per-row outcomes and progress as NDJSON")
+    @ApiResponse(responseCode = "200", description = "Provisioning started, results are streamed")
+    @ApiResponse(responseCode = "400", description = "Empty or oversized batch")
+    @ApiResponse(responseCode = "403", description = "Caller is not an admin")
+    public ResponseEntity<StreamingResponseBody> bulkProvisionUsers(@RequestBody List<SignUpRequest> users) {
+        return stream(users);
+    }
+
+    // Bulk provision users from a CSV upload (username,email,password)
+    @PostMapping(value = "/users/bulk", consumes = "text/csv", produces = NDJSON)
+    @Operation(summary = "Bulk provision users (CSV)", description = "Create many users from CSV rows of username,email,password, streaming per-row outcomes and progress as NDJSON")
+    @ApiResponse(responseCode = "200", description = "Provisioning started, results are streamed")
+    @ApiResponse(responseCode = "400", description = "Empty or oversized batch")
+    @ApiResponse(responseCode = "403", description = "Caller is not an admin")
+    public ResponseEntity<StreamingResponseBody> bulkProvisionUsersCsv(@RequestBody String csv) {
+        return stream(userProvisioningService.parseCsv(csv));
+    }
+
+    // Second-level cache regions with their limits, hit rate and eviction counts
+    @GetMapping("/cache/second-level")
+    @Operation(summary = "Second-level cache statistics", description = "Size, limits, hits, misses and evictions per Hibernate cache region")
+    @ApiResponse(responseCode = "200", description = "Statistics retrieved")
+    @ApiResponse(responseCode = "403", description = "Caller is not an admin")
+    public ResponseEntity<APIResponse<List<CacheRegionStatsResponse>>> getSecondLevelCacheStats() {
+        APIResponse<List<CacheRegionStatsResponse>> response = new APIResponse<>(
+                cacheStatsService.getSecondLevelCacheStats(),
+                "Cache statistics retrieved successfully",
+                true,
+                200,
+                "GET",
+                "/api/v1/admin/cache/second-level",
+                String.valueOf(LocalDateTime.now())
+        );
+        return ResponseEntity.ok(response);
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(List<SignUpRequest> users) {
+        userProvisioningService.checkBatchSize(users);
+        StreamingResponseBody body = out -> userProvisioningService.provision(users, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
+    }
+}
@@ -3,10 +3,19 @@ package com.project.task_management_app.controllers;
 import com.project.task_management_app.enums.TaskPriority;
 import com.project.task_management_app.enums.TaskStatus;
 import com.project.task_management_app.payload.Request.CreateTaskRequest;
+import com.project.task_management_app.payload.Request.UpdateAssignmentStatusRequest;
 import com.project.task_management_app.payload.Request.UpdateTaskRequest;
 import com.project.task_management_app.payload.Response.APIResponse;
+import com.project.task_management_app.payload.Response.CalendarResponse;
+import com.project.task_management_app.payload.Response.TaskChangesResponse;
+import com.project.task_management_app.payload.Response.TaskAssigneeResponse;
 import com.project.task_management_app.payload.Response.TaskResponse;
+import com.project.task_management_app.payload.Response.TaskSearchResponse;
+import com.project.task_management_app.services.CalendarService;
+import com.project.task_management_app.services.IfMatch;
+import com.project.task_management_app.services.TaskAssignmentService;
 import com.project.task_management_app.services.TaskService;
+import com.project.task_management_app.services.TaskSyncService;
 import com.project.task_management_app.services.UserDetailsImpl;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,14 +24,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -35,6 +47,9 @@ import java.util.UUID;
 @Tag(name = "Task Management", description = "APIs for managing tasks")
 public class TaskController {
     private final TaskService taskService;
+    private final TaskAssignmentService taskAssignmentService;
+    private final TaskSyncService taskSyncService;
+    private final CalendarService calendarService;
 
     // Get all tasks with pagination and sorting
     @GetMapping
@@ -53,12 +68,57 @@ public class TaskController {
             @Parameter(description = "Field to sort by") String sortBy,
 
             @RequestParam(defaultValue = "desc")
-            @Parameter(description = "Sort direction (asc/desc)") String direction) {
+            @Parameter(description = "Sort direction (asc/desc)") String direction,
 
-        APIResponse<List<TaskResponse>> response = taskService.getAllTasks(workspaceId, page, size, sortBy, direction);
+            @RequestParam(defaultValue = "false")
+            @Parameter(description = "Also list completed tasks moved to the archive") boolean includeArchived) {
+
+        APIResponse<List<TaskResponse>> response = taskService.getAllTasks(workspaceId, page, size, sortBy, direction, includeArchived);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    // Delta sync for offline clients
+    @GetMapping("/changes")
+    @Operation(summary = "Get task changes since a sync token", description = "Tasks created or updated and ids of tasks deleted since the token. Omit the token for the first sync, then pass back nextToken")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Task changes retrieved"),
+            @ApiResponse(responseCode = "400", description = "Invalid sync token", content = @Content)
+    })
+    public ResponseEntity<APIResponse<TaskChangesResponse>> getChanges(
+            @PathVariable UUID workspaceId,
+
+            @RequestParam(required = false)
+            @Parameter(description = "nextToken from the previous sync") String since,
+
+            @RequestParam(defaultValue = "200") @Min(1) @Max(1000)
+            @Parameter(description = "Maximum number of changed and of deleted tasks per call") int limit,
+
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+
+        return ResponseEntity.ok(taskSyncService.getChanges(workspaceId, userDetails.getId(), since, limit));
+    }
+
+    // Due tasks of the workspace grouped by day
+    @GetMapping("/calendar")
+    @Operation(summary = "Get the workspace calendar", description = "Tasks due between from and to (inclusive), grouped by due day. Days without due tasks are omitted")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Calendar retrieved"),
+            @ApiResponse(responseCode = "400", description = "Invalid or too long date range", content = @Content)
+    })
+    public ResponseEntity<APIResponse<CalendarResponse>> getCalendar(
+            @PathVariable UUID workspaceId,
+
+            @RequestParam
+            @Parameter(description = "First day (format: YYYY-MM-DD)", example = "2025-03-01") LocalDate from,
+
+            @RequestParam
+            @Parameter(description = "Last day (format: YYYY-MM-DD)", example = "2025-03-31") LocalDate to,
+
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+
+        return ResponseEntity.ok(calendarService.getWorkspaceCalendar(workspaceId, userDetails.getId(), from, to));
+    }
+
     // Get task by ID
     @GetMapping("/{taskId}")
     @Operation(summary = "Get task by ID in a workspace", description = "Retrieve a task by its unique identifier within a specific workspace")
@@ -71,7 +131,7 @@ public class TaskController {
             @PathVariable @Parameter(description = "UUID of the task") UUID taskId) {
 
         APIResponse<TaskResponse> response = taskService.getTaskById(workspaceId,taskId);
-        return new ResponseEntity<>(response, HttpStatus.OK);
+        return ResponseEntity.ok().eTag(IfMatch.eTag(response.getData().getVersion())).body(response);
     }
 
     // Create a task
@@ -85,7 +145,7 @@ public class TaskController {
             @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Task details") CreateTaskRequest request) {
 
         APIResponse<TaskResponse> response = taskService.createTask(workspaceId, userDetails, request);
-        return new ResponseEntity<>(response, HttpStatus.CREATED);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(IfMatch.eTag(response.getData().getVersion())).body(response);
     }
 
     // Update task
@@ -94,17 +154,54 @@ public class TaskController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Task updated successfully"),
             @ApiResponse(responseCode = "404", description = "Task not found", content = @Content),
-            @ApiResponse(responseCode = "403", description = "Access denied - not authorized to update this task", content = @Content)
+            @ApiResponse(responseCode = "403", description = "Access denied - not authorized to update this task", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Task kept changing concurrently, retry", content = @Content),
+            @ApiResponse(responseCode = "412", description = "If-Match does not match the current task version", content = @Content)
     })
     public ResponseEntity<APIResponse<TaskResponse>> updateTask(
             @PathVariable UUID workspaceId,
             @PathVariable @Parameter(description = "UUID of the task to update") UUID taskId,
             @AuthenticationPrincipal UserDetailsImpl userDetails,
+
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+            @Parameter(description = "ETag of the task as last read, the update fails with 412 if it changed since") String ifMatch,
+
             @Valid @RequestBody
             @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Updated task details") UpdateTaskRequest request) {
 
-        APIResponse<TaskResponse> response = taskService.updateTask(workspaceId, userDetails, taskId, request);
-        return new ResponseEntity<>(response, HttpStatus.OK);
+        APIResponse<TaskResponse> response = taskService.updateTask(workspaceId, userDetails, taskId, request, ifMatch);
+        return ResponseEntity.ok().eTag(IfMatch.eTag(response.getData().getVersion())).body(response);
+    }
+
+    // Update the status of one assignment
+    @PatchMapping("/{taskId}/assignments/{assignmentId}")
+    @Operation(summary = "Update an assignment status", description = "Set the progress of one assignee on a task, the task status is recalculated from all assignments. Allowed for the assignee and the task owner")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Assignment status updated"),
+            @ApiResponse(responseCode = "404", description = "Assignment not found in this task", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Access denied - not the assignee or the task owner", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Task kept changing concurrently, retry", content = @Content),
+            @ApiResponse(responseCode = "412", description = "If-Match does not match the current assignment version", content = @Content)
+    })
+    public ResponseEntity<APIResponse<TaskResponse>> updateAssignmentStatus(
+            @PathVariable UUID workspaceId,
+            @PathVariable @Parameter(description = "UUID of the task") UUID taskId,
+            @PathVariable @Parameter(description = "UUID of the assignment, assignees[].assignmentId of the task") UUID assignmentId,
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+            @Parameter(description = "ETag of the assignment as last read, the update fails with 412 if it changed since") String ifMatch,
+
+            @Valid @RequestBody UpdateAssignmentStatusRequest request) {
+
+        APIResponse<TaskResponse> response = taskAssignmentService.updateAssignmentStatus(
+                workspaceId, taskId, assignmentId, userDetails, request.getStatus(), ifMatch);
+        // The ETag is the assignment's, it is what If-Match on this endpoint is compared with
+        Long version = response.getData().getAssignees().stream()
+                .filter(assignee -> assignmentId.equals(assignee.getAssignmentId()))
+                .map(TaskAssigneeResponse::getVersion)
+                .findFirst().orElseThrow();
+        return ResponseEntity.ok().eTag(IfMatch.eTag(version)).body(response);
     }
 
     // Delete task
@@ -199,13 +296,61 @@ public class TaskController {
             @Parameter(description = "Page number (1-based index)") int page,
 
             @RequestParam(defaultValue = "10")
-            @Parameter(description = "Number of tasks per page") int size) {
+            @Parameter(description = "Number of tasks per page") int size,
+
+            @RequestParam(defaultValue = "false")
+            @Parameter(description = "Also search completed tasks moved to the archive") boolean includeArchived) {
+
+        String statusName = status != null ? status.toString() : null;
+        String priorityName = priority != null ? priority.toString() : null;
+        APIResponse<List<TaskResponse>> response = taskService.searchTasks(workspaceId, title, statusName, priorityName,
+                category, fromDate, toDate, page, size, includeArchived);
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    // Search Tasks with facet counts
+    @GetMapping("/search/facets")
+    @Operation(summary = "Search tasks in a workspace with facets", description = "Same filters as search, returns {tasks, totalMatches, statusFacets, priorityFacets, categoryFacets} with counts over all matching tasks.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Search results and facet counts returned successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid request parameters", content = @Content)
+    })
+    public ResponseEntity<APIResponse<TaskSearchResponse>> searchTasksWithFacets(
+            @PathVariable UUID workspaceId,
+
+            @RequestParam(required = false)
+            @Parameter(description = "Filter tasks by title") String title,
+
+            @RequestParam(required = false)
+            @Parameter(description = "Filter tasks by status (e.g., TODO, IN_PROGRESS, COMPLETED)", example = "TODO") TaskStatus status,
+
+            @RequestParam(required = false)
+            @Parameter(description = "Filter tasks by priority (e.g., HIGH, MEDIUM, LOW)", example = "HIGH") TaskPriority priority,
+
+            @RequestParam(required = false)
+            @Parameter(description = "Filter tasks by category (e.g., Work, Personal)") String category,
+
+            @RequestParam(required = false)
+            @Parameter(description = "Filter tasks created after this date (format: YYYY-MM-DDTHH:mm:ss)", example = "2025-03-01T00:00:00") LocalDateTime fromDate,
+
+            @RequestParam(required = false)
+            @Parameter(description = "Filter tasks created before this date (format: YYYY-MM-DDTHH:mm:ss)", example = "2025-03-18T23:59:59") LocalDateTime toDate,
+
+            @RequestParam(defaultValue = "1")
+            @Parameter(description = "Page number (1-based index)") int page,
+
+            @RequestParam(defaultValue = "10")
+            @Parameter(description = "Number of tasks per page") int size,
+
+            @RequestParam(defaultValue = "false")
+            @Parameter(description = "Also search completed tasks moved to the archive") boolean includeArchived) {
 
-        APIResponse<List<TaskResponse>> response = taskService.searchTasks(
-                workspaceId, title, status != null ? status.toString() : null,
-                priority != null ? priority.toString() : null,
-                category, fromDate, toDate, page, size);
+        String statusName = status != null ? status.toString() : null;
+        String priorityName = priority != null ? priority.toString() : null;
+        APIResponse<TaskSearchResponse> response = taskService.searchTasksWithFacets(workspaceId, title, statusName,
+                priorityName, category, fromDate, toDate, page, size, includeArchived);
 
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
-}
\ No newline at end of file
+}
@@ -1,18 +1,28 @@
 package com.project.task_management_app.controllers;
 
+import com.project.task_management_app.enums.AssignmentStatus;
 import com.project.task_management_app.models.User;
 import com.project.task_management_app.payload.Request.UpdateUserRequest;
 import com.project.task_management_app.payload.Response.APIResponse;
+import com.project.task_management_app.payload.Response.AssignedTasksResponse;
+import com.project.task_management_app.payload.Response.CalendarResponse;
 import com.project.task_management_app.payload.Response.Dashboard.DashboardResponse;
 import com.project.task_management_app.payload.Response.UserResponse;
 import com.project.task_management_app.repositories.UserRepository;
+import com.project.task_management_app.services.AssignedTaskService;
+import com.project.task_management_app.services.CalendarService;
 import com.project.task_management_app.services.UserDetailsImpl;
 import com.project.task_management_app.services.DashboardService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -22,7 +32,10 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/v1/users")
@@ -34,6 +47,8 @@ public class UserController {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final DashboardService dashboardService;
+    private final AssignedTaskService assignedTaskService;
+    private final CalendarService calendarService;
 
     // Get the currently logged-in user's details
     @GetMapping("/me")
@@ -147,4 +162,56 @@ public class UserController {
         );
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
+
+    // Tasks assigned to the current user in every workspace
+    @GetMapping("/me/tasks")
+    @Operation(summary = "Get my assigned tasks", description = "Tasks assigned to the current user across all workspaces, ordered by due date. Omit the cursor for the first page, then pass back nextCursor")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Assigned tasks retrieved"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor", content = @Content)
+    })
+    public ResponseEntity<APIResponse<AssignedTasksResponse>> getAssignedTasks(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+
+            @RequestParam(required = false)
+            @Parameter(description = "Filter by the status of your assignment", example = "IN_PROGRESS") AssignmentStatus status,
+
+            @RequestParam(required = false)
+            @Parameter(description = "Only tasks due at or after this time (format: YYYY-MM-DDTHH:mm:ss)", example = "2025-03-01T00:00:00") LocalDateTime dueFrom,
+
+            @RequestParam(required = false)
+            @Parameter(description = "Only tasks due at or before this time (format: YYYY-MM-DDTHH:mm:ss)", example = "2025-03-31T23:59:59") LocalDateTime dueTo,
+
+            @RequestParam(required = false)
+            @Parameter(description = "nextCursor from the previous page") String cursor,
+
+            @RequestParam(defaultValue = "50") @Min(1) @Max(200)
+            @Parameter(description = "Maximum number of tasks per page") int limit) {
+
+        return ResponseEntity.ok(assignedTaskService.getAssignedTasks(
+                userDetails.getId(), status, dueFrom, dueTo, cursor, limit));
+    }
+
+    // Due tasks of the current user's workspaces grouped by day
+    @GetMapping("/me/calendar")
+    @Operation(summary = "Get my calendar", description = "Tasks due between from and to (inclusive) in the given workspaces, or in every workspace you belong to, grouped by due day. Days without due tasks are omitted")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Calendar retrieved"),
+            @ApiResponse(responseCode = "400", description = "Invalid or too long date range", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Not a member of one of the workspaces", content = @Content)
+    })
+    public ResponseEntity<APIResponse<CalendarResponse>> getCalendar(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+
+            @RequestParam
+            @Parameter(description = "First day (format: YYYY-MM-DD)", example = "2025-03-01") LocalDate from,
+
+            @RequestParam
+            @Parameter(description = "Last day (format: YYYY-MM-DD)", example = "2025-03-31") LocalDate to,
+
+            @RequestParam(required = false)
+            @Parameter(description = "Workspaces to include, defaults to all of yours") Set<UUID> workspaceIds) {
+
+        return ResponseEntity.ok(calendarService.getUserCalendar(userDetails.getId(), workspaceIds, from, to));
+    }
 }
@@ -6,21 +6,30 @@ import com.project.task_management_app.models.Workspace;
 import com.project.task_management_app.payload.Request.CreateWorkspaceRequest;
 import com.project.task_management_app.payload.Request.UpdateWorkspaceRequest;
 import com.project.task_management_app.payload.Response.APIResponse;
+import com.project.task_management_app.payload.Response.WorkspaceDeletionResponse;
+import com.project.task_management_app.payload.Response.WorkspaceMembersResponse;
 import com.project.task_management_app.payload.Response.WorkspaceResponse;
+import com.project.task_management_app.payload.Response.WorkspaceSummaryResponse;
+import com.project.task_management_app.payload.Response.WorkspaceTypeaheadResponse;
 import com.project.task_management_app.repositories.UserRepository;
 import com.project.task_management_app.repositories.WorkspaceRepository;
 import com.project.task_management_app.services.UserDetailsImpl;
 import com.project.task_management_app.services.WorkspaceService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.UUID;
@@ -59,25 +68,79 @@ public class WorkspaceController {
     }
 
     @DeleteMapping("/{workspaceId}")
-    @Operation(summary = "Delete a workspace", description = "Delete a workspace by ID, default workspace cannot be deleted")
-    @ApiResponse(responseCode = "200", description = "Workspace deleted successfully")
-    public ResponseEntity<APIResponse<Void>> deleteWorkspace(
-            @PathVariable UUID workspaceId
+    @Operation(summary = "Delete a workspace", description = "Start deleting a workspace by ID in the background, default workspace cannot be deleted")
+    @ApiResponse(responseCode = "202", description = "Workspace deletion started")
+    public ResponseEntity<APIResponse<WorkspaceDeletionResponse>> deleteWorkspace(
+            @PathVariable UUID workspaceId,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
     ) {
-        APIResponse<Void> response = workspaceService.deleteWorkspace(workspaceId);
-        return ResponseEntity.ok(response);
+        APIResponse<WorkspaceDeletionResponse> response = workspaceService.deleteWorkspace(workspaceId, userDetails.getId());
+        return new ResponseEntity<>(response, HttpStatus.ACCEPTED);
+    }
+
+    @GetMapping("/{workspaceId}/deletion")
+    @Operation(summary = "Get workspace deletion progress", description = "Status, phase and counters of the latest deletion job of a workspace")
+    @ApiResponse(responseCode = "200", description = "Workspace deletion status retrieved successfully")
+    public ResponseEntity<APIResponse<WorkspaceDeletionResponse>> getDeletionStatus(
+            @PathVariable UUID workspaceId,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        return ResponseEntity.ok(workspaceService.getDeletionStatus(workspaceId, userDetails.getId()));
     }
 
     @GetMapping
-    @Operation(summary = "Get all owned workspaces", description = "Fetch all workspaces owned by the currently logged-in user")
+    @Operation(summary = "Get all owned workspaces", description = "Fetch summaries (owner, member and task counts) of all workspaces owned by the currently logged-in user")
     @ApiResponse(responseCode = "200", description = "Workspaces retrieved successfully")
-    public ResponseEntity<APIResponse<List<WorkspaceResponse>>> getAllWorkspaces(
+    public ResponseEntity<APIResponse<List<WorkspaceSummaryResponse>>> getAllWorkspaces(
             @AuthenticationPrincipal UserDetailsImpl userDetails
     ) {
-        APIResponse<List<WorkspaceResponse>> response = workspaceService.getAllWorkspaces(userDetails);
+        APIResponse<List<WorkspaceSummaryResponse>> response = workspaceService.getAllWorkspaces(userDetails);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/typeahead")
+    @Operation(summary = "Typeahead search of workspaces", description = "Workspaces the logged-in user owns or belongs to with a word in the name starting with the prefix")
+    @ApiResponse(responseCode = "200", description = "Workspaces retrieved successfully")
+    public ResponseEntity<APIResponse<List<WorkspaceTypeaheadResponse>>> typeahead(
+            @RequestParam(defaultValue = "")
+            @Parameter(description = "Start of the workspace name or of any word in it, case-insensitive") String prefix,
+
+            @RequestParam(defaultValue = "10") @Min(1) @Max(50)
+            @Parameter(description = "Maximum number of matches") int limit,
+
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        return ResponseEntity.ok(workspaceService.typeahead(userDetails.getId(), prefix, limit));
+    }
+
+    @GetMapping(value = "/{workspaceId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream workspace task changes", description = "Server-Sent Events for task created/updated/deleted and assignment status changes. Reconnect with Last-Event-ID to receive missed events, a RESYNC event means the client must refetch")
+    @ApiResponse(responseCode = "200", description = "Event stream opened")
+    public SseEmitter streamEvents(
+            @PathVariable UUID workspaceId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        return workspaceService.subscribeToEvents(workspaceId, userDetails.getId(), lastEventId);
+    }
+
+    @GetMapping("/{workspaceId}/members")
+    @Operation(summary = "Get workspace members", description = "Page through the members of a workspace ordered by user id, pass nextCursor as after for the next page")
+    @ApiResponse(responseCode = "200", description = "Workspace members retrieved successfully")
+    public ResponseEntity<APIResponse<WorkspaceMembersResponse>> getWorkspaceMembers(
+            @PathVariable UUID workspaceId,
+
+            @RequestParam(required = false)
+            @Parameter(description = "Cursor from the previous page, omit for the first page") UUID after,
+
+            @RequestParam(defaultValue = "50") @Min(1) @Max(200)
+            @Parameter(description = "Number of members per page") int size,
+
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        return ResponseEntity.ok(workspaceService.getWorkspaceMembers(workspaceId, after, size, userDetails.getId()));
+    }
+
     @GetMapping("/search")
     @Operation(summary = "Get a workspace by name", description = "Search and retrieve a workspace by its name")
     @ApiResponse(responseCode = "200", description = "Workspace found successfully")
@@ -98,4 +161,14 @@ public class WorkspaceController {
     ){
         return ResponseEntity.ok(workspaceService.joinWorkspaceByEntryCode(workspaceId, entryCode, userDetails.getId()));
     }
+
+    @DeleteMapping("/{workspaceId}/members/me")
+    @Operation(summary = "Leave a workspace", description = "Remove the currently logged-in user from a workspace they joined")
+    @ApiResponse(responseCode = "200", description = "Workspace left successfully")
+    public ResponseEntity<APIResponse<Void>> leaveWorkspace(
+            @PathVariable UUID workspaceId,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        return ResponseEntity.ok(workspaceService.leaveWorkspace(workspaceId, userDetails.getId()));
+    }
 }
@@ -0,0 +1,8 @@
+package com.project.task_management_app.enums;
+
+public enum DeletionJobStatus {
+    PENDING,    // Accepted, waiting for the deletion worker
+    RUNNING,    // Being purged chunk by chunk
+    COMPLETED,  // Workspace and everything under it is gone
+    FAILED      // Gave up after repeated errors, workspace stays hidden
+}
@@ -0,0 +1,8 @@
+package com.project.task_management_app.enums;
+
+public enum DeletionPhase {
+    TASKS,      // Tasks with their assignments and assignee rows
+    MEMBERS,    // workspace_members join rows
+    WORKSPACE,  // The workspace row itself
+    DONE
+}
@@ -0,0 +1,8 @@
+package com.project.task_management_app.enums;
+
+public enum OutboxStatus {
+    PENDING,  // Waiting for the dispatcher (new or scheduled for retry)
+    SENDING,  // Claimed by a dispatcher worker
+    SENT,     // Delivered to the SMTP server
+    DEAD      // Gave up after the maximum number of attempts
+}
@@ -0,0 +1,9 @@
+package com.project.task_management_app.enums;
+
+public enum ProvisioningStatus {
+    CREATED,            // User and default workspace inserted
+    INVALID,            // Row failed validation
+    DUPLICATE_USERNAME, // Username already taken (in the database or earlier in the batch)
+    DUPLICATE_EMAIL,    // Email already in use (in the database or earlier in the batch)
+    FAILED              // Hashing or inserting this row failed, details are in the server log
+}
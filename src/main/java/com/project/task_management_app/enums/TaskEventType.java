@@ -0,0 +1,9 @@
+package com.project.task_management_app.enums;
+
+public enum TaskEventType {
+    TASK_CREATED,
+    TASK_UPDATED,
+    TASK_STATUS_CHANGED,        // Status recalculated by the hourly refresh (e.g. became OVERDUE)
+    TASK_DELETED,
+    ASSIGNMENT_STATUS_CHANGED
+}
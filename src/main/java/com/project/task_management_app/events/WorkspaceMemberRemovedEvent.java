@@ -0,0 +1,14 @@
+package com.project.task_management_app.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+// Published when a user stops being a member, the event broker closes their open streams after commit
+@Getter
+@AllArgsConstructor
+public class WorkspaceMemberRemovedEvent {
+    private final UUID workspaceId;
+    private final UUID userId;
+}
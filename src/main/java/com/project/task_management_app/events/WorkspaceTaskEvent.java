@@ -0,0 +1,23 @@
+package com.project.task_management_app.events;
+
+import com.project.task_management_app.enums.TaskEventType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Published by the task services and fanned out to the workspace's SSE subscribers after commit
+@Getter
+@AllArgsConstructor
+public class WorkspaceTaskEvent {
+    private final UUID workspaceId;
+    private final TaskEventType type;
+    private final UUID taskId;
+    private final Object data; // TaskResponse for created/updated, a small map for status changes, null for deletes
+    private final LocalDateTime occurredAt;
+
+    public static WorkspaceTaskEvent of(UUID workspaceId, TaskEventType type, UUID taskId, Object data) {
+        return new WorkspaceTaskEvent(workspaceId, type, taskId, data, LocalDateTime.now());
+    }
+}
@@ -2,6 +2,7 @@ package com.project.task_management_app.exceptions;
 
 import com.project.task_management_app.payload.Response.APIResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -91,6 +92,38 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
+    // Handle PreconditionFailedException, an If-Match that no longer matches the current version
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<APIResponse<Object>> handlePreconditionFailedException(
+            PreconditionFailedException ex,
+            HttpServletRequest request) {
+
+        APIResponse<Object> response = new APIResponse<>();
+        response.setSuccess(false);
+        response.setMessage(ex.getMessage());
+        response.setStatusCode(HttpStatus.PRECONDITION_FAILED.value());
+        response.setPath(request.getRequestURI());
+        response.setTimestamp(LocalDateTime.now().format(DATE_FORMATTER));
+
+        return new ResponseEntity<>(response, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    // Handle concurrent updates that still conflicted after the automatic retries
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<APIResponse<Object>> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex,
+            HttpServletRequest request) {
+
+        APIResponse<Object> response = new APIResponse<>();
+        response.setSuccess(false);
+        response.setMessage("The resource was modified concurrently, reload it and try again");
+        response.setStatusCode(HttpStatus.CONFLICT.value());
+        response.setPath(request.getRequestURI());
+        response.setTimestamp(LocalDateTime.now().format(DATE_FORMATTER));
+
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+
     // Handle general exceptions
     @ExceptionHandler(Exception.class)
     public ResponseEntity<APIResponse<Object>> handleGlobalException(
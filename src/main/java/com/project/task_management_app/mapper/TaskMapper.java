@@ -1,7 +1,8 @@
 package com.project.task_management_app.mapper;
 
-import com.project.task_management_app.enums.AssignmentStatus;
-import com.project.task_management_app.models.Task;
+import com.project.task_management_app.models.ArchivedTask;
+import com.project.task_management_app.models.BaseTask;
+import com.project.task_management_app.models.BaseTaskAssignment;
 import com.project.task_management_app.models.TaskAssignment;
 import com.project.task_management_app.models.User;
 import com.project.task_management_app.payload.Response.TaskAssigneeResponse;
@@ -15,10 +16,7 @@ public class TaskMapper {
 
     private TaskMapper() {} // Prevent instantiation
 
-    public static TaskResponse mapToTaskResponse(Task task) {
-        // Get assignments directly from the repository or fetch them via task
-        List<TaskAssignment> assignments = task.getAssignments();
-
+    public static TaskResponse mapToTaskResponse(BaseTask task) {
         return new TaskResponse(
                 task.getId(),
                 task.getTitle(),
@@ -30,9 +28,11 @@ public class TaskMapper {
                 task.getDueDate(),
                 task.getCreatedAt(),
                 task.getUpdatedAt(),
+                task.getVersion(),
                 task.getWorkspace() != null ? task.getWorkspace().getId() : null,
                 mapToUserResponse(task.getUser()),
-                mapToAssigneeResponseSet(task.getAssignees(), assignments)
+                mapToAssigneeResponseSet(task.getAssignments()),
+                task instanceof ArchivedTask archived ? archived.getArchivedAt() : null
         );
     }
 
@@ -48,25 +48,20 @@ public class TaskMapper {
         );
     }
 
-    private static Set<TaskAssigneeResponse> mapToAssigneeResponseSet(Set<User> assignees, List<TaskAssignment> assignments) {
-        if (assignees == null || assignees.isEmpty()) return Collections.emptySet();
-
-        // Create a map of user ID to assignment for quick lookup
-        Map<UUID, TaskAssignment> assignmentMap = assignments.stream()
-                .collect(Collectors.toMap(
-                        assignment -> assignment.getAssignee().getId(),
-                        assignment -> assignment
-                ));
+    private static Set<TaskAssigneeResponse> mapToAssigneeResponseSet(List<? extends BaseTaskAssignment> assignments) {
+        if (assignments == null || assignments.isEmpty()) return Collections.emptySet();
 
-        return assignees.stream()
-                .map(user -> {
-                    TaskAssignment assignment = assignmentMap.get(user.getId());
+        return assignments.stream()
+                .map(assignment -> {
+                    User user = assignment.getAssignee();
                     return new TaskAssigneeResponse(
                             user.getId(),
                             user.getUsername(),
                             user.getEmail(),
-                            assignment != null ? assignment.getStatus() : AssignmentStatus.PENDING,
-                            assignment != null ? assignment.getAssignedAt() : null
+                            assignment.getStatus(),
+                            assignment.getAssignedAt(),
+                            assignment.getId(),
+                            assignment instanceof TaskAssignment live ? live.getVersion() : null
                     );
                 })
                 .collect(Collectors.toSet());
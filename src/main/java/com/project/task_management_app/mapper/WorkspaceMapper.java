@@ -2,7 +2,11 @@ package com.project.task_management_app.mapper;
 
 import com.project.task_management_app.models.User;
 import com.project.task_management_app.models.Workspace;
+import com.project.task_management_app.models.WorkspaceDeletionJob;
+import com.project.task_management_app.repositories.projections.WorkspaceSummaryView;
 import com.project.task_management_app.payload.Response.UserResponse;
+import com.project.task_management_app.payload.Response.WorkspaceDeletionResponse;
+import com.project.task_management_app.payload.Response.WorkspaceSummaryResponse;
 import com.project.task_management_app.payload.Response.WorkspaceResponse;
 import org.springframework.beans.factory.annotation.Value;
 
@@ -32,7 +36,42 @@ public class WorkspaceMapper {
         );
     }
 
-    private static UserResponse mapToUserResponse(User user) {
+    public static WorkspaceSummaryResponse mapToWorkspaceSummaryResponse(WorkspaceSummaryView view) {
+        return new WorkspaceSummaryResponse(
+                view.getId(),
+                view.getName(),
+                view.getDescription(),
+                view.getEntryCode(),
+                view.getType(),
+                view.getOwnerId(),
+                view.getOwnerUsername(),
+                view.getOwnerImgUrl(),
+                view.getMemberCount(),
+                view.getTaskCount(),
+                view.getCompletedTaskCount(),
+                view.getCreatedAt(),
+                view.getUpdatedAt()
+        );
+    }
+
+    public static WorkspaceDeletionResponse mapToWorkspaceDeletionResponse(WorkspaceDeletionJob job) {
+        return new WorkspaceDeletionResponse(
+                job.getId(),
+                job.getWorkspaceId(),
+                job.getWorkspaceName(),
+                job.getStatus(),
+                job.getPhase(),
+                job.getTasksTotal(),
+                job.getTasksDeleted(),
+                job.getAssignmentsDeleted(),
+                job.getMembersRemoved(),
+                job.getLastError(),
+                job.getCreatedAt(),
+                job.getCompletedAt()
+        );
+    }
+
+    public static UserResponse mapToUserResponse(User user) {
         if (user == null) return null;
         return new UserResponse(
                 user.getId(),
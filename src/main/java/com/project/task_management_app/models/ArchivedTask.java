@@ -0,0 +1,29 @@
+package com.project.task_management_app.models;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// A completed task moved out of the tasks table by TaskArchivalService. Rows are only written by its
+// INSERT ... SELECT, they are read back when a task list asks for archived tasks.
+@Entity
+@NoArgsConstructor
+@Getter
+@Setter
+@Table(name = "archived_tasks", indexes = {
+        @Index(name = "idx_archived_tasks_workspace_created", columnList = "workspace_id, created_at")
+})
+public class ArchivedTask extends BaseTask {
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    @OneToMany(mappedBy = "task")
+    @BatchSize(size = 50)
+    private List<ArchivedTaskAssignment> assignments = new ArrayList<>();
+}
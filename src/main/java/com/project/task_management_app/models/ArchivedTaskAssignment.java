@@ -0,0 +1,20 @@
+package com.project.task_management_app.models;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(
+        name = "archived_task_assignments",
+        indexes = @Index(name = "idx_archived_task_assignments_task", columnList = "task_id")
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class ArchivedTaskAssignment extends BaseTaskAssignment {
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_id", nullable = false)
+    private ArchivedTask task;
+}
@@ -0,0 +1,77 @@
+package com.project.task_management_app.models;
+
+import com.project.task_management_app.enums.TaskPriority;
+import com.project.task_management_app.enums.TaskStatus;
+import com.project.task_management_app.models.id.UuidV7;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// Columns shared by live and archived tasks. Each subclass has its own table, so queries on Task only
+// touch the hot table; a query on BaseTask reads both through UNION ALL and is only run on request.
+@Entity
+@Inheritance(strategy = InheritanceType.TABLE_PER_CLASS)
+@NoArgsConstructor
+@Getter
+@Setter
+public abstract class BaseTask {
+    @Id
+    @UuidV7
+    private UUID id;
+
+    @Column(nullable = false)
+    @NotBlank
+    private String title;
+
+    @Size(max = 500)
+    private String description;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    private TaskStatus status; // Global task status
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    private TaskPriority priority;
+
+    private String category;
+
+    private String attachmentUrl;
+
+    @NotNull
+    private LocalDateTime dueDate;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    // Bumped by every update of the row, a write based on an older read fails instead of overwriting.
+    // Declared on the hierarchy root as Hibernate requires, archived rows keep the value they had.
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user; // Creator
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "workspace_id", nullable = false)
+    private Workspace workspace;
+
+    public abstract List<? extends BaseTaskAssignment> getAssignments();
+}
@@ -0,0 +1,33 @@
+package com.project.task_management_app.models;
+
+import com.project.task_management_app.enums.AssignmentStatus;
+import com.project.task_management_app.models.id.UuidV7;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Columns shared by the assignments of live and archived tasks
+@MappedSuperclass
+@Getter
+@Setter
+@NoArgsConstructor
+public abstract class BaseTaskAssignment {
+    @Id
+    @UuidV7
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User assignee;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AssignmentStatus status = AssignmentStatus.PENDING;
+
+    @Column(name = "assigned_at")
+    private LocalDateTime assignedAt;
+}
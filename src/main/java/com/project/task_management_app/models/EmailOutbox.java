@@ -0,0 +1,60 @@
+package com.project.task_management_app.models;
+
+import com.project.task_management_app.enums.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(
+        name = "email_outbox",
+        indexes = @Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(nullable = false)
+    private String templateName;
+
+    @Column(columnDefinition = "TEXT")
+    private String variables; // Template variables as a JSON object
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    private LocalDateTime sentAt;
+}
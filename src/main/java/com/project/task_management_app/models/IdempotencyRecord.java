@@ -0,0 +1,56 @@
+package com.project.task_management_app.models;
+
+import com.project.task_management_app.models.id.UuidV7;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// First response to a request sent with an Idempotency-Key, replayed for retries with the same key.
+// statusCode is null while the first request is still running, claimedAt dates the lease on such a row.
+@Entity
+@Table(
+        name = "idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_keys_user_key", columnNames = {"user_id", "idempotency_key"}),
+        indexes = @Index(name = "idx_idempotency_keys_expires", columnList = "expires_at")
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class IdempotencyRecord {
+    @Id
+    @UuidV7
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "idempotency_key", nullable = false)
+    private String idempotencyKey;
+
+    // SHA-256 of method, path and body, a key reused for a different request is rejected
+    @Column(nullable = false, length = 64)
+    private String fingerprint;
+
+    private Integer statusCode;
+
+    private String contentType;
+
+    @Lob
+    private byte[] responseBody;
+
+    @Column(columnDefinition = "TEXT")
+    private String responseHeaders; // Replayed headers as a JSON object
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "claimed_at", nullable = false)
+    private LocalDateTime claimedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -1,19 +1,12 @@
 package com.project.task_management_app.models;
 
-import com.project.task_management_app.enums.TaskPriority;
-import com.project.task_management_app.enums.TaskStatus;
 import jakarta.persistence.*;
-import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.BatchSize;
 
-import java.time.LocalDateTime;
 import java.util.*;
 
 @Entity
@@ -21,56 +14,13 @@ import java.util.*;
 @NoArgsConstructor
 @Getter
 @Setter
-@Table(name = "tasks")
-public class Task {
-    @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private UUID id;
-
-    @Column(nullable = false, unique = true)
-    @NotBlank
-    private String title;
-
-    @Size(max = 500)
-    private String description;
-
-    @NotNull
-    @Enumerated(EnumType.STRING)
-    private TaskStatus status; // Global task status
-
-    @NotNull
-    @Enumerated(EnumType.STRING)
-    private TaskPriority priority;
-
-    private String category;
-
-    private String attachmentUrl;
-
-    @NotNull
-    private LocalDateTime dueDate;
-
-    @CreationTimestamp
-    private LocalDateTime createdAt;
-
-    @UpdateTimestamp
-    private LocalDateTime updatedAt;
-
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
-    private User user; // Creator
-
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "workspace_id", nullable = false)
-    private Workspace workspace;
-
-    @ManyToMany
-    @JoinTable(
-            name = "task_assignees",
-            joinColumns = @JoinColumn(name = "task_id"),
-            inverseJoinColumns = @JoinColumn(name = "user_id")
-    )
-    private Set<User> assignees = new HashSet<>();
-
+@Table(name = "tasks", uniqueConstraints = @UniqueConstraint(columnNames = "title"), indexes = {
+        @Index(name = "idx_tasks_workspace_updated", columnList = "workspace_id, updated_at, id")
+})
+public class Task extends BaseTask {
+    // The only record of who is assigned. Task lists map the assignments of every task, batching loads
+    // them for a whole page at once
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     private List<TaskAssignment> assignments = new ArrayList<>();
 }
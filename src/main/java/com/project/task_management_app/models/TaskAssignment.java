@@ -1,14 +1,11 @@
 package com.project.task_management_app.models;
 
-import com.project.task_management_app.enums.AssignmentStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-
-import java.time.LocalDateTime;
-import java.util.UUID;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(
@@ -19,23 +16,14 @@ import java.util.UUID;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-public class TaskAssignment {
-    @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private UUID id;
-
+public class TaskAssignment extends BaseTaskAssignment {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id", nullable = false)
     private Task task;
 
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
-    private User assignee;
-
-    @Enumerated(EnumType.STRING)
+    // Archived assignments are never updated, only live ones carry a version
+    @Version
+    @ColumnDefault("0")
     @Column(nullable = false)
-    private AssignmentStatus status = AssignmentStatus.PENDING;
-
-    @Column(name = "assigned_at")
-    private LocalDateTime assignedAt;
+    private long version;
 }
@@ -0,0 +1,35 @@
+package com.project.task_management_app.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Marker left behind by a deleted task so delta sync can tell clients to drop it
+@Entity
+@Table(
+        name = "task_tombstones",
+        indexes = @Index(name = "idx_task_tombstones_workspace_deleted", columnList = "workspace_id, deleted_at, id")
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTombstone {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "task_id", nullable = false)
+    private UUID taskId;
+
+    @Column(name = "workspace_id", nullable = false)
+    private UUID workspaceId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
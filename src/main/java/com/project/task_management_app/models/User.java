@@ -1,6 +1,7 @@
 package com.project.task_management_app.models;
 
 import com.project.task_management_app.enums.Role;
+import com.project.task_management_app.models.id.UuidV7;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -10,6 +11,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -21,6 +24,9 @@ import java.util.*;
 @NoArgsConstructor
 @Getter
 @Setter
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+// Assignees are reached through each TaskAssignment, uncached ones are initialized a page at a time
+@BatchSize(size = 50)
 @Table(name = "users",
         uniqueConstraints = {
                 @UniqueConstraint(columnNames = "username"),
@@ -28,7 +34,7 @@ import java.util.*;
         })
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     private String userImgUrl;
@@ -66,9 +72,6 @@ public class User {
     @ManyToMany(mappedBy = "members")
     private Set<Workspace> memberWorkspaces = new HashSet<>();
 
-    @ManyToMany(mappedBy = "assignees")
-    private Set<Task> assignedTasks = new HashSet<>();
-
     @ElementCollection
     @CollectionTable(name = "user_login_history", joinColumns = @JoinColumn(name = "user_id"))
     @Column(name = "login_time")
@@ -1,11 +1,15 @@
 package com.project.task_management_app.models;
 
 import com.project.task_management_app.enums.WorkspaceType;
+import com.project.task_management_app.models.id.UuidV7;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -16,12 +20,14 @@ import java.util.*;
 @NoArgsConstructor
 @Getter
 @Setter
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "workspaces")
+@SQLRestriction("deletion_requested_at IS NULL")
 @Table(name = "workspaces", uniqueConstraints = {
         @UniqueConstraint(columnNames = "entryCode")
 })
 public class Workspace {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @NotBlank
@@ -38,6 +44,7 @@ public class Workspace {
     private User owner;
 
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "workspace-members")
     @JoinTable(
             name = "workspace_members",
             joinColumns = @JoinColumn(name = "workspace_id"),
@@ -57,4 +64,8 @@ public class Workspace {
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private WorkspaceType type = WorkspaceType.PRIVATE;
+
+    // Set when a background deletion job takes over, the workspace is invisible to queries from then on
+    @Column(name = "deletion_requested_at")
+    private LocalDateTime deletionRequestedAt;
 }
@@ -0,0 +1,76 @@
+package com.project.task_management_app.models;
+
+import com.project.task_management_app.enums.DeletionJobStatus;
+import com.project.task_management_app.enums.DeletionPhase;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Progress of an asynchronous workspace purge. Counters are updated in the same transaction as each
+// deleted chunk, so a job picked up again after a crash continues from the phase it was in.
+@Entity
+@Table(
+        name = "workspace_deletion_jobs",
+        indexes = {
+                @Index(name = "idx_workspace_deletion_jobs_workspace", columnList = "workspace_id"),
+                @Index(name = "idx_workspace_deletion_jobs_status_locked", columnList = "status, locked_until")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkspaceDeletionJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    // Plain column rather than a relation, the job outlives the workspace row
+    @Column(name = "workspace_id", nullable = false)
+    private UUID workspaceId;
+
+    @Column(nullable = false)
+    private String workspaceName;
+
+    @Column(name = "requested_by")
+    private UUID requestedBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DeletionJobStatus status = DeletionJobStatus.PENDING;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DeletionPhase phase = DeletionPhase.TASKS;
+
+    private long tasksTotal;
+
+    private long tasksDeleted;
+
+    private long assignmentsDeleted;
+
+    private long membersRemoved;
+
+    private int attempts;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,17 @@
+package com.project.task_management_app.models.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+// Marks a UUID primary key that is assigned a time-ordered version 7 UUID on insert, see UuidV7Generator
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface UuidV7 {
+}
@@ -0,0 +1,15 @@
+package com.project.task_management_app.payload.Request;
+
+import com.project.task_management_app.enums.AssignmentStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@RequiredArgsConstructor
+public class UpdateAssignmentStatusRequest {
+    @NotNull(message = "Assignment status is required")
+    private AssignmentStatus status;
+}
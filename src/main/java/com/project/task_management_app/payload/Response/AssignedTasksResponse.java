@@ -0,0 +1,18 @@
+package com.project.task_management_app.payload.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+// One page of the caller's assigned tasks ordered by due date. Pass nextCursor back for the next page
+// while hasMore, with the same filters.
+@Getter
+@Setter
+@AllArgsConstructor
+public class AssignedTasksResponse {
+    private final List<TaskResponse> tasks;
+    private final String nextCursor;
+    private final boolean hasMore;
+}
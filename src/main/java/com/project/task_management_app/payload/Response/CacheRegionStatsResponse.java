@@ -0,0 +1,19 @@
+package com.project.task_management_app.payload.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class CacheRegionStatsResponse {
+    private final String region;
+    private final long size;
+    private final Long maximumSize;
+    private final Long ttlSeconds;
+    private final long hitCount;
+    private final long missCount;
+    private final double hitRate;
+    private final long evictionCount;
+}
@@ -0,0 +1,16 @@
+package com.project.task_management_app.payload.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class CalendarDayResponse {
+    private final LocalDate date;
+    private final List<CalendarTaskResponse> tasks;
+}
@@ -0,0 +1,19 @@
+package com.project.task_management_app.payload.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Tasks due between from and to, both inclusive, grouped by due day in date order. Days without
+// due tasks are left out.
+@Getter
+@Setter
+@AllArgsConstructor
+public class CalendarResponse {
+    private final LocalDate from;
+    private final LocalDate to;
+    private final List<CalendarDayResponse> days;
+}
@@ -0,0 +1,22 @@
+package com.project.task_management_app.payload.Response;
+
+import com.project.task_management_app.enums.TaskPriority;
+import com.project.task_management_app.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class CalendarTaskResponse {
+    private final UUID id;
+    private final String title;
+    private final TaskStatus status;
+    private final TaskPriority priority;
+    private final LocalDateTime dueDate;
+    private final UUID workspaceId;
+}
@@ -0,0 +1,14 @@
+package com.project.task_management_app.payload.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+// value is null for tasks without a category
+@Getter
+@Setter
+@AllArgsConstructor
+public class FacetCount {
+    private final String value;
+    private final long count;
+}
@@ -0,0 +1,17 @@
+package com.project.task_management_app.payload.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class ProvisioningProgress {
+    private final String type = "progress";
+    private final int processed;
+    private final int total;
+    private final int created;
+    private final int rejected;
+    private final boolean done;
+}
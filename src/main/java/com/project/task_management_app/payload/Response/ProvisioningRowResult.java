@@ -0,0 +1,21 @@
+package com.project.task_management_app.payload.Response;
+
+import com.project.task_management_app.enums.ProvisioningStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class ProvisioningRowResult {
+    private final String type = "row";
+    private final int row;
+    private final String username;
+    private final String email;
+    private final ProvisioningStatus status;
+    private final String message;
+    private final UUID userId;
+}
@@ -17,4 +17,6 @@ public class TaskAssigneeResponse {
     private String email;
     private AssignmentStatus status;
     private LocalDateTime assignedAt;
+    private UUID assignmentId;
+    private Long version; // Null for archived tasks, their assignments are read-only
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.project.task_management_app.payload.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+// Delta since a sync token. Clients upsert changed, drop deletedTaskIds, keep nextToken for the next call
+// and ask again right away while hasMore. resyncRequired means the token is too old: drop local state.
+@Getter
+@Setter
+@AllArgsConstructor
+public class TaskChangesResponse {
+    private final List<TaskResponse> changed;
+    private final List<UUID> deletedTaskIds;
+    private final String nextToken;
+    private final boolean hasMore;
+    private final boolean resyncRequired;
+}
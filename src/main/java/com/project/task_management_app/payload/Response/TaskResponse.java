@@ -24,7 +24,9 @@ public class TaskResponse{
     private final LocalDateTime dueDate;
     private final LocalDateTime createdAt;
     private final LocalDateTime updatedAt;
+    private final long version; // Sent back as the ETag, If-Match on updates
     private final UUID workspaceId;
     private final UserResponse createdBy;
     private final Set<TaskAssigneeResponse> assignees;
+    private final LocalDateTime archivedAt; // Null unless the task was read from the archive
 }
@@ -0,0 +1,19 @@
+package com.project.task_management_app.payload.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+// One page of search results with counts over every matching task, most frequent value first
+@Getter
+@Setter
+@AllArgsConstructor
+public class TaskSearchResponse {
+    private final List<TaskResponse> tasks;
+    private final long totalMatches;
+    private final List<FacetCount> statusFacets;
+    private final List<FacetCount> priorityFacets;
+    private final List<FacetCount> categoryFacets;
+}
@@ -0,0 +1,28 @@
+package com.project.task_management_app.payload.Response;
+
+import com.project.task_management_app.enums.DeletionJobStatus;
+import com.project.task_management_app.enums.DeletionPhase;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class WorkspaceDeletionResponse {
+    private final UUID jobId;
+    private final UUID workspaceId;
+    private final String workspaceName;
+    private final DeletionJobStatus status;
+    private final DeletionPhase phase;
+    private final long tasksTotal;
+    private final long tasksDeleted;
+    private final long assignmentsDeleted;
+    private final long membersRemoved;
+    private final String lastError;
+    private final LocalDateTime requestedAt;
+    private final LocalDateTime completedAt;
+}
@@ -0,0 +1,18 @@
+package com.project.task_management_app.payload.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+// One page of a workspace roster, pass nextCursor as "after" to fetch the next page
+@Getter
+@Setter
+@AllArgsConstructor
+public class WorkspaceMembersResponse {
+    private final List<UserResponse> members;
+    private final UUID nextCursor;
+    private final boolean hasMore;
+}
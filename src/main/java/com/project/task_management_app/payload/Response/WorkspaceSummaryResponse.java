@@ -0,0 +1,28 @@
+package com.project.task_management_app.payload.Response;
+
+import com.project.task_management_app.enums.WorkspaceType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class WorkspaceSummaryResponse {
+    private final UUID id;
+    private final String name;
+    private final String description;
+    private final String entryCode;
+    private final WorkspaceType type;
+    private final UUID ownerId;
+    private final String ownerUsername;
+    private final String ownerImgUrl;
+    private final long memberCount;
+    private final long taskCount;
+    private final long completedTaskCount;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+}
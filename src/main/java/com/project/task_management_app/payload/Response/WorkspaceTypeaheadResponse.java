@@ -0,0 +1,15 @@
+package com.project.task_management_app.payload.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class WorkspaceTypeaheadResponse {
+    private final UUID id;
+    private final String name;
+}
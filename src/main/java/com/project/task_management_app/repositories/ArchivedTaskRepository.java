@@ -0,0 +1,110 @@
+package com.project.task_management_app.repositories;
+
+import com.project.task_management_app.enums.TaskPriority;
+import com.project.task_management_app.enums.TaskStatus;
+import com.project.task_management_app.models.ArchivedTask;
+import com.project.task_management_app.models.BaseTask;
+import com.project.task_management_app.models.Workspace;
+import com.project.task_management_app.repositories.projections.TaskFacetCountView;
+import com.project.task_management_app.repositories.projections.TaskStatusCountView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, UUID> {
+    // Live and archived tasks together, BaseTask is read through UNION ALL over both tables
+    @Query("SELECT t FROM BaseTask t WHERE t.workspace = :workspace")
+    Page<BaseTask> findWithArchivedByWorkspace(@Param("workspace") Workspace workspace, Pageable pageable);
+
+    @Query("SELECT COUNT(t) FROM BaseTask t WHERE t.workspace.id = :workspaceId")
+    long countWithArchivedByWorkspaceId(@Param("workspaceId") UUID workspaceId);
+
+    @Query("SELECT t FROM BaseTask t WHERE " +
+            "t.workspace = :workspace AND " +
+            "(:title IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', :title, '%'))) AND " +
+            "(:status IS NULL OR t.status = :status) AND " +
+            "(:priority IS NULL OR t.priority = :priority) AND " +
+            "(:category IS NULL OR LOWER(t.category) = LOWER(:category)) AND " +
+            "(:fromDate IS NULL OR t.dueDate >= :fromDate) AND " +
+            "(:toDate IS NULL OR t.dueDate <= :toDate)")
+    Page<BaseTask> searchWithArchivedByWorkspace(
+            @Param("workspace") Workspace workspace,
+            @Param("title") String title,
+            @Param("status") TaskStatus status,
+            @Param("priority") TaskPriority priority,
+            @Param("category") String category,
+            @Param("fromDate") LocalDateTime fromDate,
+            @Param("toDate") LocalDateTime toDate,
+            Pageable pageable);
+
+    // countFacetsByWorkspace over live and archived tasks
+    @Query("SELECT t.status AS status, t.priority AS priority, LOWER(t.category) AS category, COUNT(t) AS taskCount " +
+            "FROM BaseTask t WHERE " +
+            "t.workspace = :workspace AND " +
+            "(:title IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', :title, '%'))) AND " +
+            "(:status IS NULL OR t.status = :status) AND " +
+            "(:priority IS NULL OR t.priority = :priority) AND " +
+            "(:category IS NULL OR LOWER(t.category) = LOWER(:category)) AND " +
+            "(:fromDate IS NULL OR t.dueDate >= :fromDate) AND " +
+            "(:toDate IS NULL OR t.dueDate <= :toDate) " +
+            "GROUP BY t.status, t.priority, LOWER(t.category)")
+    List<TaskFacetCountView> countFacetsWithArchivedByWorkspace(
+            @Param("workspace") Workspace workspace,
+            @Param("title") String title,
+            @Param("status") TaskStatus status,
+            @Param("priority") TaskPriority priority,
+            @Param("category") String category,
+            @Param("fromDate") LocalDateTime fromDate,
+            @Param("toDate") LocalDateTime toDate);
+
+    // Dashboard counts of the archived tasks a user created or was assigned to, per status
+    @Query("SELECT t.status AS status, COUNT(t) AS taskCount FROM ArchivedTask t " +
+            "WHERE t.user.id = :userId GROUP BY t.status")
+    List<TaskStatusCountView> countCreatedByStatus(@Param("userId") UUID userId);
+
+    @Query("SELECT t.status AS status, COUNT(a) AS taskCount FROM ArchivedTaskAssignment a JOIN a.task t " +
+            "WHERE a.assignee.id = :userId GROUP BY t.status")
+    List<TaskStatusCountView> countAssignedByStatus(@Param("userId") UUID userId);
+
+    // Chunk helpers for the archival job, copied set-based in the same transaction that deletes the originals
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "archived_tasks"))
+    @Modifying
+    @Query(value = "INSERT INTO archived_tasks (id, title, description, status, priority, category, attachment_url, " +
+            "due_date, created_at, updated_at, version, user_id, workspace_id, archived_at) " +
+            "SELECT id, title, description, status, priority, category, attachment_url, " +
+            "due_date, created_at, updated_at, version, user_id, workspace_id, CAST(:archivedAt AS DATETIME(6)) FROM tasks WHERE id IN (:taskIds)",
+            nativeQuery = true)
+    int copyTasks(@Param("taskIds") Collection<UUID> taskIds, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "archived_task_assignments"))
+    @Modifying
+    @Query(value = "INSERT INTO archived_task_assignments (id, task_id, user_id, status, assigned_at) " +
+            "SELECT id, task_id, user_id, status, assigned_at FROM task_assignments WHERE task_id IN (:taskIds)",
+            nativeQuery = true)
+    int copyAssignments(@Param("taskIds") Collection<UUID> taskIds);
+
+    // Chunk helpers for the workspace deletion job
+    @Query("SELECT t.id FROM ArchivedTask t WHERE t.workspace.id = :workspaceId")
+    List<UUID> findIdsByWorkspaceId(@Param("workspaceId") UUID workspaceId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM ArchivedTaskAssignment a WHERE a.task.id IN :taskIds")
+    int deleteAssignmentsByTaskIds(@Param("taskIds") Collection<UUID> taskIds);
+
+    @Modifying
+    @Query("DELETE FROM ArchivedTask t WHERE t.id IN :taskIds")
+    int deleteByIds(@Param("taskIds") Collection<UUID> taskIds);
+}
@@ -0,0 +1,65 @@
+package com.project.task_management_app.repositories;
+
+import com.project.task_management_app.enums.OutboxStatus;
+import com.project.task_management_app.models.EmailOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, UUID> {
+    // Due messages, including ones whose claim expired because a dispatcher died mid-send
+    @Query("SELECT e.id FROM EmailOutbox e WHERE " +
+            "(e.status = com.project.task_management_app.enums.OutboxStatus.PENDING AND e.nextAttemptAt <= :now) OR " +
+            "(e.status = com.project.task_management_app.enums.OutboxStatus.SENDING AND e.lockedUntil < :now) " +
+            "ORDER BY e.nextAttemptAt")
+    List<UUID> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // Conditional claim, returns 0 when another dispatcher got there first. Claiming uses up an attempt, so a
+    // message whose send keeps killing the dispatcher still runs out of attempts when its lease is taken over.
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = com.project.task_management_app.enums.OutboxStatus.SENDING, " +
+            "e.attempts = e.attempts + 1, e.lockedUntil = :lockedUntil WHERE e.id = :id AND (" +
+            "(e.status = com.project.task_management_app.enums.OutboxStatus.PENDING AND e.nextAttemptAt <= :now) OR " +
+            "(e.status = com.project.task_management_app.enums.OutboxStatus.SENDING AND e.lockedUntil < :now " +
+            "AND e.attempts < :maxAttempts))")
+    int claim(@Param("id") UUID id,
+              @Param("now") LocalDateTime now,
+              @Param("lockedUntil") LocalDateTime lockedUntil,
+              @Param("maxAttempts") int maxAttempts);
+
+    // Expired claims that already used their last attempt are not taken over again
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = com.project.task_management_app.enums.OutboxStatus.DEAD, " +
+            "e.lockedUntil = null, e.lastError = :error " +
+            "WHERE e.status = com.project.task_management_app.enums.OutboxStatus.SENDING " +
+            "AND e.lockedUntil < :now AND e.attempts >= :maxAttempts")
+    int deadLetterExpiredClaims(@Param("now") LocalDateTime now,
+                                @Param("maxAttempts") int maxAttempts,
+                                @Param("error") String error);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = com.project.task_management_app.enums.OutboxStatus.SENT, " +
+            "e.sentAt = :sentAt, e.lockedUntil = null, e.lastError = null WHERE e.id = :id")
+    int markSent(@Param("id") UUID id, @Param("sentAt") LocalDateTime sentAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = :status, " +
+            "e.nextAttemptAt = :nextAttemptAt, e.lockedUntil = null, e.lastError = :error WHERE e.id = :id")
+    int markFailed(@Param("id") UUID id,
+                   @Param("status") OutboxStatus status,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("error") String error);
+}
@@ -0,0 +1,57 @@
+package com.project.task_management_app.repositories;
+
+import com.project.task_management_app.models.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, UUID> {
+    Optional<IdempotencyRecord> findByUserIdAndIdempotencyKey(UUID userId, String idempotencyKey);
+
+    // Hands a pending row whose lease ran out to a new request, 1 when this caller got it
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.claimedAt = :claimedAt, r.expiresAt = :expiresAt " +
+            "WHERE r.userId = :userId AND r.idempotencyKey = :idempotencyKey " +
+            "AND r.statusCode IS NULL AND r.claimedAt < :staleBefore")
+    int takeOver(@Param("userId") UUID userId,
+                 @Param("idempotencyKey") String idempotencyKey,
+                 @Param("staleBefore") LocalDateTime staleBefore,
+                 @Param("claimedAt") LocalDateTime claimedAt,
+                 @Param("expiresAt") LocalDateTime expiresAt);
+
+    // complete and release only touch the row while the caller still holds its lease
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.statusCode = :statusCode, r.contentType = :contentType, " +
+            "r.responseBody = :responseBody, r.responseHeaders = :responseHeaders " +
+            "WHERE r.userId = :userId AND r.idempotencyKey = :idempotencyKey AND r.claimedAt = :claimedAt")
+    int complete(@Param("userId") UUID userId,
+                 @Param("idempotencyKey") String idempotencyKey,
+                 @Param("claimedAt") LocalDateTime claimedAt,
+                 @Param("statusCode") int statusCode,
+                 @Param("contentType") String contentType,
+                 @Param("responseBody") byte[] responseBody,
+                 @Param("responseHeaders") String responseHeaders);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r " +
+            "WHERE r.userId = :userId AND r.idempotencyKey = :idempotencyKey AND r.claimedAt = :claimedAt")
+    int release(@Param("userId") UUID userId,
+                @Param("idempotencyKey") String idempotencyKey,
+                @Param("claimedAt") LocalDateTime claimedAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -2,16 +2,27 @@ package com.project.task_management_app.repositories;
 
 import com.project.task_management_app.models.Task;
 import com.project.task_management_app.models.TaskAssignment;
-import com.project.task_management_app.models.User;
+import com.project.task_management_app.repositories.projections.AssignmentStatusCountView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface TaskAssignmentRepository extends JpaRepository<TaskAssignment, UUID> {
     List<TaskAssignment> findByTask(Task task);
-    TaskAssignment findByTaskAndAssignee(Task task, User assignee);
-    void deleteByTaskAndAssignee(Task task, User assignee);
+
+    @Modifying
+    @Query("DELETE FROM TaskAssignment a WHERE a.task.id IN :taskIds")
+    int deleteByTaskIds(@Param("taskIds") Collection<UUID> taskIds);
+
+    @Query("SELECT t.workspace.id AS workspaceId, a.status AS status, COUNT(a) AS assignmentCount " +
+            "FROM TaskAssignment a JOIN a.task t WHERE a.assignee.id = :assigneeId " +
+            "GROUP BY t.workspace.id, a.status")
+    List<AssignmentStatusCountView> countStatusesByWorkspace(@Param("assigneeId") UUID assigneeId);
 }
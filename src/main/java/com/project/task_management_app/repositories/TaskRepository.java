@@ -1,17 +1,25 @@
 package com.project.task_management_app.repositories;
 
+import com.project.task_management_app.enums.AssignmentStatus;
 import com.project.task_management_app.enums.TaskPriority;
 import com.project.task_management_app.enums.TaskStatus;
 import com.project.task_management_app.models.Task;
 import com.project.task_management_app.models.Workspace;
+import com.project.task_management_app.repositories.projections.CalendarTaskView;
+import com.project.task_management_app.repositories.projections.TaskFacetCountView;
+import com.project.task_management_app.repositories.projections.TaskRefView;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,22 +32,37 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
 
     Optional<Task> findByIdAndWorkspace(UUID id, Workspace workspace);
 
-    List<Task> findByStatus(TaskStatus status);
-
     List<Task> findByWorkspace(Workspace workspace);
 
     List<Task> findByWorkspaceAndStatus(Workspace workspace, TaskStatus status);
 
-    List<Task> findByPriority(TaskPriority priority);
-
     List<Task> findByWorkspaceAndPriority(Workspace workspace, TaskPriority priority);
 
-    List<Task> findByCategory(String category);
-
     List<Task> findByWorkspaceAndCategory(Workspace workspace, String category);
 
     Page<Task> findByWorkspace(Workspace workspace, Pageable pageable);
 
+    // Tasks the user is assigned to, read through task_assignments (idx_task_assignments_user_status_task)
+    @Query("SELECT t FROM Task t JOIN t.assignments a WHERE a.assignee.id = :assigneeId")
+    List<Task> findAssignedTo(@Param("assigneeId") UUID assigneeId);
+
+    // Keyset page on (dueDate, id) of the tasks assigned to a user across workspaces. The assignments come
+    // from the covering idx_task_assignments_user_status_task, each task by primary key; only the user's
+    // matching assignments are sorted.
+    @Query("SELECT t FROM TaskAssignment a JOIN a.task t WHERE a.assignee.id = :assigneeId AND " +
+            "(:status IS NULL OR a.status = :status) AND " +
+            "(:dueFrom IS NULL OR t.dueDate >= :dueFrom) AND " +
+            "(:dueTo IS NULL OR t.dueDate <= :dueTo) AND " +
+            "(:afterDueDate IS NULL OR t.dueDate > :afterDueDate OR (t.dueDate = :afterDueDate AND t.id > :afterId)) " +
+            "ORDER BY t.dueDate, t.id")
+    List<Task> findAssignedPage(@Param("assigneeId") UUID assigneeId,
+                                @Param("status") AssignmentStatus status,
+                                @Param("dueFrom") LocalDateTime dueFrom,
+                                @Param("dueTo") LocalDateTime dueTo,
+                                @Param("afterDueDate") LocalDateTime afterDueDate,
+                                @Param("afterId") UUID afterId,
+                                Pageable pageable);
+
     @Query("SELECT t FROM Task t WHERE " +
             "t.workspace = :workspace AND " +
             "(:title IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', :title, '%'))) AND " +
@@ -58,8 +81,66 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
             @Param("toDate") LocalDateTime toDate,
             Pageable pageable);
 
+    // Search facets: the search filters grouped by status, priority and category in one aggregate.
+    // Categories are grouped in lower case, as the category filter compares them.
+    @Query("SELECT t.status AS status, t.priority AS priority, LOWER(t.category) AS category, COUNT(t) AS taskCount " +
+            "FROM Task t WHERE " +
+            "t.workspace = :workspace AND " +
+            "(:title IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', :title, '%'))) AND " +
+            "(:status IS NULL OR t.status = :status) AND " +
+            "(:priority IS NULL OR t.priority = :priority) AND " +
+            "(:category IS NULL OR LOWER(t.category) = LOWER(:category)) AND " +
+            "(:fromDate IS NULL OR t.dueDate >= :fromDate) AND " +
+            "(:toDate IS NULL OR t.dueDate <= :toDate) " +
+            "GROUP BY t.status, t.priority, LOWER(t.category)")
+    List<TaskFacetCountView> countFacetsByWorkspace(
+            @Param("workspace") Workspace workspace,
+            @Param("title") String title,
+            @Param("status") TaskStatus status,
+            @Param("priority") TaskPriority priority,
+            @Param("category") String category,
+            @Param("fromDate") LocalDateTime fromDate,
+            @Param("toDate") LocalDateTime toDate);
+
+    // Calendar cells of one or more workspaces, a range per workspace on idx_tasks_workspace_due
+    @Query("SELECT t.id AS id, t.title AS title, t.status AS status, t.priority AS priority, " +
+            "t.dueDate AS dueDate, t.workspace.id AS workspaceId FROM Task t " +
+            "WHERE t.workspace.id IN :workspaceIds AND t.dueDate >= :from AND t.dueDate < :to " +
+            "ORDER BY t.dueDate, t.id")
+    List<CalendarTaskView> findCalendar(@Param("workspaceIds") Collection<UUID> workspaceIds,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to);
+
     @Query(value = "SELECT * FROM tasks WHERE workspace_id = :workspaceId ORDER BY created_at DESC LIMIT 5", nativeQuery = true)
     List<Task> findRecentTasksByWorkspace(@Param("workspaceId") UUID workspaceId);
-    @Query(value = "SELECT * FROM tasks WHERE workspace_id = :workspace_id ORDER BY created_at DESC LIMIT 5", nativeQuery = true)
-    List<Task> findRecentTasksByWorkspace(@Param("workspace_id") Workspace workspace);
-}
\ No newline at end of file
+
+    // Keyset page over all task ids for the hourly status refresh
+    @Query("SELECT t.id FROM Task t WHERE :after IS NULL OR t.id > :after ORDER BY t.id")
+    List<UUID> findIdsAfter(@Param("after") UUID after, Pageable pageable);
+
+    // Chunk helpers for the workspace deletion job, set-based so nothing is loaded into the persistence context
+    @Query("SELECT t.id FROM Task t WHERE t.workspace.id = :workspaceId")
+    List<UUID> findIdsByWorkspaceId(@Param("workspaceId") UUID workspaceId, Pageable pageable);
+
+    // Oldest first, served by idx_tasks_status_updated. Locked so an update can't reopen a task between
+    // the archival job copying it and deleting it.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t.id AS id, t.workspace.id AS workspaceId FROM Task t " +
+            "WHERE t.status = :status AND t.updatedAt < :before ORDER BY t.updatedAt")
+    List<TaskRefView> findRefsByStatusUpdatedBefore(@Param("status") TaskStatus status,
+                                                    @Param("before") LocalDateTime before,
+                                                    Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id IN :taskIds")
+    int deleteByIds(@Param("taskIds") Collection<UUID> taskIds);
+
+    // Keyset page on (updatedAt, id) after the cursor, served by idx_tasks_workspace_updated
+    @Query("SELECT t FROM Task t WHERE t.workspace.id = :workspaceId AND " +
+            "(t.updatedAt > :updatedAt OR (t.updatedAt = :updatedAt AND t.id > :id)) " +
+            "ORDER BY t.updatedAt, t.id")
+    List<Task> findChangedSince(@Param("workspaceId") UUID workspaceId,
+                                @Param("updatedAt") LocalDateTime updatedAt,
+                                @Param("id") UUID id,
+                                Pageable pageable);
+}
@@ -0,0 +1,31 @@
+package com.project.task_management_app.repositories;
+
+import com.project.task_management_app.models.TaskTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, UUID> {
+    // Keyset page on (deletedAt, id) after the cursor
+    @Query("SELECT t FROM TaskTombstone t WHERE t.workspaceId = :workspaceId AND " +
+            "(t.deletedAt > :deletedAt OR (t.deletedAt = :deletedAt AND t.id > :id)) " +
+            "ORDER BY t.deletedAt, t.id")
+    List<TaskTombstone> findDeletedSince(@Param("workspaceId") UUID workspaceId,
+                                         @Param("deletedAt") LocalDateTime deletedAt,
+                                         @Param("id") UUID id,
+                                         Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM TaskTombstone t WHERE t.deletedAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
@@ -5,7 +5,9 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
@@ -13,4 +15,10 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByUsername(String username);
     Boolean existsByUsername(String username);
     Boolean existsByEmail(String email);
+
+    @Query("SELECT u.username FROM User u WHERE u.username IN :usernames")
+    Set<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
 }
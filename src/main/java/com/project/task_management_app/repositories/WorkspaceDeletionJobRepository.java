@@ -0,0 +1,36 @@
+package com.project.task_management_app.repositories;
+
+import com.project.task_management_app.models.WorkspaceDeletionJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface WorkspaceDeletionJobRepository extends JpaRepository<WorkspaceDeletionJob, UUID> {
+    Optional<WorkspaceDeletionJob> findFirstByWorkspaceIdOrderByCreatedAtDesc(UUID workspaceId);
+
+    // Unfinished jobs nobody holds a lease on, e.g. the worker died or the app restarted mid-purge
+    @Query("SELECT j.id FROM WorkspaceDeletionJob j WHERE " +
+            "j.status IN (com.project.task_management_app.enums.DeletionJobStatus.PENDING, " +
+            "com.project.task_management_app.enums.DeletionJobStatus.RUNNING) " +
+            "AND (j.lockedUntil IS NULL OR j.lockedUntil < :now) ORDER BY j.createdAt")
+    List<UUID> findClaimableIds(@Param("now") LocalDateTime now);
+
+    // Conditional claim, returns 0 when another worker holds the lease
+    @Transactional
+    @Modifying
+    @Query("UPDATE WorkspaceDeletionJob j SET j.status = com.project.task_management_app.enums.DeletionJobStatus.RUNNING, " +
+            "j.lockedUntil = :lockedUntil WHERE j.id = :id AND " +
+            "j.status IN (com.project.task_management_app.enums.DeletionJobStatus.PENDING, " +
+            "com.project.task_management_app.enums.DeletionJobStatus.RUNNING) " +
+            "AND (j.lockedUntil IS NULL OR j.lockedUntil < :now)")
+    int claim(@Param("id") UUID id, @Param("now") LocalDateTime now, @Param("lockedUntil") LocalDateTime lockedUntil);
+}
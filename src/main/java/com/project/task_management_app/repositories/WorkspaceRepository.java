@@ -2,11 +2,19 @@ package com.project.task_management_app.repositories;
 
 import com.project.task_management_app.models.User;
 import com.project.task_management_app.models.Workspace;
+import com.project.task_management_app.repositories.projections.WorkspaceNameView;
+import com.project.task_management_app.repositories.projections.WorkspaceSummaryView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,9 +23,69 @@ import java.util.UUID;
 public interface WorkspaceRepository extends JpaRepository<Workspace, UUID> {
     Optional<Workspace> findByIdAndEntryCode(UUID id, String entryCode);
     Optional<Workspace> findByName(String name);
-    List<Workspace> findByOwner(User owner);
     @Query("SELECT CASE WHEN COUNT(w) > 0 THEN true ELSE false END " +
             "FROM Workspace w WHERE LOWER(w.name) = LOWER(:name) AND w.owner = :owner")
     boolean existsByNameIgnoreCaseAndOwner(@Param("name") String name, @Param("owner") User owner);
     boolean existsById(UUID id);
+
+    @Query("SELECT CASE WHEN COUNT(m) > 0 THEN true ELSE false END " +
+            "FROM Workspace w JOIN w.members m WHERE w.id = :workspaceId AND m.id = :userId")
+    boolean existsMember(@Param("workspaceId") UUID workspaceId, @Param("userId") UUID userId);
+
+    @Query("SELECT m.id FROM Workspace w JOIN w.members m WHERE w.id = :workspaceId")
+    List<UUID> findMemberIds(@Param("workspaceId") UUID workspaceId);
+
+    @Query("SELECT COUNT(m) FROM Workspace w JOIN w.members m WHERE w.id = :workspaceId")
+    long countMembers(@Param("workspaceId") UUID workspaceId);
+
+    // Membership changes go straight to the join table so the members collection is never loaded. Without the
+    // native spaces hint Hibernate would drop every second-level cache region on each of these statements; the
+    // cached Workspace.members entry is evicted by WorkspaceMembershipService.evict instead.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "workspace_members"))
+    @Modifying
+    @Query(value = "INSERT INTO workspace_members (workspace_id, user_id) VALUES (:workspaceId, :userId)", nativeQuery = true)
+    int addMember(@Param("workspaceId") UUID workspaceId, @Param("userId") UUID userId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "workspace_members"))
+    @Modifying
+    @Query(value = "DELETE FROM workspace_members WHERE workspace_id = :workspaceId AND user_id = :userId", nativeQuery = true)
+    int removeMember(@Param("workspaceId") UUID workspaceId, @Param("userId") UUID userId);
+
+    @Query("SELECT w.id AS id, w.name AS name, w.description AS description, w.entryCode AS entryCode, " +
+            "w.type AS type, w.createdAt AS createdAt, w.updatedAt AS updatedAt, " +
+            "o.id AS ownerId, o.username AS ownerUsername, o.userImgUrl AS ownerImgUrl, " +
+            "(SELECT COUNT(m) FROM Workspace w2 JOIN w2.members m WHERE w2 = w) AS memberCount, " +
+            "(SELECT COUNT(t) FROM Task t WHERE t.workspace = w) AS taskCount, " +
+            "(SELECT COUNT(t) FROM Task t WHERE t.workspace = w " +
+            "AND t.status = com.project.task_management_app.enums.TaskStatus.COMPLETED) AS completedTaskCount " +
+            "FROM Workspace w JOIN w.owner o WHERE o.id = :ownerId ORDER BY w.createdAt")
+    List<WorkspaceSummaryView> findSummariesByOwnerId(@Param("ownerId") UUID ownerId);
+
+    // Every workspace the user owns or belongs to, source of the typeahead index. A UNION rather than
+    // "owner OR IN (members)", which MySQL can only answer by scanning every workspace.
+    @Query("SELECT w.id AS id, w.name AS name FROM Workspace w WHERE w.owner.id = :userId " +
+            "UNION SELECT w.id, w.name FROM Workspace w JOIN w.members m WHERE m.id = :userId")
+    List<WorkspaceNameView> findNamesAccessibleBy(@Param("userId") UUID userId);
+
+    // Keyset page of the roster ordered by user id, pass a page size one larger than needed to detect more rows
+    @Query("SELECT m FROM Workspace w JOIN w.members m " +
+            "WHERE w.id = :workspaceId AND (:after IS NULL OR m.id > :after) ORDER BY m.id")
+    List<User> findMembersAfter(@Param("workspaceId") UUID workspaceId, @Param("after") UUID after, Pageable pageable);
+
+    // Native on purpose: workspaces marked for deletion are hidden from JPQL by the entity restriction.
+    // The page size is applied by Hibernate in the dialect's own syntax.
+    // Selects users rather than bare ids so the id column goes through the entity's UUID mapping on every dialect.
+    @Query(value = "SELECT u.* FROM users u JOIN workspace_members m ON m.user_id = u.id WHERE m.workspace_id = :workspaceId",
+            nativeQuery = true)
+    List<User> findMembersForPurge(@Param("workspaceId") UUID workspaceId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "workspace_members"))
+    @Modifying
+    @Query(value = "DELETE FROM workspace_members WHERE workspace_id = :workspaceId AND user_id IN (:userIds)", nativeQuery = true)
+    int deleteMembers(@Param("workspaceId") UUID workspaceId, @Param("userIds") Collection<UUID> userIds);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "workspaces"))
+    @Modifying
+    @Query(value = "DELETE FROM workspaces WHERE id = :workspaceId", nativeQuery = true)
+    int deleteRowById(@Param("workspaceId") UUID workspaceId);
 }
@@ -0,0 +1,12 @@
+package com.project.task_management_app.repositories.projections;
+
+import com.project.task_management_app.enums.AssignmentStatus;
+
+import java.util.UUID;
+
+// Number of one user's assignments per workspace and status, for dashboard summaries
+public interface AssignmentStatusCountView {
+    UUID getWorkspaceId();
+    AssignmentStatus getStatus();
+    long getAssignmentCount();
+}
@@ -0,0 +1,17 @@
+package com.project.task_management_app.repositories.projections;
+
+import com.project.task_management_app.enums.TaskPriority;
+import com.project.task_management_app.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// The columns a calendar cell shows, read without loading Task entities
+public interface CalendarTaskView {
+    UUID getId();
+    String getTitle();
+    TaskStatus getStatus();
+    TaskPriority getPriority();
+    LocalDateTime getDueDate();
+    UUID getWorkspaceId();
+}
@@ -0,0 +1,12 @@
+package com.project.task_management_app.repositories.projections;
+
+import com.project.task_management_app.enums.TaskPriority;
+import com.project.task_management_app.enums.TaskStatus;
+
+// Number of matching tasks per status, priority and category combination, folded into search facets
+public interface TaskFacetCountView {
+    TaskStatus getStatus();
+    TaskPriority getPriority();
+    String getCategory();
+    long getTaskCount();
+}
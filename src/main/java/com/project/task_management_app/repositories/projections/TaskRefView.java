@@ -0,0 +1,9 @@
+package com.project.task_management_app.repositories.projections;
+
+import java.util.UUID;
+
+// A task id with its workspace, for bulk jobs that must leave a tombstone per task
+public interface TaskRefView {
+    UUID getId();
+    UUID getWorkspaceId();
+}
@@ -0,0 +1,9 @@
+package com.project.task_management_app.repositories.projections;
+
+import com.project.task_management_app.enums.TaskStatus;
+
+// Number of tasks per status, for dashboard counts over tasks that are no longer loaded as entities
+public interface TaskStatusCountView {
+    TaskStatus getStatus();
+    long getTaskCount();
+}
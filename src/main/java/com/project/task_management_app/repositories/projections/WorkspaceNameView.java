@@ -0,0 +1,8 @@
+package com.project.task_management_app.repositories.projections;
+
+import java.util.UUID;
+
+public interface WorkspaceNameView {
+    UUID getId();
+    String getName();
+}
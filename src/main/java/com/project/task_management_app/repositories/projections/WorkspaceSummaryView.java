@@ -0,0 +1,23 @@
+package com.project.task_management_app.repositories.projections;
+
+import com.project.task_management_app.enums.WorkspaceType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// One row per workspace for list screens, counts are computed in the query instead of loading collections
+public interface WorkspaceSummaryView {
+    UUID getId();
+    String getName();
+    String getDescription();
+    String getEntryCode();
+    WorkspaceType getType();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+    UUID getOwnerId();
+    String getOwnerUsername();
+    String getOwnerImgUrl();
+    long getMemberCount();
+    long getTaskCount();
+    long getCompletedTaskCount();
+}
@@ -1,8 +1,10 @@
 package com.project.task_management_app.security;
 
+import com.project.task_management_app.enums.Role;
 import com.project.task_management_app.security.jwt.AuthEntryPointJwt;
 import com.project.task_management_app.security.jwt.AuthTokenFilter;
 import com.project.task_management_app.services.UserDetailsServiceImpl;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -76,8 +78,11 @@ public class WebSecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 // Authorize requests
                 .authorizeHttpRequests(auth -> auth
+                        // Streamed responses finish on an async dispatch, the original request was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         .requestMatchers(AUTH_WHITELIST).permitAll()
                         .requestMatchers("/api/v1/auth/**").permitAll()
+                        .requestMatchers("/api/v1/admin/**").hasAuthority(Role.ADMIN.name())
                         .requestMatchers("/api/v1/users/**").authenticated()
                         .requestMatchers("/api/v1/workspaces/**").authenticated()
                         .anyRequest().denyAll()
@@ -0,0 +1,81 @@
+package com.project.task_management_app.services;
+
+import com.project.task_management_app.enums.AssignmentStatus;
+import com.project.task_management_app.exceptions.InvalidRequestException;
+import com.project.task_management_app.mapper.TaskMapper;
+import com.project.task_management_app.models.Task;
+import com.project.task_management_app.payload.Response.APIResponse;
+import com.project.task_management_app.payload.Response.AssignedTasksResponse;
+import com.project.task_management_app.payload.Response.TaskResponse;
+import com.project.task_management_app.repositories.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+// Tasks assigned to the caller across all workspaces, paged by an opaque (dueDate, id) cursor so a page
+// costs the same however deep the client scrolls. Filters apply to the caller's assignment status and
+// the task due date.
+@Service
+@RequiredArgsConstructor
+public class AssignedTaskService {
+    private static final String CURSOR_VERSION = "v1";
+
+    private final TaskRepository taskRepository;
+
+    @Transactional(readOnly = true)
+    public APIResponse<AssignedTasksResponse> getAssignedTasks(UUID userId, AssignmentStatus status,
+                                                               LocalDateTime dueFrom, LocalDateTime dueTo,
+                                                               String cursor, int limit) {
+        Cursor after = cursor == null || cursor.isBlank() ? null : Cursor.decode(cursor);
+
+        List<Task> tasks = taskRepository.findAssignedPage(userId, status, dueFrom, dueTo,
+                after != null ? after.dueDate() : null, after != null ? after.taskId() : null,
+                PageRequest.of(0, limit + 1));
+        boolean hasMore = tasks.size() > limit;
+        if (hasMore) tasks = tasks.subList(0, limit);
+
+        String nextCursor = null;
+        if (!tasks.isEmpty()) {
+            Task last = tasks.get(tasks.size() - 1);
+            nextCursor = new Cursor(last.getDueDate(), last.getId()).encode();
+        }
+
+        List<TaskResponse> taskResponses = tasks.stream().map(TaskMapper::mapToTaskResponse).toList();
+        return new APIResponse<>(
+                new AssignedTasksResponse(taskResponses, nextCursor, hasMore),
+                "Assigned tasks retrieved successfully",
+                true,
+                200,
+                "GET",
+                "/api/v1/users/me/tasks",
+                String.valueOf(LocalDateTime.now())
+        );
+    }
+
+    private record Cursor(LocalDateTime dueDate, UUID taskId) {
+        String encode() {
+            String raw = String.join("|", CURSOR_VERSION, dueDate.toString(), taskId.toString());
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+                if (parts.length != 3 || !CURSOR_VERSION.equals(parts[0])) {
+                    throw new InvalidRequestException("Invalid cursor");
+                }
+                return new Cursor(LocalDateTime.parse(parts[1]), UUID.fromString(parts[2]));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new InvalidRequestException("Invalid cursor");
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.project.task_management_app.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.project.task_management_app.payload.Response.CacheRegionStatsResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import javax.cache.CacheManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.StreamSupport;
+
+// Size, hit and eviction counters of the second-level cache regions, read from the Caffeine caches
+// behind Hibernate's JCache regions. Empty when the second-level cache is disabled.
+@Service
+public class CacheStatsService {
+    private final ObjectProvider<CacheManager> hibernateCacheManager;
+
+    public CacheStatsService(ObjectProvider<CacheManager> hibernateCacheManager) {
+        this.hibernateCacheManager = hibernateCacheManager;
+    }
+
+    public List<CacheRegionStatsResponse> getSecondLevelCacheStats() {
+        CacheManager cacheManager = hibernateCacheManager.getIfAvailable();
+        if (cacheManager == null) {
+            return List.of();
+        }
+
+        List<CacheRegionStatsResponse> regions = new ArrayList<>();
+        for (String name : StreamSupport.stream(cacheManager.getCacheNames().spliterator(), false).sorted().toList()) {
+            javax.cache.Cache<Object, Object> region = cacheManager.getCache(name);
+            if (region != null) {
+                regions.add(toResponse(name, region.unwrap(Cache.class)));
+            }
+        }
+        return regions;
+    }
+
+    private static CacheRegionStatsResponse toResponse(String name, Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        Policy<?, ?> policy = cache.policy();
+        return new CacheRegionStatsResponse(
+                name,
+                cache.estimatedSize(),
+                policy.eviction().map(Policy.Eviction::getMaximum).orElse(null),
+                policy.expireAfterWrite().map(expiration -> expiration.getExpiresAfter().toSeconds()).orElse(null),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount()
+        );
+    }
+}
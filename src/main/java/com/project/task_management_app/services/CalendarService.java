@@ -0,0 +1,112 @@
+package com.project.task_management_app.services;
+
+import com.project.task_management_app.exceptions.InvalidRequestException;
+import com.project.task_management_app.exceptions.ResourceNotFoundException;
+import com.project.task_management_app.payload.Response.APIResponse;
+import com.project.task_management_app.payload.Response.CalendarDayResponse;
+import com.project.task_management_app.payload.Response.CalendarResponse;
+import com.project.task_management_app.payload.Response.CalendarTaskResponse;
+import com.project.task_management_app.repositories.TaskRepository;
+import com.project.task_management_app.repositories.WorkspaceRepository;
+import com.project.task_management_app.repositories.projections.CalendarTaskView;
+import com.project.task_management_app.repositories.projections.WorkspaceNameView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// Due tasks bucketed by day for calendar views. Only the columns a calendar cell shows are read, one
+// (workspace_id, due_date) range scan per workspace, and the span is capped so a request cannot pull
+// a workspace's whole history.
+@Service
+public class CalendarService {
+    private final TaskRepository taskRepository;
+    private final WorkspaceRepository workspaceRepository;
+    private final WorkspaceMembershipService workspaceMembershipService;
+    private final int maxDays;
+
+    public CalendarService(TaskRepository taskRepository,
+                           WorkspaceRepository workspaceRepository,
+                           WorkspaceMembershipService workspaceMembershipService,
+                           @Value("${app.calendar.max-days:92}") int maxDays) {
+        this.taskRepository = taskRepository;
+        this.workspaceRepository = workspaceRepository;
+        this.workspaceMembershipService = workspaceMembershipService;
+        this.maxDays = maxDays;
+    }
+
+    @Transactional(readOnly = true)
+    public APIResponse<CalendarResponse> getWorkspaceCalendar(UUID workspaceId, UUID userId, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        if (!workspaceRepository.existsById(workspaceId)) {
+            throw new ResourceNotFoundException("Workspace not found with id: " + workspaceId);
+        }
+        workspaceMembershipService.requireMember(workspaceId, userId);
+
+        return response(calendar(List.of(workspaceId), from, to),
+                "/api/v1/workspaces/" + workspaceId + "/tasks/calendar");
+    }
+
+    // Without workspaceIds the calendar covers every workspace the user owns or belongs to
+    @Transactional(readOnly = true)
+    public APIResponse<CalendarResponse> getUserCalendar(UUID userId, Set<UUID> workspaceIds, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        Collection<UUID> ids;
+        if (workspaceIds == null || workspaceIds.isEmpty()) {
+            ids = workspaceRepository.findNamesAccessibleBy(userId).stream().map(WorkspaceNameView::getId).toList();
+        } else {
+            workspaceIds.forEach(workspaceId -> workspaceMembershipService.requireMember(workspaceId, userId));
+            ids = workspaceIds;
+        }
+
+        return response(calendar(ids, from, to), "/api/v1/users/me/calendar");
+    }
+
+    private CalendarResponse calendar(Collection<UUID> workspaceIds, LocalDate from, LocalDate to) {
+        List<CalendarTaskView> tasks = workspaceIds.isEmpty() ? List.of()
+                : taskRepository.findCalendar(workspaceIds, from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+
+        // Rows arrive ordered by due date, so the days come out in order as well
+        Map<LocalDate, List<CalendarTaskResponse>> byDay = new LinkedHashMap<>();
+        for (CalendarTaskView task : tasks) {
+            byDay.computeIfAbsent(task.getDueDate().toLocalDate(), day -> new ArrayList<>())
+                    .add(new CalendarTaskResponse(task.getId(), task.getTitle(), task.getStatus(),
+                            task.getPriority(), task.getDueDate(), task.getWorkspaceId()));
+        }
+        List<CalendarDayResponse> days = byDay.entrySet().stream()
+                .map(day -> new CalendarDayResponse(day.getKey(), day.getValue()))
+                .toList();
+        return new CalendarResponse(from, to, days);
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new InvalidRequestException("'to' must not be before 'from'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) + 1 > maxDays) {
+            throw new InvalidRequestException("Calendar range must not exceed " + maxDays + " days");
+        }
+    }
+
+    private static APIResponse<CalendarResponse> response(CalendarResponse calendar, String path) {
+        return new APIResponse<>(
+                calendar,
+                "Calendar retrieved successfully",
+                true,
+                200,
+                "GET",
+                path,
+                String.valueOf(LocalDateTime.now())
+        );
+    }
+}
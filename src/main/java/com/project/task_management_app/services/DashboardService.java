@@ -4,22 +4,24 @@ import com.project.task_management_app.enums.AssignmentStatus;
 import com.project.task_management_app.enums.TaskStatus;
 import com.project.task_management_app.enums.WorkspaceType;
 import com.project.task_management_app.models.Task;
-import com.project.task_management_app.models.TaskAssignment;
 import com.project.task_management_app.models.User;
 import com.project.task_management_app.models.Workspace;
 import com.project.task_management_app.payload.Response.Dashboard.*;
+import com.project.task_management_app.repositories.ArchivedTaskRepository;
 import com.project.task_management_app.repositories.TaskAssignmentRepository;
 import com.project.task_management_app.repositories.TaskRepository;
 import com.project.task_management_app.repositories.UserRepository;
 import com.project.task_management_app.repositories.WorkspaceRepository;
+import com.project.task_management_app.repositories.projections.AssignmentStatusCountView;
+import com.project.task_management_app.repositories.projections.TaskStatusCountView;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
@@ -29,18 +31,24 @@ public class DashboardService {
     private final WorkspaceRepository workspaceRepository;
     private final TaskRepository taskRepository;
     private final TaskAssignmentRepository taskAssignmentRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
 
+    @Transactional(readOnly = true)
     public DashboardResponse getUserDashboardData(UserDetailsImpl userDetails) {
         User user = userRepository.findById(userDetails.getId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
 
         int totalWorkspaces = user.getOwnedWorkspaces().size() + user.getMemberWorkspaces().size();
-        int totalTasks = user.getCreatedTasks().size() + user.getAssignedTasks().size();
+        List<Task> assignedTasks = taskRepository.findAssignedTo(user.getId());
+        // Completed tasks move to the archive after a while, they are counted from there without loading them
+        Map<TaskStatus, Long> archivedCreated = countByStatus(archivedTaskRepository.countCreatedByStatus(user.getId()));
+        Map<TaskStatus, Long> archivedAssigned = countByStatus(archivedTaskRepository.countAssignedByStatus(user.getId()));
 
-        TaskStats taskStats = getTaskStats(user);
+        TaskStats taskStats = getTaskStats(user, assignedTasks, archivedCreated, archivedAssigned);
+        int totalTasks = taskStats.getTotalTasks();
         List<WorkspaceMembershipStatus> workspaceStats = getWorkspaceStats(user);
         LoginStreakStats loginStreakStats = calculateLoginStreak(user);
-        List<Achievement> achievements = getAchievements(user);
+        List<Achievement> achievements = getAchievements(user, archivedCreated);
 
         return new DashboardResponse(
                 totalWorkspaces,
@@ -52,7 +60,16 @@ public class DashboardService {
         );
     }
 
-    private TaskStats getTaskStats(User user) {
+    private Map<TaskStatus, Long> countByStatus(List<TaskStatusCountView> rows) {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatusCountView row : rows) {
+            counts.merge(row.getStatus(), row.getTaskCount(), Long::sum);
+        }
+        return counts;
+    }
+
+    private TaskStats getTaskStats(User user, List<Task> assignedTasks,
+                                   Map<TaskStatus, Long> archivedCreated, Map<TaskStatus, Long> archivedAssigned) {
         // Calculate task stats (TODO, IN_PROGRESS, etc.) for the user
         int todoTasks = 0;
         int inProgressTasks = 0;
@@ -76,7 +93,7 @@ public class DashboardService {
         }
 
         // Iterate through tasks assigned to the user
-        for (Task task : user.getAssignedTasks()) {
+        for (Task task : assignedTasks) {
             if (task.getStatus() == TaskStatus.TODO) {
                 todoTasks++;
             } else if (task.getStatus() == TaskStatus.IN_PROGRESS) {
@@ -90,6 +107,15 @@ public class DashboardService {
             }
         }
 
+        // Add the archived tasks created by or assigned to the user
+        for (Map<TaskStatus, Long> archived : List.of(archivedCreated, archivedAssigned)) {
+            todoTasks += archived.getOrDefault(TaskStatus.TODO, 0L).intValue();
+            inProgressTasks += archived.getOrDefault(TaskStatus.IN_PROGRESS, 0L).intValue();
+            completedTasks += archived.getOrDefault(TaskStatus.COMPLETED, 0L).intValue();
+            overdueTasks += archived.getOrDefault(TaskStatus.OVERDUE, 0L).intValue();
+            upcomingTasks += archived.getOrDefault(TaskStatus.UPCOMING, 0L).intValue();
+        }
+
         return new TaskStats(
                 todoTasks + inProgressTasks + completedTasks + overdueTasks + upcomingTasks,
                 todoTasks,
@@ -112,9 +138,15 @@ public class DashboardService {
             ));
         }
 
-        // Stats for workspaces where the user is a member
+        // Stats for workspaces where the user is a member, from one grouped query over all their assignments
+        Map<UUID, Set<AssignmentStatus>> statusesByWorkspace = new HashMap<>();
+        for (AssignmentStatusCountView row : taskAssignmentRepository.countStatusesByWorkspace(user.getId())) {
+            statusesByWorkspace.computeIfAbsent(row.getWorkspaceId(), id -> EnumSet.noneOf(AssignmentStatus.class))
+                    .add(row.getStatus());
+        }
         for (Workspace workspace : user.getMemberWorkspaces()) {
-            AssignmentStatus overallStatus = calculateOverallAssignmentStatus(user, workspace);
+            AssignmentStatus overallStatus = calculateOverallAssignmentStatus(
+                    statusesByWorkspace.getOrDefault(workspace.getId(), Set.of()));
             workspaceStats.add(new WorkspaceMembershipStatus(
                     workspace.getId(),
                     workspace.getName(),
@@ -125,39 +157,19 @@ public class DashboardService {
         return workspaceStats;
     }
 
-    private AssignmentStatus calculateOverallAssignmentStatus(User user, Workspace workspace) {
-        List<Task> workspaceTasks = taskRepository.findByWorkspace(workspace);
-        boolean allCompleted = true;
-        boolean anyInProgress = false;
-        boolean anyPending = false;
-
-        for (Task task : workspaceTasks) {
-            TaskAssignment assignment = taskAssignmentRepository.findByTaskAndAssignee(task, user);
-            if (assignment != null) {
-                if (assignment.getStatus() != AssignmentStatus.COMPLETED) {
-                    allCompleted = false;
-                }
-                if (assignment.getStatus() == AssignmentStatus.IN_PROGRESS) {
-                    anyInProgress = true;
-                }
-                if (assignment.getStatus() == AssignmentStatus.PENDING) {
-                    anyPending = true;
-                }
-            }
-        }
+    private AssignmentStatus calculateOverallAssignmentStatus(Set<AssignmentStatus> statuses) {
+        boolean allCompleted = statuses.stream().allMatch(status -> status == AssignmentStatus.COMPLETED);
 
         if (allCompleted) {
             return AssignmentStatus.COMPLETED;
-        } else if (anyInProgress) {
+        } else if (statuses.contains(AssignmentStatus.IN_PROGRESS)) {
             return AssignmentStatus.IN_PROGRESS;
-        } else if (anyPending) {
-            return AssignmentStatus.PENDING;
         } else {
             return AssignmentStatus.PENDING; // Default
         }
     }
 
-    private LoginStreakStats calculateLoginStreak(User user) {
+    LoginStreakStats calculateLoginStreak(User user) {
         if (user.getLoginHistory() == null || user.getLoginHistory().isEmpty()) {
             return new LoginStreakStats(0, 0, "Bronze", 1); // Default for no logins
         }
@@ -218,15 +230,17 @@ public class DashboardService {
         return new LoginStreakStats(currentStreak, longestStreak, nextBadge, daysToNextBadge);
     }
 
-    private List<Achievement> getAchievements(User user) {
+    private List<Achievement> getAchievements(User user, Map<TaskStatus, Long> archivedCreated) {
         // Implement logic to determine which achievements are unlocked
         // based on user activity (e.g., tasks completed, login streak).
         // You'll need to define your achievement criteria.
         // For example:
+        long createdTasks = user.getCreatedTasks().size()
+                + archivedCreated.values().stream().mapToLong(Long::longValue).sum();
         List<Achievement> achievements = new ArrayList<>();
-        achievements.add(new Achievement("Bronze Starter", "Complete your first task", "/bronze.png", !user.getCreatedTasks().isEmpty()));
+        achievements.add(new Achievement("Bronze Starter", "Complete your first task", "/bronze.png", createdTasks > 0));
         achievements.add(new Achievement("Silver Streak", "Login for 7 consecutive days", "/silver.png", false)); // Placeholder
-        achievements.add(new Achievement("Gold Taskmaster", "Complete 50 tasks", "/gold.png", user.getCreatedTasks().size() > 50));
+        achievements.add(new Achievement("Gold Taskmaster", "Complete 50 tasks", "/gold.png", createdTasks > 50));
 
         return achievements;
     }
@@ -0,0 +1,175 @@
+package com.project.task_management_app.services;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.task_management_app.enums.OutboxStatus;
+import com.project.task_management_app.models.EmailOutbox;
+import com.project.task_management_app.repositories.EmailOutboxRepository;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+@Service
+@Slf4j
+public class EmailOutboxDispatcher {
+    private static final TypeReference<Map<String, String>> VARIABLES_TYPE = new TypeReference<>() {};
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailService emailService;
+    private final ObjectMapper objectMapper;
+    private final Executor mailDispatchExecutor;
+    private final boolean enabled;
+    private final int workers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration claimLease;
+
+    public EmailOutboxDispatcher(EmailOutboxRepository emailOutboxRepository,
+                                 EmailService emailService,
+                                 ObjectMapper objectMapper,
+                                 @Qualifier("mailDispatchExecutor") Executor mailDispatchExecutor,
+                                 @Value("${app.mail.outbox.enabled:true}") boolean enabled,
+                                 @Value("${app.mail.outbox.workers:4}") int workers,
+                                 @Value("${app.mail.outbox.batch-size:20}") int batchSize,
+                                 @Value("${app.mail.outbox.max-attempts:6}") int maxAttempts,
+                                 @Value("${app.mail.outbox.initial-backoff:30s}") Duration initialBackoff,
+                                 @Value("${app.mail.outbox.max-backoff:1h}") Duration maxBackoff,
+                                 @Value("${app.mail.outbox.claim-lease:5m}") Duration claimLease) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.emailService = emailService;
+        this.objectMapper = objectMapper;
+        this.mailDispatchExecutor = mailDispatchExecutor;
+        this.enabled = enabled;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.claimLease = claimLease;
+    }
+
+    // Poll the outbox and keep draining while full rounds come back
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval:5s}")
+    public void dispatchPending() {
+        if (!enabled) return;
+
+        int dispatched;
+        do {
+            dispatched = dispatchOnce();
+        } while (dispatched == workers * batchSize);
+    }
+
+    // Claim one round of due messages and send them, one batch (and one SMTP connection) per worker
+    public int dispatchOnce() {
+        LocalDateTime now = LocalDateTime.now();
+        int abandoned = emailOutboxRepository.deadLetterExpiredClaims(now, maxAttempts,
+                "Claim expired on the last attempt, the dispatcher likely crashed while sending");
+        if (abandoned > 0) {
+            log.error("Dead-lettered {} emails whose last attempt never finished", abandoned);
+        }
+
+        List<UUID> dueIds = emailOutboxRepository.findDueIds(now, PageRequest.of(0, workers * batchSize));
+
+        LocalDateTime lockedUntil = now.plus(claimLease);
+        List<UUID> claimed = dueIds.stream()
+                .filter(id -> emailOutboxRepository.claim(id, now, lockedUntil, maxAttempts) == 1)
+                .toList();
+        if (claimed.isEmpty()) return 0;
+
+        List<EmailOutbox> emails = emailOutboxRepository.findAllById(claimed);
+        List<CompletableFuture<Void>> running = new ArrayList<>();
+        for (int start = 0; start < emails.size(); start += batchSize) {
+            List<EmailOutbox> batch = emails.subList(start, Math.min(start + batchSize, emails.size()));
+            running.add(CompletableFuture.runAsync(() -> sendBatch(batch), mailDispatchExecutor));
+        }
+        CompletableFuture.allOf(running.toArray(CompletableFuture[]::new)).join();
+
+        return emails.size();
+    }
+
+    private void sendBatch(List<EmailOutbox> batch) {
+        Map<MimeMessage, EmailOutbox> messages = new LinkedHashMap<>();
+        for (EmailOutbox email : batch) {
+            try {
+                Map<String, String> variables = objectMapper.readValue(email.getVariables(), VARIABLES_TYPE);
+                String html = emailService.renderTemplate(email.getTemplateName(), variables);
+                messages.put(emailService.createHtmlMessage(email.getRecipient(), email.getSubject(), html), email);
+            } catch (IllegalArgumentException e) {
+                // A missing template variable fails the same way on every attempt
+                deadLetter(email, e);
+            } catch (Exception e) {
+                markFailed(email, e);
+            }
+        }
+        if (messages.isEmpty()) return;
+
+        Set<Object> failed = Collections.emptySet();
+        Map<Object, Exception> failures = Collections.emptyMap();
+        try {
+            emailService.sendAll(messages.keySet().toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages();
+            failed = failures.keySet();
+            if (failed.isEmpty()) {
+                messages.values().forEach(email -> markFailed(email, e));
+                return;
+            }
+        } catch (MailException e) {
+            messages.values().forEach(email -> markFailed(email, e));
+            return;
+        }
+
+        LocalDateTime sentAt = LocalDateTime.now();
+        for (Map.Entry<MimeMessage, EmailOutbox> entry : messages.entrySet()) {
+            if (failed.contains(entry.getKey())) {
+                markFailed(entry.getValue(), failures.get(entry.getKey()));
+            } else {
+                emailOutboxRepository.markSent(entry.getValue().getId(), sentAt);
+            }
+        }
+    }
+
+    // Retry with exponential backoff, dead-letter the message once it has used all its attempts.
+    // The attempt was already counted when the message was claimed.
+    private void markFailed(EmailOutbox email, Exception error) {
+        int attempts = email.getAttempts();
+        if (attempts >= maxAttempts) {
+            deadLetter(email, error);
+            return;
+        }
+
+        String message = errorMessage(error);
+        log.warn("Email {} to {} failed (attempt {}), retrying: {}", email.getId(), email.getRecipient(), attempts, message);
+        emailOutboxRepository.markFailed(email.getId(), OutboxStatus.PENDING, LocalDateTime.now().plus(backoff(attempts)), message);
+    }
+
+    private void deadLetter(EmailOutbox email, Exception error) {
+        String message = errorMessage(error);
+        log.error("Giving up on email {} to {} after {} attempts: {}", email.getId(), email.getRecipient(), email.getAttempts(), message);
+        emailOutboxRepository.markFailed(email.getId(), OutboxStatus.DEAD, null, message);
+    }
+
+    private static String errorMessage(Exception error) {
+        String message = error.getMessage() == null ? error.getClass().getSimpleName() : error.getMessage();
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
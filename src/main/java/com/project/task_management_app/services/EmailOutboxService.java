@@ -0,0 +1,40 @@
+package com.project.task_management_app.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.task_management_app.enums.OutboxStatus;
+import com.project.task_management_app.models.EmailOutbox;
+import com.project.task_management_app.repositories.EmailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class EmailOutboxService {
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final ObjectMapper objectMapper;
+
+    // Record an email intent, joins the caller's transaction so it commits (or rolls back) with the business change
+    public EmailOutbox enqueue(String to, String subject, String templateName, Map<String, String> variables) {
+        EmailOutbox email = new EmailOutbox();
+        email.setRecipient(to);
+        email.setSubject(subject);
+        email.setTemplateName(templateName);
+        email.setVariables(writeVariables(variables));
+        email.setStatus(OutboxStatus.PENDING);
+        email.setAttempts(0);
+        email.setNextAttemptAt(LocalDateTime.now());
+        return emailOutboxRepository.save(email);
+    }
+
+    private String writeVariables(Map<String, String> variables) {
+        try {
+            return objectMapper.writeValueAsString(variables);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Email template variables are not serializable", e);
+        }
+    }
+}
@@ -1,31 +1,44 @@
 package com.project.task_management_app.services;
 
+import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.ResourceLoader;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
-import org.springframework.util.StreamUtils;
 
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @Slf4j
 public class EmailService {
-    @Autowired
-    private JavaMailSender javaMailSender;
+    public static final String WORKSPACE_WELCOME_TEMPLATE = "workspace-welcome.html";
+    public static final String WORKSPACE_INVITE_TEMPLATE = "workspace-invite.html";
+    public static final String TASK_REMINDER_TEMPLATE = "task-reminder.html";
+    public static final String TASK_DIGEST_TEMPLATE = "task-digest.html";
+    public static final String TASK_DIGEST_ROW_TEMPLATE = "task-digest-row.html";
 
-    @Autowired
-    private ResourceLoader resourceLoader;
+    // One line of the digest table, values are display strings
+    public record DigestTask(String title, String workspaceName, String dueDate, String status, String link) {
+    }
+
+    private final JavaMailSender javaMailSender;
+    private final EmailTemplateEngine emailTemplateEngine;
+    private final EmailOutboxService emailOutboxService;
+    private final String appDomain;
 
-    @Value("${app.domain}")
-    private String appDomain;
+    public EmailService(JavaMailSender javaMailSender,
+                        EmailTemplateEngine emailTemplateEngine,
+                        EmailOutboxService emailOutboxService,
+                        @Value("${app.domain}") String appDomain) {
+        this.javaMailSender = javaMailSender;
+        this.emailTemplateEngine = emailTemplateEngine;
+        this.emailOutboxService = emailOutboxService;
+        this.appDomain = appDomain;
+    }
 
     // For plain text emails
     public void sendMessage(String to, String subject, String text) {
@@ -42,53 +55,119 @@ public class EmailService {
         }
     }
 
-    // Load the email template from resources
-    private String loadEmailTemplate(String templateName) {
-        try {
-            Resource resource = resourceLoader.getResource("classpath:/templates/" + templateName);
-            return StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            log.error("Failed to load email template: {}", templateName, e);
-            return "";
-        }
+    // Render a precompiled template, values are HTML-escaped
+    public String renderTemplate(String templateName, Map<String, String> variables) {
+        return emailTemplateEngine.render(templateName, variables);
     }
 
-    // Send HTML email with template
-    public void sendWorkspaceWelcomeEmail(String to, String userName, String workspaceName, String workspaceLink) {
-        try {
-            // Load template
-            String htmlTemplate = loadEmailTemplate("workspace-welcome.html");
-
-            // Replace placeholders
-            htmlTemplate = htmlTemplate
-                    .replace("{{userName}}", userName)
-                    .replace("{{workspaceName}}", workspaceName)
-                    .replace("{{workspaceLink}}", workspaceLink)
-                    .replace("{{unsubscribeLink}}", appDomain + "/unsubscribe?email=" + to);
-
-            // Send email
-            sendHtmlMessage(to, "Welcome to " + workspaceName + "!", htmlTemplate);
-        } catch (Exception e) {
-            log.error("Failed to send workspace welcome email", e);
+    // Queue the welcome email, it is written to the outbox in the caller's transaction and sent in the background
+    public void queueWorkspaceWelcomeEmail(String to, String userName, String workspaceName, String workspaceLink) {
+        emailOutboxService.enqueue(
+                to,
+                "Welcome to " + workspaceName + "!",
+                WORKSPACE_WELCOME_TEMPLATE,
+                Map.of(
+                        "userName", userName,
+                        "workspaceName", workspaceName,
+                        "workspaceLink", workspaceLink,
+                        "unsubscribeLink", appDomain + "/unsubscribe?email=" + to
+                )
+        );
+    }
+
+    // Queue an invitation to a workspace for someone who may not have an account yet
+    public void queueWorkspaceInviteEmail(String to, String inviterName, String workspaceName, String inviteLink) {
+        emailOutboxService.enqueue(
+                to,
+                inviterName + " invited you to " + workspaceName,
+                WORKSPACE_INVITE_TEMPLATE,
+                Map.of(
+                        "inviterName", inviterName,
+                        "workspaceName", workspaceName,
+                        "inviteLink", inviteLink,
+                        "unsubscribeLink", appDomain + "/unsubscribe?email=" + to
+                )
+        );
+    }
+
+    // Queue a due date reminder for one task
+    public void queueTaskReminderEmail(String to, String userName, String taskTitle, String workspaceName,
+                                       String dueDate, String taskStatus, String taskPriority, String taskLink) {
+        emailOutboxService.enqueue(
+                to,
+                "Reminder: " + taskTitle + " is due " + dueDate,
+                TASK_REMINDER_TEMPLATE,
+                Map.of(
+                        "userName", userName,
+                        "taskTitle", taskTitle,
+                        "workspaceName", workspaceName,
+                        "dueDate", dueDate,
+                        "taskStatus", taskStatus,
+                        "taskPriority", taskPriority,
+                        "taskLink", taskLink,
+                        "unsubscribeLink", appDomain + "/unsubscribe?email=" + to
+                )
+        );
+    }
+
+    // Queue a digest of several tasks. The rows are rendered (and escaped) here, the digest template
+    // inserts them as a pre-rendered fragment.
+    public void queueTaskDigestEmail(String to, String userName, String periodLabel, List<DigestTask> tasks,
+                                     String dashboardLink) {
+        emailOutboxService.enqueue(
+                to,
+                "Your tasks due " + periodLabel,
+                TASK_DIGEST_TEMPLATE,
+                Map.of(
+                        "userName", userName,
+                        "periodLabel", periodLabel,
+                        "taskCount", String.valueOf(tasks.size()),
+                        "taskRows", renderDigestRows(tasks),
+                        "dashboardLink", dashboardLink,
+                        "unsubscribeLink", appDomain + "/unsubscribe?email=" + to
+                )
+        );
+    }
+
+    public String renderDigestRows(List<DigestTask> tasks) {
+        StringBuilder rows = new StringBuilder();
+        for (DigestTask task : tasks) {
+            rows.append(emailTemplateEngine.render(TASK_DIGEST_ROW_TEMPLATE, Map.of(
+                    "taskTitle", task.title(),
+                    "workspaceName", task.workspaceName(),
+                    "dueDate", task.dueDate(),
+                    "taskStatus", task.status(),
+                    "taskLink", task.link()
+            )));
         }
+        return rows.toString();
+    }
+
+    // Build an HTML message without sending it
+    public MimeMessage createHtmlMessage(String to, String subject, String htmlContent) throws MessagingException {
+        MimeMessage message = javaMailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+
+        helper.setFrom("noreply@"+appDomain);
+        helper.setTo(to);
+        helper.setSubject(subject);
+        helper.setText(htmlContent, true); // true indicates this is HTML
+        return message;
+    }
+
+    // Send several messages over a single SMTP connection, throws MailSendException listing the failed ones
+    public void sendAll(MimeMessage... messages) {
+        javaMailSender.send(messages);
     }
 
     // For HTML emails
     public void sendHtmlMessage(String to, String subject, String htmlContent) {
         log.info("Sending HTML email to: {}, subject: {}", to, subject);
         try {
-            MimeMessage message = javaMailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-            helper.setFrom("noreply@"+appDomain);
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(htmlContent, true); // true indicates this is HTML
-
-            javaMailSender.send(message);
+            javaMailSender.send(createHtmlMessage(to, subject, htmlContent));
             log.info("HTML email sent successfully");
         } catch (Exception e) {
             log.error("Failed to send HTML email", e);
         }
     }
-}
\ No newline at end of file
+}
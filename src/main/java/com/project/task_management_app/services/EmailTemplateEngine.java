@@ -0,0 +1,162 @@
+package com.project.task_management_app.services;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Compiles the HTML email templates once into literal and placeholder segments.
+// {{name}} inserts an HTML-escaped value, {{{name}}} inserts a pre-rendered fragment as is (e.g. digest rows).
+// Every placeholder must be given a value, a missing one fails the render instead of leaving a gap in the email.
+@Component
+@Slf4j
+public class EmailTemplateEngine {
+    private static final String TEMPLATE_LOCATION = "classpath:/templates/";
+    private static final int MAX_RETAINED_BUILDER = 64 * 1024;
+
+    private final ResourcePatternResolver resourceResolver;
+    private final Map<String, CompiledTemplate> templates = new ConcurrentHashMap<>();
+    private final ThreadLocal<StringBuilder> builders = ThreadLocal.withInitial(() -> new StringBuilder(8 * 1024));
+
+    public EmailTemplateEngine(ResourceLoader resourceLoader) {
+        this.resourceResolver = ResourcePatternUtils.getResourcePatternResolver(resourceLoader);
+    }
+
+    // Compile every template shipped in resources/templates at startup
+    @PostConstruct
+    public void loadTemplates() {
+        try {
+            for (Resource resource : resourceResolver.getResources(TEMPLATE_LOCATION + "*.html")) {
+                String name = resource.getFilename();
+                templates.put(name, compile(read(resource)));
+            }
+            log.info("Compiled {} email templates", templates.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load email templates", e);
+        }
+    }
+
+    public String render(String templateName, Map<String, String> variables) {
+        CompiledTemplate template = templates.computeIfAbsent(templateName,
+                name -> compile(read(resourceResolver.getResource(TEMPLATE_LOCATION + name))));
+
+        // Virtual threads are not reused, a thread-local buffer would be allocated per render and never reused
+        if (Thread.currentThread().isVirtual()) {
+            return template.render(variables);
+        }
+
+        StringBuilder builder = builders.get();
+        builder.setLength(0);
+        template.renderTo(variables, builder);
+        String html = builder.toString();
+
+        // Don't let one huge email pin a large buffer to the thread forever
+        if (builder.capacity() > MAX_RETAINED_BUILDER) {
+            builders.remove();
+        }
+        return html;
+    }
+
+    public static CompiledTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<Boolean> raw = new ArrayList<>();
+
+        int position = 0;
+        while (true) {
+            int open = source.indexOf("{{", position);
+            if (open < 0) break;
+
+            boolean triple = source.startsWith("{{{", open);
+            String closing = triple ? "}}}" : "}}";
+            int nameStart = open + (triple ? 3 : 2);
+            int close = source.indexOf(closing, nameStart);
+            if (close < 0) break;
+
+            literals.add(source.substring(position, open));
+            names.add(source.substring(nameStart, close).trim());
+            raw.add(triple);
+            position = close + closing.length();
+        }
+        literals.add(source.substring(position));
+
+        boolean[] rawFlags = new boolean[raw.size()];
+        for (int i = 0; i < rawFlags.length; i++) rawFlags[i] = raw.get(i);
+
+        return new CompiledTemplate(literals.toArray(String[]::new), names.toArray(String[]::new), rawFlags);
+    }
+
+    private static String read(Resource resource) {
+        try {
+            return StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load email template: " + resource.getFilename(), e);
+        }
+    }
+
+    static void escapeHtml(String value, StringBuilder out) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+
+    // literals always has one more entry than placeholders: literal, placeholder, literal, ..., literal
+    public static final class CompiledTemplate {
+        private final String[] literals;
+        private final String[] placeholders;
+        private final boolean[] raw;
+        private final int literalLength;
+
+        private CompiledTemplate(String[] literals, String[] placeholders, boolean[] raw) {
+            this.literals = literals;
+            this.placeholders = placeholders;
+            this.raw = raw;
+            int length = 0;
+            for (String literal : literals) length += literal.length();
+            this.literalLength = length;
+        }
+
+        public void renderTo(Map<String, String> variables, StringBuilder out) {
+            out.ensureCapacity(out.length() + literalLength + placeholders.length * 32);
+            for (int i = 0; i < placeholders.length; i++) {
+                out.append(literals[i]);
+                String value = variables.get(placeholders[i]);
+                if (value == null) {
+                    throw new IllegalArgumentException("Missing email template variable: " + placeholders[i]);
+                }
+                if (raw[i]) {
+                    out.append(value);
+                } else {
+                    escapeHtml(value, out);
+                }
+            }
+            out.append(literals[placeholders.length]);
+        }
+
+        public String render(Map<String, String> variables) {
+            StringBuilder out = new StringBuilder(literalLength + placeholders.length * 32);
+            renderTo(variables, out);
+            return out.toString();
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.project.task_management_app.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.task_management_app.models.IdempotencyRecord;
+import com.project.task_management_app.repositories.IdempotencyRecordRepository;
+import jakarta.servlet.ServletException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Runs a request sent with an Idempotency-Key once per user and key, and answers retries within the TTL
+// with the stored first response. Recent responses are kept in memory, so a retry is answered without
+// touching the database; idempotency_keys holds them for the TTL and across instances. A retry arriving
+// while the first request runs on this instance waits for it, on another instance it gets 409.
+// Responses with a 5xx status are not stored, the key is released and the client may try again.
+// A pending row is leased for app.idempotency.lease, a retry after that takes the key over, so a request
+// lost with its instance blocks the key for the lease rather than the TTL.
+@Service
+@Slf4j
+public class IdempotencyService {
+    public record Key(UUID userId, String idempotencyKey) {
+    }
+
+    public record StoredResponse(String fingerprint, int statusCode, String contentType, byte[] body,
+                                 Map<String, String> headers) {
+    }
+
+    public enum Outcome {EXECUTED, REPLAYED, IN_PROGRESS, MISMATCH}
+
+    public record Result(Outcome outcome, StoredResponse response) {
+    }
+
+    @FunctionalInterface
+    public interface Execution {
+        StoredResponse run() throws IOException, ServletException;
+    }
+
+    private static final int MAX_CLAIM_ATTEMPTS = 3;
+    private static final TypeReference<Map<String, String>> HEADERS = new TypeReference<>() {
+    };
+
+    // claimedAt of the row this request inserted or took over, null when an earlier request holds the key
+    private record Claim(LocalDateTime claimedAt, IdempotencyRecord existing) {
+    }
+
+    private final IdempotencyRecordRepository repository;
+    private final ObjectMapper objectMapper;
+    private final Cache<Key, StoredResponse> hotTier;
+    private final ConcurrentMap<Key, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final Duration lease;
+    private final Duration waitTimeout;
+
+    public IdempotencyService(IdempotencyRecordRepository repository,
+                              ObjectMapper objectMapper,
+                              @Value("${app.idempotency.ttl:24h}") Duration ttl,
+                              @Value("${app.idempotency.lease:1m}") Duration lease,
+                              @Value("${app.idempotency.hot-tier.max-entries:10000}") long maxHotEntries,
+                              @Value("${app.idempotency.wait-timeout:10s}") Duration waitTimeout) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.lease = lease;
+        this.waitTimeout = waitTimeout;
+        this.hotTier = Caffeine.newBuilder()
+                .maximumSize(maxHotEntries)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public Result execute(Key key, String fingerprint, Execution execution) throws IOException, ServletException {
+        while (true) {
+            StoredResponse hot = hotTier.getIfPresent(key);
+            if (hot != null) {
+                return replay(hot, fingerprint);
+            }
+
+            CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+            CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(key, mine);
+            if (running != null) {
+                StoredResponse first;
+                try {
+                    first = running.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                } catch (TimeoutException | ExecutionException e) {
+                    return new Result(Outcome.IN_PROGRESS, null);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return new Result(Outcome.IN_PROGRESS, null);
+                }
+                if (first != null) {
+                    return replay(first, fingerprint);
+                }
+                continue; // The first execution failed and released the key, run it here
+            }
+
+            StoredResponse stored = null;
+            try {
+                Claim claim = claim(key, fingerprint);
+                if (claim.existing() != null) {
+                    IdempotencyRecord record = claim.existing();
+                    if (!record.getFingerprint().equals(fingerprint)) {
+                        return new Result(Outcome.MISMATCH, null);
+                    }
+                    if (record.getStatusCode() == null) {
+                        return new Result(Outcome.IN_PROGRESS, null);
+                    }
+                    stored = new StoredResponse(record.getFingerprint(), record.getStatusCode(),
+                            record.getContentType(), record.getResponseBody(), readHeaders(record.getResponseHeaders()));
+                    hotTier.put(key, stored);
+                    return new Result(Outcome.REPLAYED, stored);
+                }
+
+                StoredResponse response = runClaimed(key, claim.claimedAt(), execution);
+                if (response.statusCode() < 500) {
+                    int completed = repository.complete(key.userId(), key.idempotencyKey(), claim.claimedAt(),
+                            response.statusCode(), response.contentType(), response.body(), writeHeaders(response.headers()));
+                    if (completed == 0) {
+                        log.warn("Idempotency key lease ran out while the request was running, its response is not stored");
+                    } else {
+                        hotTier.put(key, response);
+                        stored = response;
+                    }
+                } else {
+                    repository.release(key.userId(), key.idempotencyKey(), claim.claimedAt());
+                }
+                return new Result(Outcome.EXECUTED, response);
+            } finally {
+                inFlight.remove(key, mine);
+                mine.complete(stored);
+            }
+        }
+    }
+
+    // Keys whose TTL ran out are deleted here; until then they are treated as absent by claim
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval:1h}", initialDelayString = "${app.idempotency.purge-interval:1h}")
+    public void purgeExpired() {
+        int purged = repository.deleteExpired(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    private StoredResponse runClaimed(Key key, LocalDateTime claimedAt, Execution execution)
+            throws IOException, ServletException {
+        try {
+            return execution.run();
+        } catch (IOException | ServletException | RuntimeException e) {
+            repository.release(key.userId(), key.idempotencyKey(), claimedAt);
+            throw e;
+        }
+    }
+
+    // Inserts the pending row that marks this instance as the one running the request. Returns the row of
+    // an earlier request with the same key instead; an expired one is removed and the claim made again,
+    // a pending one of the same request whose lease ran out is taken over.
+    private Claim claim(Key key, String fingerprint) {
+        for (int attempt = 1; ; attempt++) {
+            // Truncated to what DATETIME(6) stores, complete and release match the lease on equality
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            IdempotencyRecord record = new IdempotencyRecord();
+            record.setUserId(key.userId());
+            record.setIdempotencyKey(key.idempotencyKey());
+            record.setFingerprint(fingerprint);
+            record.setCreatedAt(now);
+            record.setClaimedAt(now);
+            record.setExpiresAt(now.plus(ttl));
+            try {
+                repository.saveAndFlush(record);
+                return new Claim(now, null);
+            } catch (DataIntegrityViolationException e) {
+                Optional<IdempotencyRecord> existing = repository.findByUserIdAndIdempotencyKey(key.userId(), key.idempotencyKey());
+                if (existing.isPresent() && existing.get().getExpiresAt().isAfter(now)) {
+                    IdempotencyRecord found = existing.get();
+                    boolean stale = found.getStatusCode() == null && found.getFingerprint().equals(fingerprint)
+                            && found.getClaimedAt().isBefore(now.minus(lease));
+                    if (stale && repository.takeOver(key.userId(), key.idempotencyKey(),
+                            now.minus(lease), now, now.plus(ttl)) == 1) {
+                        log.info("Took over idempotency key whose lease ran out at {}", found.getClaimedAt().plus(lease));
+                        return new Claim(now, null);
+                    }
+                    return new Claim(null, found);
+                }
+                if (attempt >= MAX_CLAIM_ATTEMPTS) {
+                    throw e;
+                }
+                existing.ifPresent(repository::delete);
+            }
+        }
+    }
+
+    private String writeHeaders(Map<String, String> headers) {
+        if (headers.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(headers);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize idempotent response headers", e);
+        }
+    }
+
+    private Map<String, String> readHeaders(String json) {
+        if (json == null) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(json, HEADERS);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read idempotent response headers", e);
+        }
+    }
+
+    private static Result replay(StoredResponse stored, String fingerprint) {
+        return stored.fingerprint().equals(fingerprint)
+                ? new Result(Outcome.REPLAYED, stored)
+                : new Result(Outcome.MISMATCH, null);
+    }
+}
@@ -0,0 +1,28 @@
+package com.project.task_management_app.services;
+
+import com.project.task_management_app.exceptions.PreconditionFailedException;
+
+// Entity tags for versioned resources: the ETag is the quoted @Version, If-Match may list several tags or *
+public final class IfMatch {
+
+    private IfMatch() {} // Prevent instantiation
+
+    public static String eTag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    // No header means an unconditional update
+    public static void require(String ifMatch, long currentVersion, String resource) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return;
+        }
+        String current = eTag(currentVersion);
+        for (String tag : ifMatch.split(",")) {
+            String trimmed = tag.trim();
+            if (trimmed.equals("*") || trimmed.equals(current)) {
+                return;
+            }
+        }
+        throw new PreconditionFailedException(resource + " has been modified, current version is " + current);
+    }
+}
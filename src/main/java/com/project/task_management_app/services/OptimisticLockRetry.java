@@ -0,0 +1,58 @@
+package com.project.task_management_app.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+// Runs a read-modify-write in its own transaction and runs it again when the commit lost the race for a
+// @Version. The rollback clears the persistence context, so every attempt re-reads the rows it changes.
+// Must be called outside a transaction; after max-attempts the conflict surfaces as 409.
+@Component
+@Slf4j
+public class OptimisticLockRetry {
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final Duration backoff;
+
+    public OptimisticLockRetry(TransactionTemplate transactionTemplate,
+                               @Value("${app.tasks.optimistic-retry.max-attempts:10}") int maxAttempts,
+                               @Value("${app.tasks.optimistic-retry.backoff:25ms}") Duration backoff) {
+        this.transactionTemplate = transactionTemplate;
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+    }
+
+    public <T> T execute(Supplier<T> work) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("Giving up after {} conflicting attempts: {}", attempt, e.getMessage());
+                    throw e;
+                }
+                pause(attempt, e);
+            }
+        }
+    }
+
+    // Random pause growing with the attempt, so writers that collided do not collide again in lockstep
+    private void pause(int attempt, OptimisticLockingFailureException conflict) {
+        long maxMillis = backoff.toMillis() * attempt;
+        if (maxMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(maxMillis + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.project.task_management_app.services;
+
+import com.project.task_management_app.enums.TaskStatus;
+import com.project.task_management_app.models.TaskTombstone;
+import com.project.task_management_app.repositories.ArchivedTaskRepository;
+import com.project.task_management_app.repositories.TaskAssignmentRepository;
+import com.project.task_management_app.repositories.TaskRepository;
+import com.project.task_management_app.repositories.TaskTombstoneRepository;
+import com.project.task_management_app.repositories.projections.TaskRefView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// Moves COMPLETED tasks that have not changed for app.tasks.archive.after, with their assignments, into
+// archived_tasks and archived_task_assignments so the hot tables track active work instead of history.
+// Each chunk is copied and deleted in its own short transaction, a run goes on until no old task is left.
+// Archived tasks leave the live table, so each one also gets a tombstone for delta sync clients to drop it.
+@Service
+@Slf4j
+public class TaskArchivalService {
+    private final TaskRepository taskRepository;
+    private final TaskAssignmentRepository taskAssignmentRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration after;
+    private final int chunkSize;
+
+    public TaskArchivalService(TaskRepository taskRepository,
+                               TaskAssignmentRepository taskAssignmentRepository,
+                               ArchivedTaskRepository archivedTaskRepository,
+                               TaskTombstoneRepository taskTombstoneRepository,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${app.tasks.archive.enabled:true}") boolean enabled,
+                               @Value("${app.tasks.archive.after:90d}") Duration after,
+                               @Value("${app.tasks.archive.chunk-size:500}") int chunkSize) {
+        this.taskRepository = taskRepository;
+        this.taskAssignmentRepository = taskAssignmentRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.taskTombstoneRepository = taskTombstoneRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.after = after;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.tasks.archive.interval:1h}", initialDelayString = "${app.tasks.archive.interval:1h}")
+    public void archiveCompletedTasks() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minus(after);
+        long archived = 0;
+        try {
+            int moved;
+            do {
+                moved = transactionTemplate.execute(status -> archiveChunk(cutoff));
+                archived += moved;
+            } while (moved == chunkSize && !Thread.currentThread().isInterrupted());
+        } catch (RuntimeException e) {
+            log.error("Task archival stopped after {} tasks, the next run continues", archived, e);
+        }
+        if (archived > 0) {
+            log.info("Archived {} completed tasks last changed before {}", archived, cutoff);
+        }
+    }
+
+    // Copies one chunk into the archive tables and deletes the originals, returns the number of tasks moved
+    int archiveChunk(LocalDateTime cutoff) {
+        List<TaskRefView> tasks = taskRepository.findRefsByStatusUpdatedBefore(
+                TaskStatus.COMPLETED, cutoff, PageRequest.of(0, chunkSize));
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+        List<UUID> taskIds = tasks.stream().map(TaskRefView::getId).toList();
+        LocalDateTime now = LocalDateTime.now();
+        archivedTaskRepository.copyTasks(taskIds, now);
+        archivedTaskRepository.copyAssignments(taskIds);
+        taskTombstoneRepository.saveAll(tasks.stream()
+                .map(task -> new TaskTombstone(null, task.getId(), task.getWorkspaceId(), now))
+                .toList());
+        taskAssignmentRepository.deleteByTaskIds(taskIds);
+        return taskRepository.deleteByIds(taskIds);
+    }
+}
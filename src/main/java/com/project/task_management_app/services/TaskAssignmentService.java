@@ -1,31 +1,89 @@
 package com.project.task_management_app.services;
 
 import com.project.task_management_app.enums.AssignmentStatus;
+import com.project.task_management_app.enums.TaskEventType;
+import com.project.task_management_app.events.WorkspaceTaskEvent;
+import com.project.task_management_app.exceptions.AccessDeniedException;
 import com.project.task_management_app.exceptions.ResourceNotFoundException;
 import com.project.task_management_app.models.Task;
 import com.project.task_management_app.models.TaskAssignment;
+import com.project.task_management_app.payload.Response.APIResponse;
+import com.project.task_management_app.payload.Response.TaskResponse;
 import com.project.task_management_app.repositories.TaskAssignmentRepository;
 import com.project.task_management_app.repositories.TaskRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 
+import static com.project.task_management_app.mapper.TaskMapper.mapToTaskResponse;
+
 @Service
 @RequiredArgsConstructor
 public class TaskAssignmentService {
     private final TaskAssignmentRepository taskAssignmentRepository;
     private final TaskRepository taskRepository;
     private final TaskService taskService;
+    private final WorkspaceMembershipService workspaceMembershipService;
+    private final OptimisticLockRetry optimisticLockRetry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Sets the status of one assignment and recalculates the task status from all of them. Assignees of
+    // the same task completing at once all write the task row; its version makes the later commits retry
+    // on fresh assignments, so the last one sees every other status and the task ends up COMPLETED.
+    // ifMatch is checked against the assignment version.
+    public APIResponse<TaskResponse> updateAssignmentStatus(UUID workspaceId, UUID taskId, UUID assignmentId,
+                                                            UserDetailsImpl userDetails, AssignmentStatus status,
+                                                            String ifMatch) {
+        workspaceMembershipService.requireMember(workspaceId, userDetails.getId());
+        return optimisticLockRetry.execute(() ->
+                doUpdateAssignmentStatus(workspaceId, taskId, assignmentId, userDetails, status, ifMatch));
+    }
 
-    public void updateAssignmentStatus(UUID assignmentId, AssignmentStatus status) {
+    private APIResponse<TaskResponse> doUpdateAssignmentStatus(UUID workspaceId, UUID taskId, UUID assignmentId,
+                                                               UserDetailsImpl userDetails, AssignmentStatus status,
+                                                               String ifMatch) {
         TaskAssignment assignment = taskAssignmentRepository.findById(assignmentId)
-                .orElseThrow(() -> new ResourceNotFoundException("Assignment not found"));
+                .filter(found -> found.getTask().getId().equals(taskId)
+                        && found.getTask().getWorkspace().getId().equals(workspaceId))
+                .orElseThrow(() -> new ResourceNotFoundException("Assignment not found with id: " + assignmentId));
+
+        // The assignee reports progress, the task owner may correct it
+        Task task = assignment.getTask();
+        if (!assignment.getAssignee().getId().equals(userDetails.getId())
+                && !task.getUser().getId().equals(userDetails.getId())) {
+            throw new AccessDeniedException("You are not authorized to update this assignment");
+        }
+
+        IfMatch.require(ifMatch, assignment.getVersion(), "Assignment");
 
         assignment.setStatus(status);
-        taskAssignmentRepository.save(assignment);
 
-        Task task = assignment.getTask();
+        // Assignment status is part of the task as clients see it, bump updatedAt so delta sync picks it up.
+        // The task row is written even when its status stays the same, that is what serializes the assignees.
+        task.setUpdatedAt(LocalDateTime.now());
         taskService.updateGlobalStatus(task);
+        taskRepository.flush();
+
+        eventPublisher.publishEvent(WorkspaceTaskEvent.of(workspaceId,
+                TaskEventType.ASSIGNMENT_STATUS_CHANGED, taskId, Map.of(
+                        "assignmentId", assignmentId,
+                        "assigneeId", assignment.getAssignee().getId(),
+                        "status", status,
+                        "taskStatus", task.getStatus())));
+
+        APIResponse<TaskResponse> response = new APIResponse<>();
+        response.setData(mapToTaskResponse(task));
+        response.setSuccess(true);
+        response.setStatusCode(200);
+        response.setMethod("PATCH");
+        response.setMessage("Assignment status updated successfully");
+        response.setPath("/api/v1/workspaces/" + workspaceId + "/tasks/" + taskId + "/assignments/" + assignmentId);
+        response.setTimestamp(String.valueOf(LocalDateTime.now()));
+
+        return response;
     }
 }
@@ -1,34 +1,46 @@
 package com.project.task_management_app.services;
 
 import com.project.task_management_app.enums.AssignmentStatus;
+import com.project.task_management_app.enums.TaskEventType;
 import com.project.task_management_app.enums.TaskPriority;
 import com.project.task_management_app.enums.TaskStatus;
+import com.project.task_management_app.events.WorkspaceTaskEvent;
 import com.project.task_management_app.exceptions.AccessDeniedException;
 import com.project.task_management_app.exceptions.InvalidRequestException;
 import com.project.task_management_app.exceptions.ResourceNotFoundException;
 import com.project.task_management_app.exceptions.TaskAlreadyExistsException;
 import com.project.task_management_app.mapper.TaskMapper;
+import com.project.task_management_app.models.BaseTask;
 import com.project.task_management_app.models.Task;
 import com.project.task_management_app.models.TaskAssignment;
+import com.project.task_management_app.models.TaskTombstone;
 import com.project.task_management_app.models.User;
 import com.project.task_management_app.models.Workspace;
 import com.project.task_management_app.payload.Request.CreateTaskRequest;
 import com.project.task_management_app.payload.Request.UpdateTaskRequest;
 import com.project.task_management_app.payload.Response.APIResponse;
+import com.project.task_management_app.payload.Response.FacetCount;
 import com.project.task_management_app.payload.Response.TaskResponse;
-import com.project.task_management_app.repositories.TaskAssignmentRepository;
+import com.project.task_management_app.payload.Response.TaskSearchResponse;
+import com.project.task_management_app.repositories.ArchivedTaskRepository;
 import com.project.task_management_app.repositories.TaskRepository;
+import com.project.task_management_app.repositories.TaskTombstoneRepository;
+import com.project.task_management_app.repositories.projections.TaskFacetCountView;
 
 import com.project.task_management_app.repositories.UserRepository;
 import com.project.task_management_app.repositories.WorkspaceRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -38,26 +50,41 @@ import static com.project.task_management_app.mapper.TaskMapper.mapToTaskRespons
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class TaskService {
     @Autowired
     private final TaskRepository taskRepository;
 
-    @Autowired
-    private final TaskAssignmentRepository taskAssignmentRepository;
-
     @Autowired
     private final UserRepository userRepository;
 
     @Autowired
     private final WorkspaceRepository workspaceRepository;
 
+    @Autowired
+    private final WorkspaceMembershipService workspaceMembershipService;
+
+    @Autowired
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private final TaskTombstoneRepository taskTombstoneRepository;
+
+    @Autowired
+    private final ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private final OptimisticLockRetry optimisticLockRetry;
+
     // Get all tasks
+    @Transactional(readOnly = true)
     public APIResponse<List<TaskResponse>> getAllTasks(
             UUID workspaceId,
             int page,
             int size,
             String sortBy,
-            String direction
+            String direction,
+            boolean includeArchived
     ) {
         Workspace workspace = workspaceRepository.findById(workspaceId)
                 .orElseThrow(() -> new ResourceNotFoundException("Workspace not found with id: " + workspaceId));
@@ -65,7 +92,10 @@ public class TaskService {
         Sort.Direction sortDirection = Sort.Direction.fromString(direction);
         Pageable pageable = PageRequest.of(Math.max(page - 1, 0), size, Sort.by(sortDirection, sortBy));
 
-        Page<Task> tasksPage = taskRepository.findByWorkspace(workspace, pageable);
+        // The archive is only read when asked for, the default list stays on the hot table
+        Page<? extends BaseTask> tasksPage = includeArchived
+                ? archivedTaskRepository.findWithArchivedByWorkspace(workspace, pageable)
+                : taskRepository.findByWorkspace(workspace, pageable);
         List<TaskResponse> taskResponses = tasksPage.getContent().stream()
                 .map(TaskMapper::mapToTaskResponse)
                 .toList();
@@ -83,6 +113,7 @@ public class TaskService {
     }
 
     // Get task by id
+    @Transactional(readOnly = true)
     public APIResponse<TaskResponse> getTaskById(UUID workspaceId, UUID taskId) {
         Workspace workspace = workspaceRepository.findById(workspaceId)
                 .orElseThrow(() -> new ResourceNotFoundException("Workspace not found with id: " + workspaceId));
@@ -111,9 +142,7 @@ public class TaskService {
         Workspace workspace = workspaceRepository.findById(workspaceId)
                 .orElseThrow(() -> new ResourceNotFoundException("Workspace not found with id: " + workspaceId));
 
-        if (!workspace.getMembers().contains(user)) {
-            throw new AccessDeniedException("You are not a member of this workspace");
-        }
+        workspaceMembershipService.requireMember(workspace.getId(), user.getId());
 
         // Check if task with same title already exists in the workspace
         Optional<Task> existingTask = taskRepository.findByTitle(request.getTitle());
@@ -141,25 +170,21 @@ public class TaskService {
         task.setUpdatedAt(LocalDateTime.now());
         task.setUser(user);
         task.setWorkspace(workspace);
-        task.setAssignees(assignees);
-
-        Task savedTask = taskRepository.save(task);
-
-        // Create TaskAssignment for each assignee
+        // Saved with the task through the cascade
         for (User assignee : assignees) {
-            TaskAssignment assignment = new TaskAssignment();
-            assignment.setTask(savedTask);
-            assignment.setAssignee(assignee);
-            assignment.setStatus(AssignmentStatus.PENDING);
-            assignment.setAssignedAt(LocalDateTime.now());
-            taskAssignmentRepository.save(assignment);
+            task.getAssignments().add(newAssignment(task, assignee));
         }
 
+        Task savedTask = taskRepository.save(task);
+
         // Recalculate status after assignments
         updateGlobalStatus(savedTask);
 
+        TaskResponse created = mapToTaskResponse(savedTask);
+        eventPublisher.publishEvent(WorkspaceTaskEvent.of(workspaceId, TaskEventType.TASK_CREATED, savedTask.getId(), created));
+
         APIResponse<TaskResponse> response = new APIResponse<>();
-        response.setData(mapToTaskResponse(savedTask));
+        response.setData(created);
         response.setSuccess(true);
         response.setStatusCode(201);
         response.setMethod("POST");
@@ -170,8 +195,15 @@ public class TaskService {
         return response;
     }
 
-    // Update task
-    public APIResponse<TaskResponse> updateTask(UUID workspaceId, UserDetailsImpl userDetails, UUID taskId, UpdateTaskRequest request) {
+    // Update task, retried when a concurrent update of the task or one of its assignments commits first.
+    // ifMatch is checked against the version read in each attempt, a stale one fails with 412.
+    public APIResponse<TaskResponse> updateTask(UUID workspaceId, UserDetailsImpl userDetails, UUID taskId,
+                                                UpdateTaskRequest request, String ifMatch) {
+        return optimisticLockRetry.execute(() -> doUpdateTask(workspaceId, userDetails, taskId, request, ifMatch));
+    }
+
+    private APIResponse<TaskResponse> doUpdateTask(UUID workspaceId, UserDetailsImpl userDetails, UUID taskId,
+                                                   UpdateTaskRequest request, String ifMatch) {
 
         User user = userRepository.findById(userDetails.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userDetails.getId()));
@@ -187,6 +219,8 @@ public class TaskService {
             throw new AccessDeniedException("You are not authorized to update this task");
         }
 
+        IfMatch.require(ifMatch, task.getVersion(), "Task");
+
         // Check if title is being changed and if new title already exists
         if (request.getTitle() != null && !task.getTitle().equals(request.getTitle())) {
             Optional<Task> taskWithSameTitle = taskRepository.findByTitleAndWorkspace(request.getTitle(), workspace);
@@ -227,28 +261,19 @@ public class TaskService {
                             .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + id)))
                     .collect(Collectors.toSet());
 
-            Set<User> oldAssignees = task.getAssignees();
+            Set<UUID> newAssigneeIds = newAssignees.stream().map(User::getId).collect(Collectors.toSet());
 
-            // Remove assignments for users no longer assigned
-            for (User oldAssignee : oldAssignees) {
-                if (!newAssignees.contains(oldAssignee)) {
-                    taskAssignmentRepository.deleteByTaskAndAssignee(task, oldAssignee);
-                }
-            }
+            // Assignments of users no longer assigned are deleted as orphans, kept ones keep their status
+            task.getAssignments().removeIf(assignment -> !newAssigneeIds.contains(assignment.getAssignee().getId()));
+            Set<UUID> assignedIds = task.getAssignments().stream()
+                    .map(assignment -> assignment.getAssignee().getId())
+                    .collect(Collectors.toSet());
 
-            // Add assignments for new users
             for (User newAssignee : newAssignees) {
-                if (!oldAssignees.contains(newAssignee)) {
-                    TaskAssignment newAssignment = new TaskAssignment();
-                    newAssignment.setTask(task);
-                    newAssignment.setAssignee(newAssignee);
-                    newAssignment.setStatus(AssignmentStatus.PENDING);
-                    newAssignment.setAssignedAt(LocalDateTime.now());
-                    taskAssignmentRepository.save(newAssignment);
+                if (!assignedIds.contains(newAssignee.getId())) {
+                    task.getAssignments().add(newAssignment(task, newAssignee));
                 }
             }
-
-            task.setAssignees(newAssignees);
         }
 
         task.setUpdatedAt(LocalDateTime.now());
@@ -256,9 +281,14 @@ public class TaskService {
         Task updatedTask = taskRepository.save(task);
 
         updateGlobalStatus(updatedTask);
+        // Writes now so the response carries the new version, and a lost race is retried right away
+        taskRepository.flush();
+
+        TaskResponse updated = mapToTaskResponse(updatedTask);
+        eventPublisher.publishEvent(WorkspaceTaskEvent.of(workspaceId, TaskEventType.TASK_UPDATED, taskId, updated));
 
         APIResponse<TaskResponse> response = new APIResponse<>();
-        response.setData(mapToTaskResponse(updatedTask));
+        response.setData(updated);
         response.setSuccess(true);
         response.setStatusCode(200);
         response.setMethod("PUT");
@@ -269,6 +299,15 @@ public class TaskService {
         return response;
     }
 
+    private static TaskAssignment newAssignment(Task task, User assignee) {
+        TaskAssignment assignment = new TaskAssignment();
+        assignment.setTask(task);
+        assignment.setAssignee(assignee);
+        assignment.setStatus(AssignmentStatus.PENDING);
+        assignment.setAssignedAt(LocalDateTime.now());
+        return assignment;
+    }
+
     // Recalculate task status
     public TaskStatus recalculateTaskStatus(Task task, List<TaskAssignment> assignments) {
         boolean allCompleted = assignments.stream()
@@ -287,36 +326,58 @@ public class TaskService {
         return TaskStatus.UPCOMING;
     }
 
-    // Update global task status
-    public void updateGlobalStatus(Task task) {
-        List<TaskAssignment> assignments = taskAssignmentRepository.findByTask(task);
-        TaskStatus updated = recalculateTaskStatus(task, assignments);
+    // Update global task status, returns true when it changed
+    public boolean updateGlobalStatus(Task task) {
+        TaskStatus updated = recalculateTaskStatus(task, task.getAssignments());
         if (task.getStatus() != updated) {
             task.setStatus(updated);
             taskRepository.save(task);
+            return true;
         }
+        return false;
     }
 
     // Scheduled job to auto update statuses (optional)
+    // Each task is recalculated in its own transaction, retried on a version conflict, so one lost race
+    // neither rolls back the other tasks nor leaves a transaction marked rollback-only behind.
     @Scheduled(cron = "0 0 * * * *") // every hour
     public void refreshAllTaskStatuses() {
-        int page = 0;
         int size = 100; // Process 100 tasks at a time
-        Page<Task> taskPage;
+        UUID after = null;
+        List<UUID> taskIds;
 
         do {
-            Pageable pageable = PageRequest.of(page, size);
-            taskPage = taskRepository.findAll(pageable);
-
-            for (Task task : taskPage.getContent()) {
-                updateGlobalStatus(task);
+            taskIds = taskRepository.findIdsAfter(after, PageRequest.of(0, size));
+            for (UUID taskId : taskIds) {
+                try {
+                    optimisticLockRetry.execute(() -> refreshTaskStatus(taskId));
+                } catch (OptimisticLockingFailureException e) {
+                    log.warn("Skipping status refresh of task {} after repeated conflicts", taskId);
+                }
+            }
+            if (!taskIds.isEmpty()) {
+                after = taskIds.get(taskIds.size() - 1);
             }
+        } while (taskIds.size() == size);
+    }
 
-            page++;
-        } while (page < taskPage.getTotalPages());
+    private boolean refreshTaskStatus(UUID taskId) {
+        Optional<Task> found = taskRepository.findById(taskId);
+        if (found.isEmpty()) {
+            return false; // Deleted or archived since the page was read
+        }
+        Task task = found.get();
+        if (!updateGlobalStatus(task)) {
+            return false;
+        }
+        taskRepository.flush();
+        eventPublisher.publishEvent(WorkspaceTaskEvent.of(task.getWorkspace().getId(),
+                TaskEventType.TASK_STATUS_CHANGED, task.getId(), Map.of("status", task.getStatus())));
+        return true;
     }
 
-    // Delete task
+    // Delete task, leaving a tombstone for delta sync in the same transaction
+    @Transactional
     public APIResponse<Void> deleteTask(UUID workspaceId, UUID taskId) {
         Workspace workspace = workspaceRepository.findById(workspaceId)
                 .orElseThrow(() -> new ResourceNotFoundException("Workspace not found with id: " + workspaceId));
@@ -325,6 +386,8 @@ public class TaskService {
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
 
         taskRepository.delete(task);
+        taskTombstoneRepository.save(new TaskTombstone(null, taskId, workspaceId, LocalDateTime.now()));
+        eventPublisher.publishEvent(WorkspaceTaskEvent.of(workspaceId, TaskEventType.TASK_DELETED, taskId, null));
 
         APIResponse<Void> response = new APIResponse<>();
         response.setData(null);
@@ -339,6 +402,7 @@ public class TaskService {
     }
 
     // Get tasks by status
+    @Transactional(readOnly = true)
     public APIResponse<List<TaskResponse>> getTasksByStatus(UUID workspaceId, TaskStatus status) {
         Workspace workspace = workspaceRepository.findById(workspaceId)
                 .orElseThrow(() -> new ResourceNotFoundException("Workspace not found with id: " + workspaceId));
@@ -362,6 +426,7 @@ public class TaskService {
     }
 
     // Get tasks by priority
+    @Transactional(readOnly = true)
     public APIResponse<List<TaskResponse>> getTasksByPriority(UUID workspaceId, TaskPriority priority) {  // Added workspaceId
         Workspace workspace = workspaceRepository.findById(workspaceId)
                 .orElseThrow(() -> new ResourceNotFoundException("Workspace not found with id: " + workspaceId));
@@ -383,6 +448,7 @@ public class TaskService {
     }
 
     // Get tasks by category
+    @Transactional(readOnly = true)
     public APIResponse<List<TaskResponse>> getTasksByCategory(UUID workspaceId, String category) {  // Added workspaceId
         Workspace workspace = workspaceRepository.findById(workspaceId)
                 .orElseThrow(() -> new ResourceNotFoundException("Workspace not found with id: " + workspaceId));
@@ -404,11 +470,12 @@ public class TaskService {
     }
 
     // Get recent tasks
+    @Transactional(readOnly = true)
     public APIResponse<List<TaskResponse>> getRecentTasks(UUID workspaceId) {
         Workspace workspace = workspaceRepository.findById(workspaceId)
                 .orElseThrow(() -> new ResourceNotFoundException("Workspace not found with id: " + workspaceId));
 
-        List<Task> tasks = taskRepository.findRecentTasksByWorkspace(workspace);
+        List<Task> tasks = taskRepository.findRecentTasksByWorkspace(workspace.getId());
         List<TaskResponse> taskResponses = tasks.stream()
                 .map(TaskMapper::mapToTaskResponse)
                 .toList();
@@ -425,33 +492,15 @@ public class TaskService {
     }
 
     // Search Tasks
+    @Transactional(readOnly = true)
     public APIResponse<List<TaskResponse>> searchTasks(UUID workspaceId, String title, String status, String priority,
                                                        String category, LocalDateTime fromDate, LocalDateTime toDate,
-                                                       int page, int size) {
+                                                       int page, int size, boolean includeArchived) {
         Workspace workspace = workspaceRepository.findById(workspaceId)
                 .orElseThrow(() -> new ResourceNotFoundException("Workspace not found with id: " + workspaceId));
 
-        TaskStatus taskStatus = null;
-        if (status != null && !status.isEmpty()) {
-            try {
-                taskStatus = TaskStatus.valueOf(status);
-            } catch (IllegalArgumentException e) {
-                throw new InvalidRequestException("Invalid task status: " + status);
-            }
-        }
-
-        TaskPriority taskPriority = null;
-        if (priority != null && !priority.isEmpty()) {
-            try {
-                taskPriority = TaskPriority.valueOf(priority);
-            } catch (IllegalArgumentException e) {
-                throw new InvalidRequestException("Invalid task priority: " + priority);
-            }
-        }
-
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Task> tasksPage = taskRepository.searchTasksByWorkspace(
-                workspace, title, taskStatus, taskPriority, category, fromDate, toDate, pageable);
+        Page<? extends BaseTask> tasksPage = searchPage(workspace, title, parseStatus(status), parsePriority(priority),
+                category, fromDate, toDate, page, size, includeArchived);
         List<TaskResponse> taskResponses = tasksPage.getContent().stream()
                 .map(TaskMapper::mapToTaskResponse)
                 .toList();
@@ -467,5 +516,87 @@ public class TaskService {
         return response;
     }
 
+    // Search Tasks with counts per status, priority and category over all matches, one grouped query on top of the page
+    @Transactional(readOnly = true)
+    public APIResponse<TaskSearchResponse> searchTasksWithFacets(UUID workspaceId, String title, String status, String priority,
+                                                                 String category, LocalDateTime fromDate, LocalDateTime toDate,
+                                                                 int page, int size, boolean includeArchived) {
+        Workspace workspace = workspaceRepository.findById(workspaceId)
+                .orElseThrow(() -> new ResourceNotFoundException("Workspace not found with id: " + workspaceId));
+
+        TaskStatus taskStatus = parseStatus(status);
+        TaskPriority taskPriority = parsePriority(priority);
+        Page<? extends BaseTask> tasksPage = searchPage(workspace, title, taskStatus, taskPriority,
+                category, fromDate, toDate, page, size, includeArchived);
+        List<TaskFacetCountView> groups = includeArchived
+                ? archivedTaskRepository.countFacetsWithArchivedByWorkspace(
+                        workspace, title, taskStatus, taskPriority, category, fromDate, toDate)
+                : taskRepository.countFacetsByWorkspace(
+                        workspace, title, taskStatus, taskPriority, category, fromDate, toDate);
+
+        Map<String, Long> byStatus = new HashMap<>();
+        Map<String, Long> byPriority = new HashMap<>();
+        Map<String, Long> byCategory = new HashMap<>();
+        for (TaskFacetCountView group : groups) {
+            byStatus.merge(group.getStatus().name(), group.getTaskCount(), Long::sum);
+            byPriority.merge(group.getPriority().name(), group.getTaskCount(), Long::sum);
+            byCategory.merge(group.getCategory(), group.getTaskCount(), Long::sum);
+        }
 
+        List<TaskResponse> taskResponses = tasksPage.getContent().stream()
+                .map(TaskMapper::mapToTaskResponse)
+                .toList();
+        APIResponse<TaskSearchResponse> response = new APIResponse<>();
+        response.setData(new TaskSearchResponse(taskResponses, tasksPage.getTotalElements(),
+                facets(byStatus), facets(byPriority), facets(byCategory)));
+        response.setSuccess(true);
+        response.setStatusCode(200);
+        response.setMethod("GET");
+        response.setMessage("Tasks retrieved successfully");
+        response.setPath("/api/v1/workspaces/" + workspaceId + "/tasks/search/facets");
+        response.setTimestamp(String.valueOf(LocalDateTime.now()));
+
+        return response;
+    }
+
+    private Page<? extends BaseTask> searchPage(Workspace workspace, String title, TaskStatus status, TaskPriority priority,
+                                                String category, LocalDateTime fromDate, LocalDateTime toDate,
+                                                int page, int size, boolean includeArchived) {
+        Pageable pageable = PageRequest.of(page, size);
+        return includeArchived
+                ? archivedTaskRepository.searchWithArchivedByWorkspace(
+                        workspace, title, status, priority, category, fromDate, toDate, pageable)
+                : taskRepository.searchTasksByWorkspace(
+                        workspace, title, status, priority, category, fromDate, toDate, pageable);
+    }
+
+    private static TaskStatus parseStatus(String status) {
+        if (status == null || status.isEmpty()) {
+            return null;
+        }
+        try {
+            return TaskStatus.valueOf(status);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid task status: " + status);
+        }
+    }
+
+    private static TaskPriority parsePriority(String priority) {
+        if (priority == null || priority.isEmpty()) {
+            return null;
+        }
+        try {
+            return TaskPriority.valueOf(priority);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid task priority: " + priority);
+        }
+    }
+
+    private static List<FacetCount> facets(Map<String, Long> counts) {
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.nullsLast(Comparator.naturalOrder()))))
+                .map(entry -> new FacetCount(entry.getKey(), entry.getValue()))
+                .toList();
+    }
 }
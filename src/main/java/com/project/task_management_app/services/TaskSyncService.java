@@ -0,0 +1,194 @@
+package com.project.task_management_app.services;
+
+import com.project.task_management_app.exceptions.InvalidRequestException;
+import com.project.task_management_app.exceptions.ResourceNotFoundException;
+import com.project.task_management_app.mapper.TaskMapper;
+import com.project.task_management_app.models.Task;
+import com.project.task_management_app.models.TaskTombstone;
+import com.project.task_management_app.payload.Response.APIResponse;
+import com.project.task_management_app.payload.Response.TaskChangesResponse;
+import com.project.task_management_app.payload.Response.TaskResponse;
+import com.project.task_management_app.repositories.TaskRepository;
+import com.project.task_management_app.repositories.TaskTombstoneRepository;
+import com.project.task_management_app.repositories.WorkspaceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// Delta sync for offline clients. A token is an opaque pair of keyset cursors, (updatedAt, id) over
+// tasks and (deletedAt, id) over tombstones, so each call reads only rows past the cursors through
+// the (workspace_id, updated_at, id) indexes instead of the whole workspace.
+@Service
+@Slf4j
+public class TaskSyncService {
+    private static final String TOKEN_VERSION = "v1";
+    private static final UUID MIN_ID = new UUID(0L, 0L); // Lowest in the database's byte order
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final WorkspaceRepository workspaceRepository;
+    private final WorkspaceMembershipService workspaceMembershipService;
+    private final Duration overlap;
+    private final Duration tombstoneRetention;
+    private final Clock clock;
+
+    @Autowired
+    public TaskSyncService(TaskRepository taskRepository,
+                           TaskTombstoneRepository taskTombstoneRepository,
+                           WorkspaceRepository workspaceRepository,
+                           WorkspaceMembershipService workspaceMembershipService,
+                           @Value("${app.sync.overlap:5s}") Duration overlap,
+                           @Value("${app.sync.tombstone-retention:30d}") Duration tombstoneRetention) {
+        this(taskRepository, taskTombstoneRepository, workspaceRepository, workspaceMembershipService,
+                overlap, tombstoneRetention, Clock.systemDefaultZone());
+    }
+
+    // Tests pass a fixed clock to age tokens past the retention window
+    TaskSyncService(TaskRepository taskRepository,
+                    TaskTombstoneRepository taskTombstoneRepository,
+                    WorkspaceRepository workspaceRepository,
+                    WorkspaceMembershipService workspaceMembershipService,
+                    Duration overlap,
+                    Duration tombstoneRetention,
+                    Clock clock) {
+        this.taskRepository = taskRepository;
+        this.taskTombstoneRepository = taskTombstoneRepository;
+        this.workspaceRepository = workspaceRepository;
+        this.workspaceMembershipService = workspaceMembershipService;
+        this.overlap = overlap;
+        this.tombstoneRetention = tombstoneRetention;
+        this.clock = clock;
+    }
+
+    @Transactional(readOnly = true)
+    public APIResponse<TaskChangesResponse> getChanges(UUID workspaceId, UUID userId, String since, int limit) {
+        if (!workspaceRepository.existsById(workspaceId)) {
+            throw new ResourceNotFoundException("Workspace not found with id: " + workspaceId);
+        }
+        workspaceMembershipService.requireMember(workspaceId, userId);
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        SyncToken token = since == null || since.isBlank()
+                ? new SyncToken(BEGINNING, MIN_ID, now, MIN_ID) // First sync: every task, deletions from now on
+                : SyncToken.decode(since);
+
+        // Tombstones before the cursor may already be purged, the client can't know what it missed
+        if (token.deletedAt.isBefore(now.minus(tombstoneRetention))) {
+            return response(workspaceId, new TaskChangesResponse(List.of(), List.of(), null, false, true));
+        }
+
+        List<Task> tasks = taskRepository.findChangedSince(
+                workspaceId, token.updatedAt, token.taskId, PageRequest.of(0, limit + 1));
+        List<TaskTombstone> tombstones = taskTombstoneRepository.findDeletedSince(
+                workspaceId, token.deletedAt, token.tombstoneId, PageRequest.of(0, limit + 1));
+
+        boolean moreTasks = tasks.size() > limit;
+        boolean moreTombstones = tombstones.size() > limit;
+        if (moreTasks) tasks = tasks.subList(0, limit);
+        if (moreTombstones) tombstones = tombstones.subList(0, limit);
+
+        SyncToken next = token;
+        if (!tasks.isEmpty()) {
+            Task last = tasks.get(tasks.size() - 1);
+            next = next.withTaskCursor(last.getUpdatedAt(), last.getId());
+        }
+        if (!tombstones.isEmpty()) {
+            TaskTombstone last = tombstones.get(tombstones.size() - 1);
+            next = next.withTombstoneCursor(last.getDeletedAt(), last.getId());
+        }
+
+        boolean hasMore = moreTasks || moreTombstones;
+        if (!hasMore) {
+            // Nothing is left before now, so both cursors move up to the end of what we read even when a
+            // side returned no rows; otherwise a workspace without deletions keeps its tombstone cursor at
+            // the first sync and trips the retention check once that is older than the window.
+            // A transaction that commits late can carry a timestamp just behind rows we already returned.
+            // Holding the final cursors back by the overlap window re-reads those rows on the next call;
+            // clients apply changes as upserts, so repeats are harmless while misses are not.
+            next = SyncToken.at(now.minus(overlap));
+        }
+
+        List<TaskResponse> changed = tasks.stream().map(TaskMapper::mapToTaskResponse).collect(Collectors.toList());
+        List<UUID> deleted = tombstones.stream().map(TaskTombstone::getTaskId).collect(Collectors.toList());
+        return response(workspaceId, new TaskChangesResponse(changed, deleted, next.encode(), hasMore, false));
+    }
+
+    // Tombstones only need to outlive the oldest token we still accept
+    @Scheduled(cron = "0 30 3 * * *")
+    public void purgeExpiredTombstones() {
+        int purged = taskTombstoneRepository.deleteOlderThan(LocalDateTime.now(clock).minus(tombstoneRetention));
+        log.info("Purged {} expired task tombstones", purged);
+    }
+
+    private APIResponse<TaskChangesResponse> response(UUID workspaceId, TaskChangesResponse changes) {
+        return new APIResponse<>(
+                changes,
+                "Task changes retrieved successfully",
+                true,
+                200,
+                "GET",
+                "/api/v1/workspaces/" + workspaceId + "/tasks/changes",
+                String.valueOf(LocalDateTime.now())
+        );
+    }
+
+    private static final class SyncToken {
+        final LocalDateTime updatedAt;
+        final UUID taskId;
+        final LocalDateTime deletedAt;
+        final UUID tombstoneId;
+
+        SyncToken(LocalDateTime updatedAt, UUID taskId, LocalDateTime deletedAt, UUID tombstoneId) {
+            this.updatedAt = updatedAt;
+            this.taskId = taskId;
+            this.deletedAt = deletedAt;
+            this.tombstoneId = tombstoneId;
+        }
+
+        SyncToken withTaskCursor(LocalDateTime updatedAt, UUID taskId) {
+            return new SyncToken(updatedAt, taskId, deletedAt, tombstoneId);
+        }
+
+        SyncToken withTombstoneCursor(LocalDateTime deletedAt, UUID tombstoneId) {
+            return new SyncToken(updatedAt, taskId, deletedAt, tombstoneId);
+        }
+
+        static SyncToken at(LocalDateTime position) {
+            return new SyncToken(position, MIN_ID, position, MIN_ID);
+        }
+
+        String encode() {
+            String raw = String.join("|", TOKEN_VERSION, updatedAt.toString(), taskId.toString(),
+                    deletedAt.toString(), tombstoneId.toString());
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static SyncToken decode(String token) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+                if (parts.length != 5 || !TOKEN_VERSION.equals(parts[0])) {
+                    throw new InvalidRequestException("Invalid sync token");
+                }
+                return new SyncToken(LocalDateTime.parse(parts[1]), UUID.fromString(parts[2]),
+                        LocalDateTime.parse(parts[3]), UUID.fromString(parts[4]));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new InvalidRequestException("Invalid sync token");
+            }
+        }
+    }
+}
@@ -31,7 +31,6 @@ public class UserDetailsImpl implements UserDetails {
     private LocalDateTime updatedAt;
     private List<Workspace> ownedWorkspaces;
     private Set<Workspace> memberWorkspaces;
-    private Set<Task> assignedTasks;
 
     @JsonIgnore
     private String password;
@@ -39,7 +38,7 @@ public class UserDetailsImpl implements UserDetails {
 
     public UserDetailsImpl(UUID id, String userImgUrl, String username, String email, String password,
                            Collection<? extends GrantedAuthority> authorities,
-                           List<Task> tasks, LocalDateTime createdAt, LocalDateTime updatedAt, List<Workspace> ownedWorkspaces, Set<Workspace> memberWorkspaces, Set<Task> assignedTasks) {
+                           List<Task> tasks, LocalDateTime createdAt, LocalDateTime updatedAt, List<Workspace> ownedWorkspaces, Set<Workspace> memberWorkspaces) {
         this.id = id;
         this.userImgUrl = userImgUrl;
         this.username = username;
@@ -51,7 +50,6 @@ public class UserDetailsImpl implements UserDetails {
         this.updatedAt = updatedAt;
         this.ownedWorkspaces = ownedWorkspaces;
         this.memberWorkspaces = memberWorkspaces;
-        this.assignedTasks = assignedTasks;
     }
 
     public static UserDetailsImpl build(User user) {
@@ -68,8 +66,7 @@ public class UserDetailsImpl implements UserDetails {
                 user.getCreatedAt(),
                 user.getUpdatedAt(),
                 user.getOwnedWorkspaces(),
-                user.getMemberWorkspaces(),
-                user.getAssignedTasks()
+                user.getMemberWorkspaces()
         );
     }
 
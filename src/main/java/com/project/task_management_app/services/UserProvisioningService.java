@@ -0,0 +1,314 @@
+package com.project.task_management_app.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.task_management_app.enums.ProvisioningStatus;
+import com.project.task_management_app.enums.Role;
+import com.project.task_management_app.enums.WorkspaceType;
+import com.project.task_management_app.exceptions.InvalidRequestException;
+import com.project.task_management_app.models.User;
+import com.project.task_management_app.models.Workspace;
+import com.project.task_management_app.payload.Request.SignUpRequest;
+import com.project.task_management_app.payload.Response.ProvisioningProgress;
+import com.project.task_management_app.payload.Response.ProvisioningRowResult;
+import com.project.task_management_app.repositories.UserRepository;
+import com.project.task_management_app.repositories.WorkspaceRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class UserProvisioningService {
+    private static final int MAX_ROW_ATTEMPTS = 2;
+
+    private final UserRepository userRepository;
+    private final WorkspaceRepository workspaceRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor passwordHashingExecutor;
+    private final int chunkSize;
+    private final int maxRows;
+
+    public UserProvisioningService(UserRepository userRepository,
+                                   WorkspaceRepository workspaceRepository,
+                                   PasswordEncoder passwordEncoder,
+                                   Validator validator,
+                                   ObjectMapper objectMapper,
+                                   TransactionTemplate transactionTemplate,
+                                   @Qualifier("passwordHashingExecutor") ThreadPoolTaskExecutor passwordHashingExecutor,
+                                   @Value("${app.provisioning.chunk-size:500}") int chunkSize,
+                                   @Value("${app.provisioning.max-rows:10000}") int maxRows) {
+        this.userRepository = userRepository;
+        this.workspaceRepository = workspaceRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.chunkSize = chunkSize;
+        this.maxRows = maxRows;
+    }
+
+    // Parse a CSV upload with the columns username,email,password (header row optional)
+    public List<SignUpRequest> parseCsv(String csv) {
+        List<SignUpRequest> rows = new ArrayList<>();
+        if (csv == null || csv.isBlank()) return rows;
+
+        String[] lines = csv.split("\\r?\\n");
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i].isBlank()) continue;
+
+            List<String> columns = splitCsvLine(lines[i]);
+            if (i == 0 && !columns.isEmpty() && columns.get(0).equalsIgnoreCase("username")) continue;
+
+            SignUpRequest row = new SignUpRequest();
+            row.setUsername(columns.size() > 0 ? columns.get(0) : null);
+            row.setEmail(columns.size() > 1 ? columns.get(1) : null);
+            row.setPassword(columns.size() > 2 ? columns.get(2) : null);
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    // Validate the request size up front so the client gets a proper 400 instead of a broken stream
+    public void checkBatchSize(List<SignUpRequest> rows) {
+        if (rows == null || rows.isEmpty()) {
+            throw new InvalidRequestException("At least one user is required");
+        }
+        if (rows.size() > maxRows) {
+            throw new InvalidRequestException("A single request can provision at most " + maxRows + " users");
+        }
+    }
+
+    // Provision users chunk by chunk, writing one NDJSON line per row and a progress line after every chunk
+    public void provision(List<SignUpRequest> rows, OutputStream out) throws IOException {
+        Set<String> seenUsernames = new HashSet<>();
+        Set<String> seenEmails = new HashSet<>();
+        int processed = 0;
+        int created = 0;
+
+        for (int start = 0; start < rows.size(); start += chunkSize) {
+            List<SignUpRequest> chunk = rows.subList(start, Math.min(start + chunkSize, rows.size()));
+            List<ProvisioningRowResult> results = provisionChunk(chunk, start, seenUsernames, seenEmails);
+
+            for (ProvisioningRowResult result : results) {
+                writeLine(out, result);
+                if (result.getStatus() == ProvisioningStatus.CREATED) created++;
+            }
+            processed += chunk.size();
+
+            writeLine(out, new ProvisioningProgress(processed, rows.size(), created, processed - created, processed == rows.size()));
+            out.flush();
+        }
+    }
+
+    private List<ProvisioningRowResult> provisionChunk(List<SignUpRequest> chunk, int offset,
+                                                       Set<String> seenUsernames, Set<String> seenEmails) {
+        ProvisioningRowResult[] results = new ProvisioningRowResult[chunk.size()];
+        List<Integer> candidates = new ArrayList<>();
+
+        // Validate rows and drop duplicates inside the upload itself
+        for (int i = 0; i < chunk.size(); i++) {
+            SignUpRequest row = chunk.get(i);
+            Set<ConstraintViolation<SignUpRequest>> violations = validator.validate(row);
+            if (!violations.isEmpty()) {
+                String message = violations.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", "));
+                results[i] = rowResult(offset + i, row, ProvisioningStatus.INVALID, message, null);
+            } else if (!seenUsernames.add(normalize(row.getUsername()))) {
+                results[i] = rowResult(offset + i, row, ProvisioningStatus.DUPLICATE_USERNAME, "Username appears more than once in the upload", null);
+            } else if (!seenEmails.add(normalize(row.getEmail()))) {
+                results[i] = rowResult(offset + i, row, ProvisioningStatus.DUPLICATE_EMAIL, "Email appears more than once in the upload", null);
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        if (candidates.isEmpty()) return Arrays.asList(results);
+
+        // One set-based lookup per column instead of two exists queries per row
+        Set<String> takenUsernames = userRepository.findExistingUsernames(
+                        candidates.stream().map(i -> chunk.get(i).getUsername()).toList())
+                .stream().map(this::normalize).collect(Collectors.toSet());
+        Set<String> takenEmails = userRepository.findExistingEmails(
+                        candidates.stream().map(i -> chunk.get(i).getEmail()).toList())
+                .stream().map(this::normalize).collect(Collectors.toSet());
+
+        List<Integer> accepted = new ArrayList<>();
+        for (int i : candidates) {
+            SignUpRequest row = chunk.get(i);
+            if (takenUsernames.contains(normalize(row.getUsername()))) {
+                results[i] = rowResult(offset + i, row, ProvisioningStatus.DUPLICATE_USERNAME, "Username is already taken!", null);
+            } else if (takenEmails.contains(normalize(row.getEmail()))) {
+                results[i] = rowResult(offset + i, row, ProvisioningStatus.DUPLICATE_EMAIL, "Email is already in use!", null);
+            } else {
+                accepted.add(i);
+            }
+        }
+
+        if (accepted.isEmpty()) return Arrays.asList(results);
+
+        // Hash passwords in parallel on the bounded pool
+        List<CompletableFuture<String>> hashes = accepted.stream()
+                .map(i -> CompletableFuture.supplyAsync(
+                        () -> passwordEncoder.encode(chunk.get(i).getPassword()), passwordHashingExecutor))
+                .toList();
+
+        // A failed hash only fails its own row
+        List<Integer> hashed = new ArrayList<>(accepted.size());
+        List<String> passwordHashes = new ArrayList<>(accepted.size());
+        for (int k = 0; k < accepted.size(); k++) {
+            int i = accepted.get(k);
+            try {
+                passwordHashes.add(hashes.get(k).join());
+                hashed.add(i);
+            } catch (CompletionException | CancellationException e) {
+                log.error("Failed to hash the password of provisioning row {}", offset + i + 1, e);
+                results[i] = rowResult(offset + i, chunk.get(i), ProvisioningStatus.FAILED, "Password hashing failed", null);
+            }
+        }
+
+        if (hashed.isEmpty()) return Arrays.asList(results);
+
+        // Insert the whole chunk in one transaction so Hibernate can batch the statements
+        List<User> users = new ArrayList<>(hashed.size());
+        try {
+            List<Workspace> workspaces = new ArrayList<>(hashed.size());
+            for (int k = 0; k < hashed.size(); k++) {
+                User user = buildUser(chunk.get(hashed.get(k)), passwordHashes.get(k));
+                users.add(user);
+                workspaces.add(buildHomeWorkspace(user));
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                userRepository.saveAll(users);
+                workspaceRepository.saveAll(workspaces);
+            });
+            for (int k = 0; k < hashed.size(); k++) {
+                int i = hashed.get(k);
+                results[i] = rowResult(offset + i, chunk.get(i), ProvisioningStatus.CREATED, "User registered successfully!", users.get(k).getId());
+            }
+        } catch (Exception e) {
+            // Something in the chunk collided, e.g. a generated entry code or a user created meanwhile.
+            // Insert row by row so only the affected rows fail.
+            log.warn("Failed to insert provisioning chunk starting at row {}, retrying row by row", offset + 1, e);
+            for (int k = 0; k < hashed.size(); k++) {
+                int i = hashed.get(k);
+                results[i] = insertRow(chunk.get(i), offset + i, passwordHashes.get(k));
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    // Inserts one user and home workspace in its own transaction. The entities are built fresh, the ones from
+    // a rolled back attempt already carry ids. A second attempt gets a new entry code.
+    private ProvisioningRowResult insertRow(SignUpRequest row, int index, String passwordHash) {
+        for (int attempt = 1; ; attempt++) {
+            User user = buildUser(row, passwordHash);
+            Workspace workspace = buildHomeWorkspace(user);
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    userRepository.save(user);
+                    workspaceRepository.save(workspace);
+                });
+                return rowResult(index, row, ProvisioningStatus.CREATED, "User registered successfully!", user.getId());
+            } catch (Exception e) {
+                if (attempt < MAX_ROW_ATTEMPTS && e instanceof DataIntegrityViolationException) {
+                    continue;
+                }
+                // The exception text carries SQL and constraint names, it stays in the log
+                log.error("Failed to insert provisioning row {}", index + 1, e);
+                String message = e instanceof DataIntegrityViolationException
+                        ? "Conflicts with an existing user or workspace"
+                        : "Insert failed";
+                return rowResult(index, row, ProvisioningStatus.FAILED, message, null);
+            }
+        }
+    }
+
+    private User buildUser(SignUpRequest row, String passwordHash) {
+        User user = new User();
+        user.setUsername(row.getUsername());
+        user.setEmail(row.getEmail());
+        user.setPassword(passwordHash);
+        user.setRole(Role.USER);
+        user.setCreatedAt(LocalDateTime.now());
+        user.setUpdatedAt(LocalDateTime.now());
+        return user;
+    }
+
+    private Workspace buildHomeWorkspace(User user) {
+        Workspace homeWorkspace = new Workspace();
+        homeWorkspace.setName("Home");
+        homeWorkspace.setDescription("Your default workspace");
+        homeWorkspace.setOwner(user);
+        homeWorkspace.setMembers(new HashSet<>(List.of(user)));
+        homeWorkspace.setEntryCode(UUID.randomUUID().toString().substring(0, 6));
+        homeWorkspace.setType(WorkspaceType.DEFAULT);
+        homeWorkspace.setCreatedAt(LocalDateTime.now());
+        homeWorkspace.setUpdatedAt(LocalDateTime.now());
+        return homeWorkspace;
+    }
+
+    private ProvisioningRowResult rowResult(int index, SignUpRequest row, ProvisioningStatus status, String message, UUID userId) {
+        return new ProvisioningRowResult(index + 1, row.getUsername(), row.getEmail(), status, message, userId);
+    }
+
+    private void writeLine(OutputStream out, Object value) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(value));
+        out.write('\n');
+    }
+
+    private String normalize(String value) {
+        return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private List<String> splitCsvLine(String line) {
+        List<String> columns = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                columns.add(current.toString().trim());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        columns.add(current.toString().trim());
+        return columns;
+    }
+}
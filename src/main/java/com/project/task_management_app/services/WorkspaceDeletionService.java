@@ -0,0 +1,235 @@
+package com.project.task_management_app.services;
+
+import com.project.task_management_app.enums.DeletionJobStatus;
+import com.project.task_management_app.enums.DeletionPhase;
+import com.project.task_management_app.enums.WorkspaceType;
+import com.project.task_management_app.exceptions.AccessDeniedException;
+import com.project.task_management_app.exceptions.InvalidRequestException;
+import com.project.task_management_app.exceptions.ResourceNotFoundException;
+import com.project.task_management_app.models.User;
+import com.project.task_management_app.models.Workspace;
+import com.project.task_management_app.models.WorkspaceDeletionJob;
+import com.project.task_management_app.repositories.ArchivedTaskRepository;
+import com.project.task_management_app.repositories.TaskAssignmentRepository;
+import com.project.task_management_app.repositories.TaskRepository;
+import com.project.task_management_app.repositories.WorkspaceDeletionJobRepository;
+import com.project.task_management_app.repositories.WorkspaceRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+// Deletes workspaces in the background instead of cascading through Workspace.tasks in the request.
+// The workspace is hidden first, then tasks (live, then archived, each with their assignments), member rows
+// and finally the workspace row are removed in bounded chunks, each chunk in its own short transaction.
+@Service
+@Slf4j
+public class WorkspaceDeletionService {
+    private final WorkspaceRepository workspaceRepository;
+    private final TaskRepository taskRepository;
+    private final TaskAssignmentRepository taskAssignmentRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final WorkspaceDeletionJobRepository jobRepository;
+    private final WorkspaceMembershipService workspaceMembershipService;
+    private final WorkspaceSearchService workspaceSearchService;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor workspaceDeletionExecutor;
+    private final int chunkSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration retryDelay;
+
+    public WorkspaceDeletionService(WorkspaceRepository workspaceRepository,
+                                    TaskRepository taskRepository,
+                                    TaskAssignmentRepository taskAssignmentRepository,
+                                    ArchivedTaskRepository archivedTaskRepository,
+                                    WorkspaceDeletionJobRepository jobRepository,
+                                    WorkspaceMembershipService workspaceMembershipService,
+                                    WorkspaceSearchService workspaceSearchService,
+                                    EntityManagerFactory entityManagerFactory,
+                                    TransactionTemplate transactionTemplate,
+                                    @Qualifier("workspaceDeletionExecutor") Executor workspaceDeletionExecutor,
+                                    @Value("${app.workspace.deletion.chunk-size:500}") int chunkSize,
+                                    @Value("${app.workspace.deletion.max-attempts:5}") int maxAttempts,
+                                    @Value("${app.workspace.deletion.lease:5m}") Duration lease,
+                                    @Value("${app.workspace.deletion.retry-delay:1m}") Duration retryDelay) {
+        this.workspaceRepository = workspaceRepository;
+        this.taskRepository = taskRepository;
+        this.taskAssignmentRepository = taskAssignmentRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.jobRepository = jobRepository;
+        this.workspaceMembershipService = workspaceMembershipService;
+        this.workspaceSearchService = workspaceSearchService;
+        this.entityManagerFactory = entityManagerFactory;
+        this.transactionTemplate = transactionTemplate;
+        this.workspaceDeletionExecutor = workspaceDeletionExecutor;
+        this.chunkSize = chunkSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.retryDelay = retryDelay;
+    }
+
+    // Hide the workspace and record a job, the purge starts once this transaction has committed
+    @Transactional
+    public WorkspaceDeletionJob requestDeletion(UUID workspaceId, UUID requestedBy) {
+        Workspace workspace = workspaceRepository.findById(workspaceId)
+                .orElseThrow(() -> new ResourceNotFoundException("Workspace not found with id: " + workspaceId));
+
+        if (workspace.getType() == WorkspaceType.DEFAULT) {
+            throw new InvalidRequestException("Cannot delete default workspace");
+        }
+
+        if (!workspace.getOwner().getId().equals(requestedBy)) {
+            throw new AccessDeniedException("Only the workspace owner can delete it");
+        }
+
+        workspace.setDeletionRequestedAt(LocalDateTime.now());
+
+        WorkspaceDeletionJob job = new WorkspaceDeletionJob();
+        job.setWorkspaceId(workspaceId);
+        job.setWorkspaceName(workspace.getName());
+        job.setRequestedBy(requestedBy);
+        job.setTasksTotal(archivedTaskRepository.countWithArchivedByWorkspaceId(workspaceId));
+        WorkspaceDeletionJob saved = jobRepository.save(job);
+
+        workspaceMembershipService.evict(workspaceId);
+        workspaceSearchService.workspaceRemoved(workspaceId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // The cached entity still carries the deletion mark, drop it so lookups go through the restriction
+                entityManagerFactory.getCache().evict(Workspace.class, workspaceId);
+                submit(saved.getId());
+            }
+        });
+        return saved;
+    }
+
+    // Only the owner who requested the deletion may follow it, anyone else gets the same answer as for no job at all
+    public WorkspaceDeletionJob getLatestJob(UUID workspaceId, UUID userId) {
+        return jobRepository.findFirstByWorkspaceIdOrderByCreatedAtDesc(workspaceId)
+                .filter(job -> job.getRequestedBy().equals(userId))
+                .orElseThrow(() -> new ResourceNotFoundException("No deletion requested for workspace: " + workspaceId));
+    }
+
+    // Picks up jobs that were never started, lost their worker or are due for a retry
+    @Scheduled(fixedDelayString = "${app.workspace.deletion.sweep-interval:1m}")
+    public void resumeInterrupted() {
+        for (UUID jobId : jobRepository.findClaimableIds(LocalDateTime.now())) {
+            submit(jobId);
+        }
+    }
+
+    private void submit(UUID jobId) {
+        try {
+            workspaceDeletionExecutor.execute(() -> run(jobId));
+        } catch (TaskRejectedException e) {
+            log.warn("Deletion queue is full, job {} will be picked up by the next sweep", jobId);
+        }
+    }
+
+    void run(UUID jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (jobRepository.claim(jobId, now, now.plus(lease)) == 0) {
+            return; // Already running elsewhere or finished
+        }
+
+        try {
+            boolean finished = false;
+            while (!finished && !Thread.currentThread().isInterrupted()) {
+                finished = Boolean.TRUE.equals(transactionTemplate.execute(status -> deleteNextChunk(jobId)));
+            }
+        } catch (RuntimeException e) {
+            log.error("Workspace deletion job {} failed", jobId, e);
+            recordFailure(jobId, e);
+        }
+    }
+
+    // Deletes one chunk of the current phase and records progress in the same transaction
+    private boolean deleteNextChunk(UUID jobId) {
+        WorkspaceDeletionJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Deletion job not found: " + jobId));
+        UUID workspaceId = job.getWorkspaceId();
+
+        switch (job.getPhase()) {
+            case TASKS -> {
+                List<UUID> taskIds = taskRepository.findIdsByWorkspaceId(workspaceId, PageRequest.of(0, chunkSize));
+                if (!taskIds.isEmpty()) {
+                    job.setAssignmentsDeleted(job.getAssignmentsDeleted() + taskAssignmentRepository.deleteByTaskIds(taskIds));
+                    job.setTasksDeleted(job.getTasksDeleted() + taskRepository.deleteByIds(taskIds));
+                } else {
+                    // Archived tasks go after the live ones
+                    List<UUID> archivedIds = archivedTaskRepository.findIdsByWorkspaceId(workspaceId, PageRequest.of(0, chunkSize));
+                    if (archivedIds.isEmpty()) {
+                        job.setPhase(DeletionPhase.MEMBERS);
+                    } else {
+                        job.setAssignmentsDeleted(job.getAssignmentsDeleted() + archivedTaskRepository.deleteAssignmentsByTaskIds(archivedIds));
+                        job.setTasksDeleted(job.getTasksDeleted() + archivedTaskRepository.deleteByIds(archivedIds));
+                    }
+                }
+            }
+            case MEMBERS -> {
+                List<UUID> memberIds = workspaceRepository.findMembersForPurge(workspaceId, PageRequest.of(0, chunkSize))
+                        .stream().map(User::getId).toList();
+                if (!memberIds.isEmpty()) {
+                    job.setMembersRemoved(job.getMembersRemoved() + workspaceRepository.deleteMembers(workspaceId, memberIds));
+                }
+                if (memberIds.size() < chunkSize) {
+                    job.setPhase(DeletionPhase.WORKSPACE);
+                }
+            }
+            case WORKSPACE -> {
+                workspaceRepository.deleteRowById(workspaceId);
+                job.setPhase(DeletionPhase.DONE);
+            }
+            case DONE -> { }
+        }
+
+        if (job.getPhase() == DeletionPhase.DONE) {
+            job.setStatus(DeletionJobStatus.COMPLETED);
+            job.setCompletedAt(LocalDateTime.now());
+            job.setLockedUntil(null);
+            workspaceMembershipService.evict(workspaceId);
+            log.info("Workspace {} deleted: {} tasks, {} assignments, {} members",
+                    workspaceId, job.getTasksDeleted(), job.getAssignmentsDeleted(), job.getMembersRemoved());
+            return true;
+        }
+
+        job.setLockedUntil(LocalDateTime.now().plus(lease));
+        return false;
+    }
+
+    // Release the lease with a delay so the sweep retries later, or give up after maxAttempts
+    private void recordFailure(UUID jobId, RuntimeException error) {
+        transactionTemplate.executeWithoutResult(status -> jobRepository.findById(jobId).ifPresent(job -> {
+            job.setAttempts(job.getAttempts() + 1);
+            job.setLastError(truncate(error.getMessage()));
+            if (job.getAttempts() >= maxAttempts) {
+                job.setStatus(DeletionJobStatus.FAILED);
+                job.setLockedUntil(null);
+            } else {
+                job.setLockedUntil(LocalDateTime.now().plus(retryDelay));
+            }
+        }));
+    }
+
+    private static String truncate(String message) {
+        if (message == null) return null;
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+}
@@ -0,0 +1,328 @@
+package com.project.task_management_app.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.task_management_app.events.WorkspaceMemberRemovedEvent;
+import com.project.task_management_app.events.WorkspaceTaskEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+// In-process pub/sub behind GET /workspaces/{id}/events. Every workspace with listeners has a topic
+// that numbers its events and keeps the last few in a ring buffer for Last-Event-ID resume. Each
+// subscriber gets a bounded queue drained on the SSE executor; a subscriber whose queue overflows is
+// disconnected instead of holding events for everyone, its client reconnects and resumes from the buffer.
+@Service
+@Slf4j
+public class WorkspaceEventBroker {
+    static final String RESYNC_EVENT = "RESYNC";
+
+    private final ObjectMapper objectMapper;
+    private final Executor sseDispatchExecutor;
+    private final int subscriberBuffer;
+    private final int replayBuffer;
+    private final Duration emitterTimeout;
+    private final Duration topicRetention;
+    private final Map<UUID, Topic> topics = new ConcurrentHashMap<>();
+
+    public WorkspaceEventBroker(ObjectMapper objectMapper,
+                                @Qualifier("sseDispatchExecutor") Executor sseDispatchExecutor,
+                                @Value("${app.events.subscriber-buffer:256}") int subscriberBuffer,
+                                @Value("${app.events.replay-buffer:1000}") int replayBuffer,
+                                @Value("${app.events.emitter-timeout:30m}") Duration emitterTimeout,
+                                @Value("${app.events.topic-retention:10m}") Duration topicRetention) {
+        this.objectMapper = objectMapper;
+        this.sseDispatchExecutor = sseDispatchExecutor;
+        this.subscriberBuffer = subscriberBuffer;
+        this.replayBuffer = replayBuffer;
+        this.emitterTimeout = emitterTimeout;
+        this.topicRetention = topicRetention;
+    }
+
+    // Membership is checked by the caller and revoked through onMemberRemoved.
+    // lastEventId is the SSE Last-Event-ID header, may be null.
+    public SseEmitter subscribe(UUID workspaceId, UUID userId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        Subscriber subscriber = new Subscriber(userId, emitter, subscriberBuffer);
+
+        Topic topic;
+        do {
+            topic = topics.computeIfAbsent(workspaceId, id -> new Topic(replayBuffer));
+        } while (!topic.attach(subscriber, lastEventId));
+
+        Topic attached = topic;
+        subscriber.detach = () -> attached.detach(subscriber);
+        emitter.onCompletion(subscriber.detach);
+        emitter.onTimeout(subscriber.detach);
+        emitter.onError(error -> subscriber.detach.run());
+
+        schedule(subscriber); // Flush the replayed events, if any
+        return emitter;
+    }
+
+    // Runs after the publishing transaction committed, or right away when there was none
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskEvent(WorkspaceTaskEvent event) {
+        Topic topic = topics.get(event.getWorkspaceId());
+        if (topic == null) return; // Nobody has listened recently, nobody can resume either
+
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize {} event for workspace {}", event.getType(), event.getWorkspaceId(), e);
+            return;
+        }
+
+        for (Subscriber subscriber : topic.publish(event.getType().name(), json)) {
+            deliver(topic, subscriber, null);
+        }
+    }
+
+    // A former member must not keep receiving the workspace's events on a stream opened while they belonged to it
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberRemoved(WorkspaceMemberRemovedEvent event) {
+        Topic topic = topics.get(event.getWorkspaceId());
+        if (topic == null) return;
+
+        for (Subscriber subscriber : topic.detachUser(event.getUserId())) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    // Keeps idle connections from being cut by proxies, finds dead ones and retires unused topics
+    @Scheduled(fixedDelayString = "${app.events.heartbeat-interval:15s}")
+    public void heartbeat() {
+        long idleBefore = System.nanoTime() - topicRetention.toNanos();
+        topics.entrySet().removeIf(entry -> entry.getValue().closeIfIdle(idleBefore));
+
+        for (Topic topic : topics.values()) {
+            for (Subscriber subscriber : topic.subscribers()) {
+                deliver(topic, subscriber, Envelope.HEARTBEAT);
+            }
+        }
+    }
+
+    // envelope == null means the topic already queued the event for this subscriber
+    private void deliver(Topic topic, Subscriber subscriber, Envelope envelope) {
+        if (envelope != null && !subscriber.queue.offer(envelope)) {
+            subscriber.overflowed = true;
+        }
+        if (subscriber.overflowed) {
+            log.debug("Disconnecting slow SSE subscriber");
+            topic.detach(subscriber);
+            subscriber.emitter.complete();
+            return;
+        }
+        schedule(subscriber);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            sseDispatchExecutor.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            while (true) {
+                Envelope envelope;
+                while ((envelope = subscriber.queue.poll()) != null) {
+                    send(subscriber.emitter, envelope);
+                }
+                subscriber.draining.set(false);
+                // An event may have been queued between the last poll and the flag reset
+                if (subscriber.queue.isEmpty() || !subscriber.draining.compareAndSet(false, true)) {
+                    return;
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away, the container completes the emitter on its own
+            subscriber.detach.run();
+        }
+    }
+
+    private static void send(SseEmitter emitter, Envelope envelope) throws IOException {
+        if (envelope == Envelope.HEARTBEAT) {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        } else {
+            emitter.send(SseEmitter.event()
+                    .id(envelope.id)
+                    .name(envelope.name)
+                    .data(envelope.data, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    private static final class Envelope {
+        static final Envelope HEARTBEAT = new Envelope(null, null, null);
+
+        final String id;
+        final String name;
+        final String data;
+
+        Envelope(String id, String name, String data) {
+            this.id = id;
+            this.name = name;
+            this.data = data;
+        }
+    }
+
+    private static final class Subscriber {
+        final UUID userId;
+        final SseEmitter emitter;
+        final BlockingQueue<Envelope> queue;
+        final AtomicBoolean draining = new AtomicBoolean();
+        volatile boolean overflowed;
+        volatile Runnable detach = () -> { };
+
+        Subscriber(UUID userId, SseEmitter emitter, int capacity) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+
+    // Event ids are "<epoch>-<sequence>". The epoch changes whenever a topic is recreated (idle retirement,
+    // restart), so a Last-Event-ID from an earlier topic is recognised and answered with RESYNC.
+    private static final class Topic {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final long epoch = System.currentTimeMillis();
+        private final Envelope[] ring;
+        private final List<Subscriber> subscribers = new ArrayList<>();
+        private long sequence;
+        private long lastActive = System.nanoTime();
+        private boolean closed;
+
+        Topic(int replayBuffer) {
+            this.ring = new Envelope[replayBuffer];
+        }
+
+        // Queue the missed events for a resuming subscriber and register it, under the lock so no event
+        // published meanwhile is lost or delivered twice. Returns false if the topic was just retired.
+        boolean attach(Subscriber subscriber, String lastEventId) {
+            lock.lock();
+            try {
+                if (closed) return false;
+                if (lastEventId != null) {
+                    replay(subscriber, lastEventId);
+                }
+                subscribers.add(subscriber);
+                lastActive = System.nanoTime();
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void detach(Subscriber subscriber) {
+            lock.lock();
+            try {
+                if (subscribers.remove(subscriber)) {
+                    lastActive = System.nanoTime();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        List<Subscriber> detachUser(UUID userId) {
+            lock.lock();
+            try {
+                List<Subscriber> removed = new ArrayList<>();
+                subscribers.removeIf(subscriber -> subscriber.userId.equals(userId) && removed.add(subscriber));
+                if (!removed.isEmpty()) {
+                    lastActive = System.nanoTime();
+                }
+                return removed;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // Number, buffer and queue the event for every subscriber, returns the subscribers to wake up
+        List<Subscriber> publish(String name, String data) {
+            lock.lock();
+            try {
+                long next = ++sequence;
+                Envelope envelope = new Envelope(epoch + "-" + next, name, data);
+                ring[(int) (next % ring.length)] = envelope;
+                for (Subscriber subscriber : subscribers) {
+                    if (!subscriber.queue.offer(envelope)) {
+                        subscriber.overflowed = true;
+                    }
+                }
+                return new ArrayList<>(subscribers);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        List<Subscriber> subscribers() {
+            lock.lock();
+            try {
+                return new ArrayList<>(subscribers);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean closeIfIdle(long idleBefore) {
+            lock.lock();
+            try {
+                if (subscribers.isEmpty() && lastActive - idleBefore < 0) {
+                    closed = true;
+                }
+                return closed;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void replay(Subscriber subscriber, String lastEventId) {
+            long last = parseSequence(lastEventId);
+            long oldest = Math.max(1, sequence - ring.length + 1);
+            boolean resumable = last >= 0 && last <= sequence && last + 1 >= oldest
+                    && sequence - last <= subscriber.queue.remainingCapacity();
+
+            if (!resumable) {
+                subscriber.queue.offer(new Envelope(epoch + "-" + sequence, RESYNC_EVENT, "{}"));
+                return;
+            }
+            for (long s = last + 1; s <= sequence; s++) {
+                subscriber.queue.offer(ring[(int) (s % ring.length)]);
+            }
+        }
+
+        // -1 when the id is malformed or belongs to another epoch
+        private long parseSequence(String lastEventId) {
+            int dash = lastEventId.indexOf('-');
+            if (dash < 0) return -1;
+            try {
+                long idEpoch = Long.parseLong(lastEventId.substring(0, dash));
+                long idSequence = Long.parseLong(lastEventId.substring(dash + 1));
+                return idEpoch == epoch ? idSequence : -1;
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+    }
+}
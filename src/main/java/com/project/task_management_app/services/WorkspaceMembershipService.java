@@ -0,0 +1,165 @@
+package com.project.task_management_app.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.task_management_app.exceptions.AccessDeniedException;
+import com.project.task_management_app.models.Workspace;
+import com.project.task_management_app.repositories.WorkspaceRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Answers "is this user a member of this workspace" without loading the members collection.
+// Member IDs of each workspace are cached as a sorted array of UUID bits; workspaces above the
+// per-entry limit are only marked as too large and fall back to the indexed existence query.
+@Service
+public class WorkspaceMembershipService {
+    private static final String MEMBERS_ROLE = Workspace.class.getName() + ".members";
+    private static final int INVALIDATION_STRIPES = 1024;
+
+    private final WorkspaceRepository workspaceRepository;
+    private final org.hibernate.Cache secondLevelCache;
+    private final Cache<UUID, MemberIds> cache;
+    private final int maxMembersPerWorkspace;
+    // Invalidation versions, striped by workspace. A load that overlapped an invalidation of its stripe may
+    // have read the old membership, so it answers its own caller but is not cached.
+    private final AtomicLongArray invalidations = new AtomicLongArray(INVALIDATION_STRIPES);
+
+    public WorkspaceMembershipService(WorkspaceRepository workspaceRepository,
+                                      EntityManagerFactory entityManagerFactory,
+                                      @Value("${app.membership.cache.max-member-ids:1000000}") long maxMemberIds,
+                                      @Value("${app.membership.cache.max-members-per-workspace:50000}") int maxMembersPerWorkspace,
+                                      @Value("${app.membership.cache.ttl:10m}") Duration ttl) {
+        this.workspaceRepository = workspaceRepository;
+        this.secondLevelCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        this.maxMembersPerWorkspace = maxMembersPerWorkspace;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxMemberIds)
+                .weigher((UUID workspaceId, MemberIds ids) -> ids.size() + 1)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public boolean isMember(UUID workspaceId, UUID userId) {
+        MemberIds ids = memberIds(workspaceId);
+        if (ids == MemberIds.TOO_LARGE) {
+            return workspaceRepository.existsMember(workspaceId, userId);
+        }
+        return ids.contains(userId);
+    }
+
+    public void requireMember(UUID workspaceId, UUID userId) {
+        if (!isMember(workspaceId, userId)) {
+            throw new AccessDeniedException("You are not a member of this workspace");
+        }
+    }
+
+    public long memberCount(UUID workspaceId) {
+        MemberIds ids = memberIds(workspaceId);
+        return ids == MemberIds.TOO_LARGE ? workspaceRepository.countMembers(workspaceId) : ids.size();
+    }
+
+    // Drop the cached members of a workspace, deferred until commit when called inside a transaction.
+    // Membership is changed with native SQL, which Hibernate cannot map to the Workspace.members region,
+    // so that entry is dropped here as well: right away, and again once the change is visible to others.
+    public void evict(UUID workspaceId) {
+        invalidations.incrementAndGet(stripe(workspaceId)); // Loads already running while the change commits
+        secondLevelCache.evictCollectionData(MEMBERS_ROLE, workspaceId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(workspaceId);
+                }
+            });
+        } else {
+            invalidate(workspaceId);
+        }
+    }
+
+    private void invalidate(UUID workspaceId) {
+        invalidations.incrementAndGet(stripe(workspaceId));
+        cache.invalidate(workspaceId);
+        secondLevelCache.evictCollectionData(MEMBERS_ROLE, workspaceId);
+    }
+
+    // Loaded on the calling thread, within its transaction, and outside Caffeine's map lock, so a virtual
+    // thread waiting on JDBC is never pinned. Concurrent misses for one workspace may each run the query.
+    private MemberIds memberIds(UUID workspaceId) {
+        MemberIds ids = cache.getIfPresent(workspaceId);
+        if (ids != null) return ids;
+
+        int stripe = stripe(workspaceId);
+        long version = invalidations.get(stripe);
+        MemberIds loaded = load(workspaceId);
+        // The version is checked under the entry's lock, which invalidate() also takes after bumping it
+        MemberIds cached = cache.asMap().compute(workspaceId,
+                (id, current) -> current != null || invalidations.get(stripe) != version ? current : loaded);
+        return cached != null ? cached : loaded;
+    }
+
+    private static int stripe(UUID workspaceId) {
+        return (workspaceId.hashCode() & Integer.MAX_VALUE) % INVALIDATION_STRIPES;
+    }
+
+    private MemberIds load(UUID workspaceId) {
+        List<UUID> memberIds = workspaceRepository.findMemberIds(workspaceId);
+        return memberIds.size() > maxMembersPerWorkspace ? MemberIds.TOO_LARGE : MemberIds.of(memberIds);
+    }
+
+    // Sorted (mostSigBits, leastSigBits) pairs, 16 bytes per member
+    private static final class MemberIds {
+        static final MemberIds TOO_LARGE = new MemberIds(new long[0]);
+
+        private final long[] bits;
+
+        private MemberIds(long[] bits) {
+            this.bits = bits;
+        }
+
+        static MemberIds of(List<UUID> ids) {
+            UUID[] sorted = ids.toArray(UUID[]::new);
+            Arrays.sort(sorted);
+            long[] bits = new long[sorted.length * 2];
+            for (int i = 0; i < sorted.length; i++) {
+                bits[2 * i] = sorted[i].getMostSignificantBits();
+                bits[2 * i + 1] = sorted[i].getLeastSignificantBits();
+            }
+            return new MemberIds(bits);
+        }
+
+        int size() {
+            return bits.length / 2;
+        }
+
+        // Binary search using the same signed ordering as UUID.compareTo
+        boolean contains(UUID id) {
+            long msb = id.getMostSignificantBits();
+            long lsb = id.getLeastSignificantBits();
+            int low = 0;
+            int high = size() - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = Long.compare(bits[2 * mid], msb);
+                if (cmp == 0) cmp = Long.compare(bits[2 * mid + 1], lsb);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
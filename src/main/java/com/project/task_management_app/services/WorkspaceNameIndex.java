@@ -0,0 +1,178 @@
+package com.project.task_management_app.services;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+// Immutable typeahead index over one user's workspace names. Every word of a name is a key
+// ("Platform Team" is found by "plat" and by "tea"), keys are kept in a sorted array so a
+// lookup is one binary search plus a scan over the matching run. Changes return a new index
+// built by merging into the existing arrays, so keeping it in sync is linear in its size.
+final class WorkspaceNameIndex {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final UUID[] ids;
+    private final String[] names;
+    private final String[] keys;   // Sorted keys, see keysOf
+    private final int[] positions; // positions[i] is the index into ids/names that keys[i] belongs to
+
+    private WorkspaceNameIndex(UUID[] ids, String[] names, String[] keys, int[] positions) {
+        this.ids = ids;
+        this.names = names;
+        this.keys = keys;
+        this.positions = positions;
+    }
+
+    static WorkspaceNameIndex of(List<UUID> ids, List<String> names) {
+        List<String> keyList = new ArrayList<>(ids.size() * 2);
+        List<Integer> positionList = new ArrayList<>(ids.size() * 2);
+        for (int i = 0; i < names.size(); i++) {
+            for (String key : keysOf(names.get(i))) {
+                keyList.add(key);
+                positionList.add(i);
+            }
+        }
+
+        Integer[] order = new Integer[keyList.size()];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, Comparator.comparing(keyList::get));
+
+        String[] keys = new String[order.length];
+        int[] positions = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            keys[i] = keyList.get(order[i]);
+            positions[i] = positionList.get(order[i]);
+        }
+        return new WorkspaceNameIndex(ids.toArray(UUID[]::new), names.toArray(String[]::new), keys, positions);
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    // Up to limit workspaces with a word starting with prefix, ordered by the matching key
+    List<Match> search(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        List<Match> matches = new ArrayList<>(Math.min(limit, ids.length));
+
+        for (int i = lowerBound(normalized); i < keys.length && matches.size() < limit; i++) {
+            if (!keys[i].startsWith(normalized)) break;
+            UUID id = ids[positions[i]];
+            if (!contains(matches, id)) {
+                matches.add(new Match(id, names[positions[i]]));
+            }
+        }
+        return matches;
+    }
+
+    // Add a workspace, or rename it if already present. Linear merge into the sorted keys, no re-sort.
+    WorkspaceNameIndex with(UUID id, String name) {
+        int existing = indexOf(id);
+        if (existing >= 0) {
+            if (names[existing].equals(name)) return this;
+            return without(id).with(id, name);
+        }
+
+        UUID[] newIds = Arrays.copyOf(ids, ids.length + 1);
+        String[] newNames = Arrays.copyOf(names, names.length + 1);
+        newIds[ids.length] = id;
+        newNames[names.length] = name;
+
+        List<String> added = keysOf(name);
+        added.sort(null);
+        String[] newKeys = new String[keys.length + added.size()];
+        int[] newPositions = new int[newKeys.length];
+        int i = 0, j = 0, k = 0;
+        while (i < keys.length || j < added.size()) {
+            if (j == added.size() || (i < keys.length && keys[i].compareTo(added.get(j)) <= 0)) {
+                newKeys[k] = keys[i];
+                newPositions[k++] = positions[i++];
+            } else {
+                newKeys[k] = added.get(j++);
+                newPositions[k++] = ids.length;
+            }
+        }
+        return new WorkspaceNameIndex(newIds, newNames, newKeys, newPositions);
+    }
+
+    WorkspaceNameIndex without(UUID id) {
+        int existing = indexOf(id);
+        if (existing < 0) return this;
+
+        UUID[] newIds = new UUID[ids.length - 1];
+        String[] newNames = new String[names.length - 1];
+        System.arraycopy(ids, 0, newIds, 0, existing);
+        System.arraycopy(ids, existing + 1, newIds, existing, ids.length - existing - 1);
+        System.arraycopy(names, 0, newNames, 0, existing);
+        System.arraycopy(names, existing + 1, newNames, existing, names.length - existing - 1);
+
+        int removed = 0;
+        for (int position : positions) {
+            if (position == existing) removed++;
+        }
+        String[] newKeys = new String[keys.length - removed];
+        int[] newPositions = new int[newKeys.length];
+        int k = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (positions[i] == existing) continue;
+            newKeys[k] = keys[i];
+            newPositions[k++] = positions[i] > existing ? positions[i] - 1 : positions[i];
+        }
+        return new WorkspaceNameIndex(newIds, newNames, newKeys, newPositions);
+    }
+
+    // Only changes the index when the workspace is in it, used for renames seen by every cached user
+    WorkspaceNameIndex renamedIfPresent(UUID id, String name) {
+        return indexOf(id) >= 0 ? with(id, name) : this;
+    }
+
+    private int indexOf(UUID id) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i].equals(id)) return i;
+        }
+        return -1;
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static boolean contains(List<Match> matches, UUID id) {
+        for (Match match : matches) {
+            if (match.id().equals(id)) return true;
+        }
+        return false;
+    }
+
+    // Lowercased name suffixes starting at each word, "Platform Team" gives "platform team" and "team"
+    private static List<String> keysOf(String name) {
+        String normalized = normalize(name);
+        List<String> keys = new ArrayList<>(2);
+        for (int start = 0; start < normalized.length(); start++) {
+            if (normalized.charAt(start) != ' ' && (start == 0 || normalized.charAt(start - 1) == ' ')) {
+                keys.add(normalized.substring(start));
+            }
+        }
+        return keys;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : WHITESPACE.matcher(value.trim().toLowerCase(Locale.ROOT)).replaceAll(" ");
+    }
+
+    record Match(UUID id, String name) {}
+}
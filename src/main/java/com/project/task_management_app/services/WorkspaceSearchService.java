@@ -0,0 +1,127 @@
+package com.project.task_management_app.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.task_management_app.payload.Response.WorkspaceTypeaheadResponse;
+import com.project.task_management_app.repositories.WorkspaceRepository;
+import com.project.task_management_app.repositories.projections.WorkspaceNameView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
+// Typeahead over the workspaces a user owns or belongs to. Each user's index is built from one query
+// on first use and then patched in place on create, rename, join, leave and delete, so lookups never
+// go to the database while the entry is cached.
+@Service
+public class WorkspaceSearchService {
+    private static final int PATCH_STRIPES = 1024;
+
+    private final WorkspaceRepository workspaceRepository;
+    private final Cache<UUID, WorkspaceNameIndex> indexes;
+    // Patch versions, striped by user, plus one for renames and deletes that patch every user. An index
+    // whose load overlapped a patch to its user may predate it, so it answers its caller but is not cached.
+    private final AtomicLongArray userPatches = new AtomicLongArray(PATCH_STRIPES);
+    private final AtomicLong allUserPatches = new AtomicLong();
+
+    public WorkspaceSearchService(WorkspaceRepository workspaceRepository,
+                                  @Value("${app.workspace.typeahead.max-users:10000}") long maxUsers,
+                                  @Value("${app.workspace.typeahead.ttl:30m}") Duration ttl) {
+        this.workspaceRepository = workspaceRepository;
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(ttl)
+                .build();
+    }
+
+    public List<WorkspaceTypeaheadResponse> search(UUID userId, String prefix, int limit) {
+        return index(userId)
+                .search(prefix, limit)
+                .stream()
+                .map(match -> new WorkspaceTypeaheadResponse(match.id(), match.name()))
+                .collect(Collectors.toList());
+    }
+
+    // Covers both a newly created workspace (owner) and a join
+    public void workspaceAdded(UUID userId, UUID workspaceId, String name) {
+        afterCommit(() -> {
+            userPatches.incrementAndGet(stripe(userId));
+            indexes.asMap().computeIfPresent(userId, (id, index) -> index.with(workspaceId, name));
+        });
+    }
+
+    public void workspaceLeft(UUID userId, UUID workspaceId) {
+        afterCommit(() -> {
+            userPatches.incrementAndGet(stripe(userId));
+            indexes.asMap().computeIfPresent(userId, (id, index) -> index.without(workspaceId));
+        });
+    }
+
+    // Renames and deletes touch every cached user holding the workspace, both are rare next to lookups
+    public void workspaceRenamed(UUID workspaceId, String name) {
+        afterCommit(() -> {
+            allUserPatches.incrementAndGet();
+            indexes.asMap().replaceAll((id, index) -> index.renamedIfPresent(workspaceId, name));
+        });
+    }
+
+    public void workspaceRemoved(UUID workspaceId) {
+        afterCommit(() -> {
+            allUserPatches.incrementAndGet();
+            indexes.asMap().replaceAll((id, index) -> index.without(workspaceId));
+        });
+    }
+
+    // Loaded on the calling thread, within its transaction, and outside Caffeine's map lock, so a virtual
+    // thread waiting on JDBC is never pinned. Concurrent misses for one user may each run the query.
+    private WorkspaceNameIndex index(UUID userId) {
+        WorkspaceNameIndex index = indexes.getIfPresent(userId);
+        if (index != null) return index;
+
+        int stripe = stripe(userId);
+        long userVersion = userPatches.get(stripe);
+        long allUserVersion = allUserPatches.get();
+        WorkspaceNameIndex loaded = load(userId);
+        // Versions are bumped before the patch takes the entry's lock, which this check also holds
+        WorkspaceNameIndex cached = indexes.asMap().compute(userId, (id, current) -> current != null
+                || userPatches.get(stripe) != userVersion || allUserPatches.get() != allUserVersion ? current : loaded);
+        return cached != null ? cached : loaded;
+    }
+
+    private static int stripe(UUID userId) {
+        return (userId.hashCode() & Integer.MAX_VALUE) % PATCH_STRIPES;
+    }
+
+    private WorkspaceNameIndex load(UUID userId) {
+        List<WorkspaceNameView> workspaces = workspaceRepository.findNamesAccessibleBy(userId);
+        List<UUID> ids = new ArrayList<>(workspaces.size());
+        List<String> names = new ArrayList<>(workspaces.size());
+        for (WorkspaceNameView workspace : workspaces) {
+            ids.add(workspace.getId());
+            names.add(workspace.getName());
+        }
+        return WorkspaceNameIndex.of(ids, names);
+    }
+
+    // Apply an index change only once the data change is committed, immediately outside a transaction
+    private void afterCommit(Runnable patch) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    patch.run();
+                }
+            });
+        } else {
+            patch.run();
+        }
+    }
+}
@@ -1,20 +1,31 @@
 package com.project.task_management_app.services;
 
 import com.project.task_management_app.enums.WorkspaceType;
+import com.project.task_management_app.events.WorkspaceMemberRemovedEvent;
 import com.project.task_management_app.exceptions.InvalidRequestException;
 import com.project.task_management_app.exceptions.ResourceNotFoundException;
 import com.project.task_management_app.mapper.WorkspaceMapper;
 import com.project.task_management_app.models.User;
 import com.project.task_management_app.models.Workspace;
+import com.project.task_management_app.models.WorkspaceDeletionJob;
 import com.project.task_management_app.payload.Request.CreateWorkspaceRequest;
 import com.project.task_management_app.payload.Request.UpdateWorkspaceRequest;
 import com.project.task_management_app.payload.Response.APIResponse;
+import com.project.task_management_app.payload.Response.UserResponse;
+import com.project.task_management_app.payload.Response.WorkspaceDeletionResponse;
+import com.project.task_management_app.payload.Response.WorkspaceMembersResponse;
 import com.project.task_management_app.payload.Response.WorkspaceResponse;
+import com.project.task_management_app.payload.Response.WorkspaceSummaryResponse;
+import com.project.task_management_app.payload.Response.WorkspaceTypeaheadResponse;
 import com.project.task_management_app.repositories.UserRepository;
 import com.project.task_management_app.repositories.WorkspaceRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -22,6 +33,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import static com.project.task_management_app.mapper.WorkspaceMapper.mapToWorkspaceDeletionResponse;
 import static com.project.task_management_app.mapper.WorkspaceMapper.mapToWorkspaceResponse;
 
 @Service
@@ -36,6 +48,23 @@ public class WorkspaceService {
     @Autowired
     private final EmailService emailService;
 
+    @Autowired
+    private final WorkspaceMembershipService workspaceMembershipService;
+
+    @Autowired
+    private final WorkspaceDeletionService workspaceDeletionService;
+
+    @Autowired
+    private final WorkspaceSearchService workspaceSearchService;
+
+    @Autowired
+    private final WorkspaceEventBroker workspaceEventBroker;
+
+    @Autowired
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Transactional so the typeahead patch is applied only once the workspace row has committed
+    @Transactional
     public APIResponse<WorkspaceResponse> createWorkspace(UserDetailsImpl userDetails, CreateWorkspaceRequest request) {
         User owner = userRepository.findById(userDetails.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -46,6 +75,7 @@ public class WorkspaceService {
 
         Workspace workspace = new Workspace();
         workspace.setName(request.getName());
+        workspace.setDescription(request.getDescription());
         workspace.setOwner(owner);
         workspace.setMembers(Set.of(owner));
         workspace.setEntryCode(UUID.randomUUID().toString().substring(0, 6));
@@ -54,6 +84,7 @@ public class WorkspaceService {
         workspace.setType(WorkspaceType.PRIVATE);
 
         Workspace saved = workspaceRepository.save(workspace);
+        workspaceSearchService.workspaceAdded(owner.getId(), saved.getId(), saved.getName());
 
         APIResponse<WorkspaceResponse> response = new APIResponse<>();
         response.setData(mapToWorkspaceResponse(saved));
@@ -67,11 +98,13 @@ public class WorkspaceService {
         return response;
 }
 
+    @Transactional
     public APIResponse<WorkspaceResponse> updateWorkspace(UUID id, UpdateWorkspaceRequest request) {
         Workspace workspace = workspaceRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Workspace not found"));
 
-        if (request.getName() != null) workspace.setName(request.getName());
+        boolean renamed = request.getName() != null && !request.getName().equals(workspace.getName());
+        if (renamed) workspace.setName(request.getName());
 
         if (request.getDescription() != null) workspace.setDescription(request.getDescription());
 
@@ -79,13 +112,14 @@ public class WorkspaceService {
             workspace.setType(request.getType());
         } else {
             // If not explicitly set, auto-switch to PUBLIC if more than 1 member
-            if (workspace.getMembers().size() > 1 && workspace.getType() == WorkspaceType.PRIVATE) {
+            if (workspace.getType() == WorkspaceType.PRIVATE && workspaceMembershipService.memberCount(id) > 1) {
                 workspace.setType(WorkspaceType.PUBLIC);
             }
         }
 
         workspace.setUpdatedAt(LocalDateTime.now());
         Workspace updated = workspaceRepository.save(workspace);
+        if (renamed) workspaceSearchService.workspaceRenamed(id, updated.getName());
 
         return new APIResponse<>(
                 mapToWorkspaceResponse(updated),
@@ -98,23 +132,31 @@ public class WorkspaceService {
         );
     }
 
-    public APIResponse<Void> deleteWorkspace(UUID workspaceId) {
-        Workspace workspace = workspaceRepository.findById(workspaceId)
-                .orElseThrow(() -> new ResourceNotFoundException("Workspace not found with id: "+ workspaceId));
+    // Accepted for background deletion, progress is reported by getDeletionStatus
+    public APIResponse<WorkspaceDeletionResponse> deleteWorkspace(UUID workspaceId, UUID userId) {
+        WorkspaceDeletionJob job = workspaceDeletionService.requestDeletion(workspaceId, userId);
 
-        if (workspace.getType() == WorkspaceType.DEFAULT ) {
-            throw new RuntimeException("Cannot delete default workspace");
-        }
+        return new APIResponse<>(
+                mapToWorkspaceDeletionResponse(job),
+                "Workspace deletion started",
+                true,
+                202,
+                "DELETE",
+                "/api/v1/workspaces/" + workspaceId,
+                String.valueOf(LocalDateTime.now())
+        );
+    }
 
-        workspaceRepository.delete(workspace);
+    public APIResponse<WorkspaceDeletionResponse> getDeletionStatus(UUID workspaceId, UUID userId) {
+        WorkspaceDeletionJob job = workspaceDeletionService.getLatestJob(workspaceId, userId);
 
         return new APIResponse<>(
-                null,
-                "Workspace deleted successfully",
+                mapToWorkspaceDeletionResponse(job),
+                "Workspace deletion status found successfully",
                 true,
                 200,
-                "DELETE",
-                "/api/v1/workspaces/" + workspaceId,
+                "GET",
+                "/api/v1/workspaces/" + workspaceId + "/deletion",
                 String.valueOf(LocalDateTime.now())
         );
     }
@@ -134,13 +176,12 @@ public class WorkspaceService {
         );
     }
 
-    public APIResponse<List<WorkspaceResponse>> getAllWorkspaces(UserDetailsImpl userDetails) {
-        User user = userRepository.findById(userDetails.getId())
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-
-        List<WorkspaceResponse> workspaceResponses = workspaceRepository.findByOwner(user)
+    // Summaries only, the full roster is served page by page from getWorkspaceMembers
+    @Transactional(readOnly = true)
+    public APIResponse<List<WorkspaceSummaryResponse>> getAllWorkspaces(UserDetailsImpl userDetails) {
+        List<WorkspaceSummaryResponse> workspaceResponses = workspaceRepository.findSummariesByOwnerId(userDetails.getId())
                 .stream()
-                .map(WorkspaceMapper::mapToWorkspaceResponse)
+                .map(WorkspaceMapper::mapToWorkspaceSummaryResponse)
                 .collect(Collectors.toList());
 
         return new APIResponse<>(
@@ -154,6 +195,53 @@ public class WorkspaceService {
         );
     }
 
+    public APIResponse<List<WorkspaceTypeaheadResponse>> typeahead(UUID userId, String prefix, int limit) {
+        return new APIResponse<>(
+                workspaceSearchService.search(userId, prefix, limit),
+                "Workspaces found successfully",
+                true,
+                200,
+                "GET",
+                "/api/v1/workspaces/typeahead",
+                String.valueOf(LocalDateTime.now())
+        );
+    }
+
+    public SseEmitter subscribeToEvents(UUID workspaceId, UUID userId, String lastEventId) {
+        if (!workspaceRepository.existsById(workspaceId)) {
+            throw new ResourceNotFoundException("Workspace not found with id: " + workspaceId);
+        }
+        workspaceMembershipService.requireMember(workspaceId, userId);
+        return workspaceEventBroker.subscribe(workspaceId, userId, lastEventId);
+    }
+
+    @Transactional(readOnly = true)
+    public APIResponse<WorkspaceMembersResponse> getWorkspaceMembers(UUID workspaceId, UUID after, int size, UUID userId) {
+        if (!workspaceRepository.existsById(workspaceId)) {
+            throw new ResourceNotFoundException("Workspace not found with id: " + workspaceId);
+        }
+        workspaceMembershipService.requireMember(workspaceId, userId);
+
+        List<User> page = workspaceRepository.findMembersAfter(workspaceId, after, PageRequest.of(0, size + 1));
+        boolean hasMore = page.size() > size;
+        List<UserResponse> members = page.stream()
+                .limit(size)
+                .map(WorkspaceMapper::mapToUserResponse)
+                .collect(Collectors.toList());
+        UUID nextCursor = hasMore ? members.get(members.size() - 1).getId() : null;
+
+        return new APIResponse<>(
+                new WorkspaceMembersResponse(members, nextCursor, hasMore),
+                "Workspace members found successfully",
+                true,
+                200,
+                "GET",
+                "/api/v1/workspaces/" + workspaceId + "/members",
+                String.valueOf(LocalDateTime.now())
+        );
+    }
+
+    @Transactional
     public APIResponse<String> joinWorkspaceByEntryCode(UUID workspaceId, String entryCode, UUID userId) {
         Workspace workspace = workspaceRepository.findByIdAndEntryCode(workspaceId, entryCode)
                 .orElseThrow(() -> new ResourceNotFoundException("Invalid invite link"));
@@ -161,7 +249,7 @@ public class WorkspaceService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found, Please signup first"));
 
-        if (workspace.getMembers().contains(user)) {
+        if (workspaceMembershipService.isMember(workspace.getId(), user.getId())) {
             return new APIResponse<>(
                     null,
                     "Already a member of the workspace",
@@ -173,11 +261,12 @@ public class WorkspaceService {
             );
         }
 
-        workspace.getMembers().add(user);
-        workspaceRepository.save(workspace);
+        workspaceRepository.addMember(workspace.getId(), user.getId());
+        workspaceMembershipService.evict(workspace.getId());
+        workspaceSearchService.workspaceAdded(user.getId(), workspace.getId(), workspace.getName());
 
         String workspaceLink = "https://taskbuddy.com/workspace/" + workspace.getId();
-        emailService.sendWorkspaceWelcomeEmail(
+        emailService.queueWorkspaceWelcomeEmail(
                 user.getEmail(),
                 user.getUsername(),
                 workspace.getName(),
@@ -194,5 +283,31 @@ public class WorkspaceService {
                 String.valueOf(LocalDateTime.now())
         );
     }
-}
 
+    @Transactional
+    public APIResponse<Void> leaveWorkspace(UUID workspaceId, UUID userId) {
+        Workspace workspace = workspaceRepository.findById(workspaceId)
+                .orElseThrow(() -> new ResourceNotFoundException("Workspace not found with id: " + workspaceId));
+
+        if (workspace.getOwner().getId().equals(userId)) {
+            throw new InvalidRequestException("The owner cannot leave their own workspace");
+        }
+
+        if (workspaceRepository.removeMember(workspaceId, userId) == 0) {
+            throw new ResourceNotFoundException("You are not a member of this workspace");
+        }
+        workspaceMembershipService.evict(workspaceId);
+        workspaceSearchService.workspaceLeft(userId, workspaceId);
+        eventPublisher.publishEvent(new WorkspaceMemberRemovedEvent(workspaceId, userId));
+
+        return new APIResponse<>(
+                null,
+                "Workspace left successfully",
+                true,
+                200,
+                "DELETE",
+                "/api/v1/workspaces/" + workspaceId + "/members/me",
+                String.valueOf(LocalDateTime.now())
+        );
+    }
+}
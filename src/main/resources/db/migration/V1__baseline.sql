@@ -0,0 +1,137 @@
+-- Schema as it was generated by spring.jpa.hibernate.ddl-auto=update, constraint names included.
+-- Databases created that way are baselined at this version (spring.flyway.baseline-on-migrate) and start at V2.
+
+CREATE TABLE users (
+    id           BINARY(16)   NOT NULL,
+    username     VARCHAR(20)  NOT NULL,
+    email        VARCHAR(255) NOT NULL,
+    password     VARCHAR(255) NOT NULL,
+    user_img_url VARCHAR(255),
+    role         ENUM ('ADMIN','USER'),
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT UKr43af9ap4edm43mmtq01oddj6 UNIQUE (username),
+    CONSTRAINT UK6dotkott2kjsp8vw4d0m25fb7 UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE user_login_history (
+    user_id    BINARY(16) NOT NULL,
+    login_time DATETIME(6),
+    CONSTRAINT FKthvsfa8x1rhm6fbi1ysbsnsac FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE workspaces (
+    id                    BINARY(16)   NOT NULL,
+    name                  VARCHAR(255) NOT NULL,
+    description           VARCHAR(255) NOT NULL,
+    entry_code            VARCHAR(255) NOT NULL,
+    type                  ENUM ('DEFAULT','PRIVATE','PUBLIC') NOT NULL,
+    owner_id              BINARY(16)   NOT NULL,
+    created_at            DATETIME(6),
+    updated_at            DATETIME(6),
+    deletion_requested_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT UKine9rufwwqyp1i9a1jacse67 UNIQUE (entry_code),
+    CONSTRAINT FK58ks96jjlsbhsh21cen7hr59h FOREIGN KEY (owner_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE workspace_members (
+    user_id      BINARY(16) NOT NULL,
+    workspace_id BINARY(16) NOT NULL,
+    PRIMARY KEY (user_id, workspace_id),
+    CONSTRAINT FK6vtnpc3eexk504u61uepn40p1 FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT FKw9hq87n3rvq2c4j47qo78i5r FOREIGN KEY (workspace_id) REFERENCES workspaces (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE tasks (
+    id             BINARY(16)   NOT NULL,
+    title          VARCHAR(255) NOT NULL,
+    description    VARCHAR(500),
+    status         ENUM ('COMPLETED','IN_PROGRESS','OVERDUE','TODO','UPCOMING') NOT NULL,
+    priority       ENUM ('CRITICAL','HIGH','LOW','MEDIUM') NOT NULL,
+    category       VARCHAR(255),
+    attachment_url VARCHAR(255),
+    due_date       DATETIME(6)  NOT NULL,
+    created_at     DATETIME(6),
+    updated_at     DATETIME(6),
+    user_id        BINARY(16)   NOT NULL,
+    workspace_id   BINARY(16)   NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT UKlbxbc3okttmi5ach9s94l296f UNIQUE (title),
+    CONSTRAINT FK6s1ob9k4ihi75xbxe2w0ylsdh FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT FKc9qtufdiesth3hltky4dnacje FOREIGN KEY (workspace_id) REFERENCES workspaces (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_tasks_workspace_updated ON tasks (workspace_id, updated_at, id);
+
+CREATE TABLE task_assignees (
+    task_id BINARY(16) NOT NULL,
+    user_id BINARY(16) NOT NULL,
+    PRIMARY KEY (task_id, user_id),
+    CONSTRAINT FKs0jy5sv972lpa2wfx95m7xebb FOREIGN KEY (task_id) REFERENCES tasks (id),
+    CONSTRAINT FKafus7qmwfnqqhkpqquxx23xmq FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE task_assignments (
+    id          BINARY(16) NOT NULL,
+    task_id     BINARY(16) NOT NULL,
+    user_id     BINARY(16) NOT NULL,
+    status      ENUM ('COMPLETED','IN_PROGRESS','PENDING') NOT NULL,
+    assigned_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT UKjhf6uhrcj3yoolp1tfuinun0n UNIQUE (task_id, user_id),
+    CONSTRAINT FKk36vhf9tt6t3woselwnkis6v6 FOREIGN KEY (task_id) REFERENCES tasks (id),
+    CONSTRAINT FKovnod7lqp56uups16si7jh6uu FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE task_tombstones (
+    id           BINARY(16)  NOT NULL,
+    task_id      BINARY(16)  NOT NULL,
+    workspace_id BINARY(16)  NOT NULL,
+    deleted_at   DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_task_tombstones_workspace_deleted ON task_tombstones (workspace_id, deleted_at, id);
+
+CREATE TABLE email_outbox (
+    id              BINARY(16)   NOT NULL,
+    recipient       VARCHAR(255) NOT NULL,
+    subject         VARCHAR(255) NOT NULL,
+    template_name   VARCHAR(255) NOT NULL,
+    variables       TEXT,
+    status          ENUM ('DEAD','PENDING','SENDING','SENT') NOT NULL,
+    attempts        INTEGER      NOT NULL,
+    last_error      VARCHAR(1000),
+    next_attempt_at DATETIME(6),
+    locked_until    DATETIME(6),
+    sent_at         DATETIME(6),
+    created_at      DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_email_outbox_status_next_attempt ON email_outbox (status, next_attempt_at);
+
+CREATE TABLE workspace_deletion_jobs (
+    id                  BINARY(16)   NOT NULL,
+    workspace_id        BINARY(16)   NOT NULL,
+    workspace_name      VARCHAR(255) NOT NULL,
+    requested_by        BINARY(16),
+    status              ENUM ('COMPLETED','FAILED','PENDING','RUNNING') NOT NULL,
+    phase               ENUM ('DONE','MEMBERS','TASKS','WORKSPACE') NOT NULL,
+    tasks_total         BIGINT       NOT NULL,
+    tasks_deleted       BIGINT       NOT NULL,
+    assignments_deleted BIGINT       NOT NULL,
+    members_removed     BIGINT       NOT NULL,
+    attempts            INTEGER      NOT NULL,
+    last_error          VARCHAR(1000),
+    locked_until        DATETIME(6),
+    created_at          DATETIME(6),
+    updated_at          DATETIME(6),
+    completed_at        DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_workspace_deletion_jobs_workspace ON workspace_deletion_jobs (workspace_id);
+CREATE INDEX idx_workspace_deletion_jobs_status_locked ON workspace_deletion_jobs (status, locked_until);
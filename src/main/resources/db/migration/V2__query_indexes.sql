@@ -0,0 +1,23 @@
+-- Indexes for the queries in TaskRepository, WorkspaceRepository and TaskAssignmentRepository.
+-- QueryPlanTest runs EXPLAIN on each of them and fails on a full table scan.
+
+-- Task list (sorted by created_at by default) and the recent tasks widget
+CREATE INDEX idx_tasks_workspace_created ON tasks (workspace_id, created_at);
+-- Status, priority and due date filters of the task list and search
+CREATE INDEX idx_tasks_workspace_status ON tasks (workspace_id, status);
+CREATE INDEX idx_tasks_workspace_priority ON tasks (workspace_id, priority);
+CREATE INDEX idx_tasks_workspace_due ON tasks (workspace_id, due_date);
+-- Search compares LOWER(category) = LOWER(:category), only a functional key part matches that expression.
+-- The LOWER(title) LIKE '%...%' filter has a leading wildcard no B-tree can serve, it is applied to the
+-- workspace's rows found through one of the indexes above.
+CREATE INDEX idx_tasks_workspace_category ON tasks (workspace_id, (LOWER(category)));
+
+-- Dashboard counts of a user's assignments per status
+CREATE INDEX idx_task_assignments_user_status ON task_assignments (user_id, status);
+
+-- Duplicate name check (LOWER(name) = LOWER(:name) AND owner) and the owner's workspace summaries
+CREATE INDEX idx_workspaces_owner_name ON workspaces (owner_id, (LOWER(name)));
+CREATE INDEX idx_workspaces_name ON workspaces (name);
+
+-- The primary key starts with user_id; roster pages, member counts and chunked removal go by workspace
+CREATE INDEX idx_workspace_members_workspace_user ON workspace_members (workspace_id, user_id);
@@ -0,0 +1,11 @@
+-- task_assignments is the only record of who is assigned to a task. Every pair written through the
+-- application already has an assignment row; pairs that only exist in task_assignees are copied over as
+-- PENDING before the join table is dropped. Backfilled ids are random, new rows get UUIDv7 ids.
+INSERT INTO task_assignments (id, task_id, user_id, status, assigned_at)
+SELECT UNHEX(REPLACE(UUID(), '-', '')), ta.task_id, ta.user_id, 'PENDING', t.created_at
+FROM task_assignees ta
+         JOIN tasks t ON t.id = ta.task_id
+         LEFT JOIN task_assignments a ON a.task_id = ta.task_id AND a.user_id = ta.user_id
+WHERE a.id IS NULL;
+
+DROP TABLE task_assignees;
@@ -0,0 +1,39 @@
+-- Cold storage for completed tasks, filled by TaskArchivalService. Same columns as tasks and
+-- task_assignments plus archived_at; no unique title, an archived title may be reused by a live task.
+CREATE TABLE archived_tasks (
+    id             BINARY(16)   NOT NULL,
+    title          VARCHAR(255) NOT NULL,
+    description    VARCHAR(500),
+    status         ENUM ('COMPLETED','IN_PROGRESS','OVERDUE','TODO','UPCOMING') NOT NULL,
+    priority       ENUM ('CRITICAL','HIGH','LOW','MEDIUM') NOT NULL,
+    category       VARCHAR(255),
+    attachment_url VARCHAR(255),
+    due_date       DATETIME(6)  NOT NULL,
+    created_at     DATETIME(6),
+    updated_at     DATETIME(6),
+    user_id        BINARY(16)   NOT NULL,
+    workspace_id   BINARY(16)   NOT NULL,
+    archived_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_archived_tasks_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_archived_tasks_workspace FOREIGN KEY (workspace_id) REFERENCES workspaces (id)
+) ENGINE = InnoDB;
+
+-- includeArchived task lists and the workspace deletion job
+CREATE INDEX idx_archived_tasks_workspace_created ON archived_tasks (workspace_id, created_at);
+
+CREATE TABLE archived_task_assignments (
+    id          BINARY(16) NOT NULL,
+    task_id     BINARY(16) NOT NULL,
+    user_id     BINARY(16) NOT NULL,
+    status      ENUM ('COMPLETED','IN_PROGRESS','PENDING') NOT NULL,
+    assigned_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_archived_task_assignments_task FOREIGN KEY (task_id) REFERENCES archived_tasks (id),
+    CONSTRAINT fk_archived_task_assignments_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_archived_task_assignments_task ON archived_task_assignments (task_id);
+
+-- The archival job's scan for completed tasks past the cutoff, oldest first
+CREATE INDEX idx_tasks_status_updated ON tasks (status, updated_at);
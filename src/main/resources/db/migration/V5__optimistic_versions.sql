@@ -0,0 +1,5 @@
+-- Optimistic lock versions, see @Version on BaseTask and TaskAssignment. Existing rows start at 0.
+-- archived_tasks shares the Task hierarchy and keeps the version the task had when it was archived.
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE archived_tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE task_assignments ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,18 @@
+-- Responses to requests sent with an Idempotency-Key, see IdempotencyService. A row is inserted when
+-- the first request starts and filled in when it finishes; retries within the TTL get the stored response.
+CREATE TABLE idempotency_keys (
+    id              BINARY(16)   NOT NULL,
+    user_id         BINARY(16)   NOT NULL,
+    idempotency_key VARCHAR(255) NOT NULL,
+    fingerprint     VARCHAR(64)  NOT NULL,
+    status_code     INT,
+    content_type    VARCHAR(255),
+    response_body   LONGBLOB,
+    created_at      DATETIME(6)  NOT NULL,
+    expires_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_idempotency_keys_user_key UNIQUE (user_id, idempotency_key)
+) ENGINE = InnoDB;
+
+-- Purge of expired keys
+CREATE INDEX idx_idempotency_keys_expires ON idempotency_keys (expires_at);
@@ -0,0 +1,5 @@
+-- GET /users/me/tasks reads a user's assignments, optionally of one status, and joins each task by id.
+-- With task_id in the index the assignments are read from it alone. It replaces the (user_id, status)
+-- index, which is its prefix, also for the foreign key on user_id.
+CREATE INDEX idx_task_assignments_user_status_task ON task_assignments (user_id, status, task_id);
+DROP INDEX idx_task_assignments_user_status ON task_assignments;
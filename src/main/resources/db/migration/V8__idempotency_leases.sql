@@ -0,0 +1,7 @@
+-- A pending key is held for app.idempotency.lease from claimed_at; after that a retry may take it over,
+-- so a request that died mid-flight does not block its key for the whole TTL. Existing rows count as
+-- claimed when they were created. response_headers keeps the headers replayed with the stored response.
+ALTER TABLE idempotency_keys ADD COLUMN claimed_at DATETIME(6);
+UPDATE idempotency_keys SET claimed_at = created_at;
+ALTER TABLE idempotency_keys MODIFY claimed_at DATETIME(6) NOT NULL;
+ALTER TABLE idempotency_keys ADD COLUMN response_headers TEXT;
@@ -0,0 +1,171 @@
+package com.project.task_management_app.config;
+
+import com.project.task_management_app.services.UserDetailsImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Two in-memory H2 databases stand in for the primary and a replica, each knows which one it is
+class ReplicaRoutingDataSourceTest {
+    private static final String LAG_QUERY = "SELECT Seconds_Behind_Source FROM replica_status";
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReadYourWritesTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString();
+        primary = database("primary-" + suffix, "primary");
+        replica = database("replica-" + suffix, "replica");
+        new JdbcTemplate(replica).execute("CREATE TABLE replica_status (Seconds_Behind_Source BIGINT)");
+        new JdbcTemplate(replica).update("INSERT INTO replica_status VALUES (0)");
+        tracker = new ReadYourWritesTracker(Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplicaAndWritesThePrimary() {
+        Routing routing = routing(Map.of("replica-1", replica));
+
+        assertThat(routing.read()).isEqualTo("replica");
+        assertThat(routing.write()).isEqualTo("primary");
+        assertThat(routing.read()).isEqualTo("replica");
+    }
+
+    @Test
+    void laggingReplicaFallsBackToThePrimaryUntilItCatchesUp() {
+        Routing routing = routing(Map.of("replica-1", replica));
+
+        new JdbcTemplate(replica).update("UPDATE replica_status SET Seconds_Behind_Source = 60");
+        routing.monitor.check();
+        assertThat(routing.monitor.healthyReplicas()).isEmpty();
+        assertThat(routing.read()).isEqualTo("primary");
+
+        new JdbcTemplate(replica).update("UPDATE replica_status SET Seconds_Behind_Source = 1");
+        routing.monitor.check();
+        assertThat(routing.read()).isEqualTo("replica");
+    }
+
+    @Test
+    void stoppedReplicationTakesTheReplicaOutOfRotation() {
+        Routing routing = routing(Map.of("replica-1", replica));
+
+        new JdbcTemplate(replica).update("UPDATE replica_status SET Seconds_Behind_Source = NULL");
+        routing.monitor.check();
+
+        assertThat(routing.read()).isEqualTo("primary");
+    }
+
+    @Test
+    void unreachableReplicaIsSkipped() {
+        DataSource missing = new DriverManagerDataSource("jdbc:h2:mem:missing-" + UUID.randomUUID() + ";IFEXISTS=TRUE", "sa", "");
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", missing);
+        replicas.put("replica-2", replica);
+        Routing routing = routing(replicas);
+
+        assertThat(routing.monitor.healthyReplicas()).containsExactly("replica-2");
+        assertThat(List.of(routing.read(), routing.read(), routing.read())).containsOnly("replica");
+    }
+
+    @Test
+    void userWhoJustWroteReadsFromThePrimary() {
+        Routing routing = routing(Map.of("replica-1", replica));
+        UUID writer = UUID.randomUUID();
+
+        signIn(writer);
+        tracker.recordWrite(writer);
+        assertThat(routing.read()).isEqualTo("primary");
+
+        signIn(UUID.randomUUID());
+        assertThat(routing.read()).isEqualTo("replica");
+    }
+
+    @Test
+    void readsInsideAMutatingRequestUseThePrimary() {
+        Routing routing = routing(Map.of("replica-1", replica));
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest("POST", "/api/v1/workspaces")));
+        assertThat(routing.read()).isEqualTo("primary");
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest("GET", "/api/v1/workspaces")));
+        assertThat(routing.read()).isEqualTo("replica");
+    }
+
+    private Routing routing(Map<String, DataSource> replicas) {
+        ReplicaHealthMonitor monitor = new ReplicaHealthMonitor(replicas, LAG_QUERY, Duration.ofSeconds(5));
+        monitor.check();
+
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(new ReplicaRoutingDataSource(primary, replicas, monitor, tracker));
+        return new Routing(monitor, proxy);
+    }
+
+    private static DataSource database(String name, String role) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE server_role (name VARCHAR(16))");
+        jdbc.update("INSERT INTO server_role VALUES (?)", role);
+        return dataSource;
+    }
+
+    private static void signIn(UUID userId) {
+        UserDetailsImpl user = new UserDetailsImpl(userId, null, "user", "user@example.com", "",
+                List.of(), null, null, null, null, null);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    private static final class Routing {
+        final ReplicaHealthMonitor monitor;
+        final JdbcTemplate jdbc;
+        final TransactionTemplate readOnly;
+        final TransactionTemplate readWrite;
+
+        Routing(ReplicaHealthMonitor monitor, DataSource dataSource) {
+            this.monitor = monitor;
+            this.jdbc = new JdbcTemplate(dataSource);
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+            this.readWrite = new TransactionTemplate(transactionManager);
+            this.readOnly = new TransactionTemplate(transactionManager);
+            this.readOnly.setReadOnly(true);
+        }
+
+        String read() {
+            return readOnly.execute(status -> role());
+        }
+
+        String write() {
+            return readWrite.execute(status -> role());
+        }
+
+        private String role() {
+            return jdbc.queryForObject("SELECT name FROM server_role", String.class);
+        }
+    }
+}
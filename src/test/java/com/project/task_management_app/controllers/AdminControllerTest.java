@@ -0,0 +1,74 @@
+package com.project.task_management_app.controllers;
+
+import com.project.task_management_app.support.EndpointTest;
+import com.project.task_management_app.support.QueryBudget;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class AdminControllerTest extends EndpointTest {
+
+    // Only the request thread is counted here, the rows are written by the streaming body on the async executor
+    @Test
+    @QueryBudget(1)
+    void bulkProvisionUsers() throws Exception {
+        String prefix = "b" + UUID.randomUUID().toString().replace("-", "").substring(0, 8);
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < 25; i++) {
+            if (i > 0) body.append(',');
+            body.append("{\"username\":\"").append(prefix).append(i)
+                    .append("\",\"email\":\"").append(prefix).append(i).append("@example.com\",\"password\":\"password123\"}");
+        }
+        body.append(']');
+
+        MvcResult result = mockMvc.perform(post("/api/v1/admin/users/bulk")
+                        .header("Authorization", seeder.bearer(data.admin()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(1)
+    void bulkProvisionUsersCsv() throws Exception {
+        String prefix = "c" + UUID.randomUUID().toString().replace("-", "").substring(0, 8);
+        StringBuilder body = new StringBuilder("username,email,password\n");
+        for (int i = 0; i < 25; i++) {
+            body.append(prefix).append(i).append(',').append(prefix).append(i).append("@example.com,password123\n");
+        }
+
+        MvcResult result = mockMvc.perform(post("/api/v1/admin/users/bulk")
+                        .header("Authorization", seeder.bearer(data.admin()))
+                        .contentType("text/csv")
+                        .content(body.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(1)
+    void getSecondLevelCacheStats() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/cache/second-level")
+                        .header("Authorization", seeder.bearer(data.admin())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+}
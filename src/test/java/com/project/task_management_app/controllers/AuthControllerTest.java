@@ -0,0 +1,58 @@
+package com.project.task_management_app.controllers;
+
+import com.project.task_management_app.models.User;
+import com.project.task_management_app.payload.Request.SignInRequest;
+import com.project.task_management_app.payload.Request.SignUpRequest;
+import com.project.task_management_app.support.EndpointTest;
+import com.project.task_management_app.support.QueryBudget;
+import com.project.task_management_app.support.TestDataSeeder;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class AuthControllerTest extends EndpointTest {
+
+    @Test
+    @QueryBudget(1)
+    void signIn() throws Exception {
+        User user = seeder.freshUser();
+        SignInRequest request = new SignInRequest();
+        request.setUsername(user.getUsername());
+        request.setPassword(TestDataSeeder.PASSWORD);
+
+        mockMvc.perform(post("/api/v1/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(user.getId().toString()));
+    }
+
+    @Test
+    @QueryBudget(5)
+    void signUp() throws Exception {
+        String name = "s" + UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+        SignUpRequest request = new SignUpRequest();
+        request.setUsername(name);
+        request.setEmail(name + "@example.com");
+        request.setPassword(TestDataSeeder.PASSWORD);
+
+        mockMvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.username").value(name));
+    }
+
+    @Test
+    @QueryBudget(1)
+    void signOut() throws Exception {
+        mockMvc.perform(post("/api/v1/auth/signout")
+                        .header("Authorization", seeder.bearer(data.owner())))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,498 @@
+package com.project.task_management_app.controllers;
+
+import com.jayway.jsonpath.JsonPath;
+import com.project.task_management_app.config.IdempotencyFilter;
+import com.project.task_management_app.enums.TaskPriority;
+import com.project.task_management_app.enums.TaskStatus;
+import com.project.task_management_app.models.Task;
+import com.project.task_management_app.models.TaskAssignment;
+import com.project.task_management_app.models.User;
+import com.project.task_management_app.models.Workspace;
+import com.project.task_management_app.payload.Request.CreateTaskRequest;
+import com.project.task_management_app.payload.Request.UpdateTaskRequest;
+import com.project.task_management_app.services.TaskArchivalService;
+import com.project.task_management_app.support.EndpointTest;
+import com.project.task_management_app.support.QueryBudget;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class TaskControllerTest extends EndpointTest {
+    @Autowired
+    private TaskArchivalService taskArchivalService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @QueryBudget(7)
+    void getAllTasks() throws Exception {
+        mockMvc.perform(get("/api/v1/workspaces/{id}/tasks", data.teamWorkspaceId())
+                        .param("page", "2").param("size", "20")
+                        .header("Authorization", seeder.bearer(data.owner())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(20)));
+    }
+
+    @Test
+    @QueryBudget(3)
+    void getAllTasksIncludingArchived() throws Exception {
+        List<User> members = List.of(seeder.freshUser());
+        User owner = seeder.freshUser();
+        Workspace workspace = seeder.freshWorkspace(owner, members);
+        Task done = seeder.freshTask(workspace, owner, members);
+        seeder.freshTask(workspace, owner, members);
+        jdbcTemplate.update("UPDATE tasks SET status = 'COMPLETED', updated_at = ? WHERE id = ?",
+                LocalDateTime.now().minusYears(1), done.getId());
+
+        taskArchivalService.archiveCompletedTasks();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_tombstones WHERE task_id = ?",
+                Long.class, done.getId())).isEqualTo(1);
+
+        mockMvc.perform(get("/api/v1/workspaces/{id}/tasks", workspace.getId())
+                        .header("Authorization", seeder.bearer(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andExpect(jsonPath("$.data[0].archivedAt").doesNotExist());
+        mockMvc.perform(get("/api/v1/workspaces/{id}/tasks/search", workspace.getId())
+                        .param("status", "COMPLETED")
+                        .param("includeArchived", "true")
+                        .param("page", "0")
+                        .header("Authorization", seeder.bearer(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andExpect(jsonPath("$.data[0].id").value(done.getId().toString()))
+                .andExpect(jsonPath("$.data[0].archivedAt").exists())
+                .andExpect(jsonPath("$.data[0].assignees", hasSize(1)));
+    }
+
+    @Test
+    @QueryBudget(8)
+    void getChanges() throws Exception {
+        mockMvc.perform(get("/api/v1/workspaces/{id}/tasks/changes", data.teamWorkspaceId())
+                        .param("limit", "100")
+                        .header("Authorization", seeder.bearer(data.owner())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.changed", hasSize(100)))
+                .andExpect(jsonPath("$.data.hasMore").value(true));
+    }
+
+    @Test
+    @QueryBudget(4)
+    void getCalendar() throws Exception {
+        LocalDate today = LocalDate.now();
+        mockMvc.perform(get("/api/v1/workspaces/{id}/tasks/calendar", data.teamWorkspaceId())
+                        .param("from", today.toString())
+                        .param("to", today.plusDays(6).toString())
+                        .header("Authorization", seeder.bearer(data.owner())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.days", hasSize(7)))
+                .andExpect(jsonPath("$.data.days[0].date").value(today.toString()))
+                .andExpect(jsonPath("$.data.days[6].tasks[0].workspaceId").value(data.teamWorkspaceId().toString()));
+
+        mockMvc.perform(get("/api/v1/workspaces/{id}/tasks/calendar", data.teamWorkspaceId())
+                        .param("from", today.toString())
+                        .param("to", today.plusYears(1).toString())
+                        .header("Authorization", seeder.bearer(data.owner())))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @QueryBudget(6)
+    void getTaskById() throws Exception {
+        mockMvc.perform(get("/api/v1/workspaces/{id}/tasks/{taskId}", data.teamWorkspaceId(), data.teamTaskIds().get(7))
+                        .header("Authorization", seeder.bearer(data.owner())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.assignees", hasSize(3)));
+    }
+
+    @Test
+    @QueryBudget(7)
+    void createTask() throws Exception {
+        List<User> members = List.of(seeder.freshUser(), seeder.freshUser(), seeder.freshUser());
+        User owner = seeder.freshUser();
+        Workspace workspace = seeder.freshWorkspace(owner, members);
+
+        CreateTaskRequest request = new CreateTaskRequest();
+        request.setTitle("Create " + workspace.getName());
+        request.setStatus(TaskStatus.TODO);
+        request.setPriority(TaskPriority.HIGH);
+        request.setCategory("Work");
+        request.setDueDate(LocalDateTime.now().plusDays(3));
+        request.setWorkspaceId(workspace.getId());
+        request.setAssigneeIds(Set.of(members.get(0).getId(), members.get(1).getId(), members.get(2).getId()));
+
+        mockMvc.perform(post("/api/v1/workspaces/{id}/tasks", workspace.getId())
+                        .header("Authorization", seeder.bearer(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.assignees", hasSize(3)));
+    }
+
+    @Test
+    void createTaskWithIdempotencyKeyRunsOnce() throws Exception {
+        User owner = seeder.freshUser();
+        Workspace workspace = seeder.freshWorkspace(owner, List.of());
+        String bearer = seeder.bearer(owner);
+        String key = UUID.randomUUID().toString();
+
+        CreateTaskRequest request = new CreateTaskRequest();
+        request.setTitle("Idempotent " + workspace.getName());
+        request.setStatus(TaskStatus.TODO);
+        request.setPriority(TaskPriority.LOW);
+        request.setDueDate(LocalDateTime.now().plusDays(1));
+        request.setWorkspaceId(workspace.getId());
+        String body = json(request);
+
+        // Retries of a request that is still running wait for it and get its response
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        List<Future<MockHttpServletResponse>> retries = new ArrayList<>();
+        Set<String> eTags = new HashSet<>();
+        try {
+            for (int i = 0; i < 4; i++) {
+                retries.add(pool.submit(() -> mockMvc.perform(post("/api/v1/workspaces/{id}/tasks", workspace.getId())
+                                .header("Authorization", bearer)
+                                .header(IdempotencyFilter.IDEMPOTENCY_KEY, key)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body))
+                        .andReturn().getResponse()));
+            }
+            Set<String> ids = new HashSet<>();
+            for (Future<MockHttpServletResponse> retry : retries) {
+                MockHttpServletResponse response = retry.get(30, TimeUnit.SECONDS);
+                assertThat(response.getStatus()).isEqualTo(201);
+                ids.add(JsonPath.read(response.getContentAsString(), "$.data.id"));
+                eTags.add(response.getHeader(HttpHeaders.ETAG));
+            }
+            assertThat(ids).hasSize(1);
+            assertThat(eTags).hasSize(1).doesNotContainNull();
+        } finally {
+            pool.shutdownNow();
+        }
+
+        mockMvc.perform(post("/api/v1/workspaces/{id}/tasks", workspace.getId())
+                        .header("Authorization", bearer)
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED, "true"))
+                .andExpect(header().string(HttpHeaders.ETAG, eTags.iterator().next()));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE workspace_id = ?", Long.class, workspace.getId()))
+                .isEqualTo(1L);
+
+        request.setTitle("Something else " + workspace.getName());
+        mockMvc.perform(post("/api/v1/workspaces/{id}/tasks", workspace.getId())
+                        .header("Authorization", bearer)
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(request)))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void idempotencyKeyLeftPendingIsTakenOverAfterItsLease() throws Exception {
+        User owner = seeder.freshUser();
+        Workspace workspace = seeder.freshWorkspace(owner, List.of());
+        String path = "/api/v1/workspaces/" + workspace.getId() + "/tasks";
+        CreateTaskRequest request = new CreateTaskRequest();
+        request.setTitle("Leased " + workspace.getName());
+        request.setStatus(TaskStatus.TODO);
+        request.setPriority(TaskPriority.LOW);
+        request.setDueDate(LocalDateTime.now().plusDays(1));
+        request.setWorkspaceId(workspace.getId());
+        String body = json(request);
+        String fingerprint = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                .digest(("POST " + path + "\n" + body).getBytes(StandardCharsets.UTF_8)));
+
+        // Rows left pending by requests that died, one still within its lease and one past it
+        LocalDateTime now = LocalDateTime.now();
+        for (String key : List.of("fresh", "stale")) {
+            LocalDateTime claimedAt = key.equals("fresh") ? now.minusSeconds(5) : now.minusMinutes(5);
+            jdbcTemplate.update("INSERT INTO idempotency_keys (id, user_id, idempotency_key, fingerprint, " +
+                            "created_at, claimed_at, expires_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                    UUID.randomUUID(), owner.getId(), key, fingerprint, claimedAt, claimedAt, now.plusDays(1));
+        }
+
+        mockMvc.perform(post(path)
+                        .header("Authorization", seeder.bearer(owner))
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY, "fresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isConflict());
+        mockMvc.perform(post(path)
+                        .header("Authorization", seeder.bearer(owner))
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY, "stale")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED));
+        assertThat(jdbcTemplate.queryForObject("SELECT status_code FROM idempotency_keys WHERE user_id = ? AND idempotency_key = ?",
+                Integer.class, owner.getId(), "stale")).isEqualTo(201);
+    }
+
+    @Test
+    @QueryBudget(7)
+    void updateTask() throws Exception {
+        List<User> members = List.of(seeder.freshUser(), seeder.freshUser(), seeder.freshUser());
+        User owner = seeder.freshUser();
+        Workspace workspace = seeder.freshWorkspace(owner, members);
+        Task task = seeder.freshTask(workspace, owner, members.subList(0, 2));
+
+        UpdateTaskRequest request = new UpdateTaskRequest();
+        request.setTitle("Updated " + task.getId());
+        request.setPriority(TaskPriority.CRITICAL);
+        request.setAssigneeIds(Set.of(members.get(1).getId(), members.get(2).getId()));
+
+        mockMvc.perform(put("/api/v1/workspaces/{id}/tasks/{taskId}", workspace.getId(), task.getId())
+                        .header("Authorization", seeder.bearer(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.priority").value("CRITICAL"))
+                .andExpect(jsonPath("$.data.assignees", hasSize(2)));
+    }
+
+    @Test
+    void updateTaskWithStaleIfMatchIsRejected() throws Exception {
+        User owner = seeder.freshUser();
+        Workspace workspace = seeder.freshWorkspace(owner, List.of());
+        Task task = seeder.freshTask(workspace, owner, List.of());
+
+        String read = mockMvc.perform(get("/api/v1/workspaces/{id}/tasks/{taskId}", workspace.getId(), task.getId())
+                        .header("Authorization", seeder.bearer(owner)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        UpdateTaskRequest request = new UpdateTaskRequest();
+        request.setCategory("First");
+        String written = mockMvc.perform(put("/api/v1/workspaces/{id}/tasks/{taskId}", workspace.getId(), task.getId())
+                        .header("Authorization", seeder.bearer(owner))
+                        .header(HttpHeaders.IF_MATCH, read)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(request)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(written).isNotEqualTo(read);
+
+        request.setCategory("Second");
+        mockMvc.perform(put("/api/v1/workspaces/{id}/tasks/{taskId}", workspace.getId(), task.getId())
+                        .header("Authorization", seeder.bearer(owner))
+                        .header(HttpHeaders.IF_MATCH, read)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(request)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @QueryBudget(7)
+    void updateAssignmentStatus() throws Exception {
+        List<User> members = List.of(seeder.freshUser(), seeder.freshUser());
+        User owner = seeder.freshUser();
+        Workspace workspace = seeder.freshWorkspace(owner, members);
+        Task task = seeder.freshTask(workspace, owner, members);
+        TaskAssignment assignment = task.getAssignments().get(0);
+
+        mockMvc.perform(patch("/api/v1/workspaces/{id}/tasks/{taskId}/assignments/{assignmentId}",
+                                workspace.getId(), task.getId(), assignment.getId())
+                        .header("Authorization", seeder.bearer(assignment.getAssignee()))
+                        .header(HttpHeaders.IF_MATCH, "\"" + assignment.getVersion() + "\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"IN_PROGRESS\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + (assignment.getVersion() + 1) + "\""))
+                .andExpect(jsonPath("$.data.assignees[?(@.assignmentId == '%s')].status", assignment.getId())
+                        .value(contains("IN_PROGRESS")));
+    }
+
+    // Every assignee of one task moves their assignment through IN_PROGRESS to COMPLETED at the same time.
+    // Each change recalculates the task status from all assignments, without versions the last writers
+    // computed it from stale reads and the task could stay IN_PROGRESS with every assignment done.
+    @Test
+    void concurrentAssignmentUpdatesLeaveTaskCompleted() throws Exception {
+        int assignees = 8;
+        List<User> members = new ArrayList<>();
+        for (int i = 0; i < assignees; i++) {
+            members.add(seeder.freshUser());
+        }
+        User owner = seeder.freshUser();
+        Workspace workspace = seeder.freshWorkspace(owner, members);
+        Task task = seeder.freshTask(workspace, owner, members);
+        long initialVersion = jdbcTemplate.queryForObject("SELECT version FROM tasks WHERE id = ?", Long.class, task.getId());
+
+        ExecutorService pool = Executors.newFixedThreadPool(assignees);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<Integer>>> results = new ArrayList<>();
+        int accepted = 0;
+        try {
+            for (TaskAssignment assignment : task.getAssignments()) {
+                String bearer = seeder.bearer(assignment.getAssignee());
+                results.add(pool.submit(() -> {
+                    start.await();
+                    List<Integer> statuses = new ArrayList<>();
+                    for (String status : List.of("IN_PROGRESS", "COMPLETED")) {
+                        // A 409 means the server ran out of retries, the client sends the change again
+                        int response;
+                        int attempts = 0;
+                        do {
+                            response = mockMvc.perform(patch("/api/v1/workspaces/{id}/tasks/{taskId}/assignments/{assignmentId}",
+                                            workspace.getId(), task.getId(), assignment.getId())
+                                            .header("Authorization", bearer)
+                                            .contentType(MediaType.APPLICATION_JSON)
+                                            .content("{\"status\":\"" + status + "\"}"))
+                                    .andReturn().getResponse().getStatus();
+                            statuses.add(response);
+                        } while (response == 409 && ++attempts < 20);
+                    }
+                    return statuses;
+                }));
+            }
+            start.countDown();
+            for (Future<List<Integer>> result : results) {
+                List<Integer> statuses = result.get(60, TimeUnit.SECONDS);
+                assertThat(statuses).isSubsetOf(200, 409);
+                accepted += (int) statuses.stream().filter(status -> status == 200).count();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(jdbcTemplate.queryForList("SELECT status FROM task_assignments WHERE task_id = ?", String.class, task.getId()))
+                .hasSize(assignees).containsOnly("COMPLETED");
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM tasks WHERE id = ?", String.class, task.getId()))
+                .isEqualTo("COMPLETED");
+        // Every change was eventually accepted and wrote the task row exactly once, none was lost
+        assertThat(accepted).isEqualTo(2 * assignees);
+        assertThat(jdbcTemplate.queryForObject("SELECT version FROM tasks WHERE id = ?", Long.class, task.getId()))
+                .isEqualTo(initialVersion + accepted);
+    }
+
+    @Test
+    @QueryBudget(7)
+    void deleteTask() throws Exception {
+        List<User> members = List.of(seeder.freshUser(), seeder.freshUser());
+        User owner = seeder.freshUser();
+        Workspace workspace = seeder.freshWorkspace(owner, members);
+        Task task = seeder.freshTask(workspace, owner, members);
+
+        mockMvc.perform(delete("/api/v1/workspaces/{id}/tasks/{taskId}", workspace.getId(), task.getId())
+                        .header("Authorization", seeder.bearer(owner)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(7)
+    void getTasksByStatus() throws Exception {
+        mockMvc.perform(get("/api/v1/workspaces/{id}/tasks/status/{status}", data.teamWorkspaceId(), TaskStatus.IN_PROGRESS)
+                        .header("Authorization", seeder.bearer(data.owner())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(60)));
+    }
+
+    @Test
+    @QueryBudget(7)
+    void getTasksByPriority() throws Exception {
+        mockMvc.perform(get("/api/v1/workspaces/{id}/tasks/priority/{priority}", data.teamWorkspaceId(), TaskPriority.HIGH)
+                        .header("Authorization", seeder.bearer(data.owner())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(75)));
+    }
+
+    @Test
+    @QueryBudget(7)
+    void getTasksByCategory() throws Exception {
+        mockMvc.perform(get("/api/v1/workspaces/{id}/tasks/category/{category}", data.teamWorkspaceId(), "Ops")
+                        .header("Authorization", seeder.bearer(data.owner())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(75)));
+    }
+
+    @Test
+    @QueryBudget(6)
+    void getRecentTasks() throws Exception {
+        mockMvc.perform(get("/api/v1/workspaces/{id}/tasks/recent", data.teamWorkspaceId())
+                        .header("Authorization", seeder.bearer(data.owner())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(5)));
+    }
+
+    @Test
+    @QueryBudget(7)
+    void searchTasks() throws Exception {
+        mockMvc.perform(get("/api/v1/workspaces/{id}/tasks/search", data.teamWorkspaceId())
+                        .param("title", "team-1")
+                        .param("priority", "MEDIUM")
+                        .param("size", "5")
+                        .header("Authorization", seeder.bearer(data.owner())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(5)));
+    }
+
+    @Test
+    @QueryBudget(8)
+    void searchTasksWithFacets() throws Exception {
+        String body = mockMvc.perform(get("/api/v1/workspaces/{id}/tasks/search/facets", data.teamWorkspaceId())
+                        .param("priority", "MEDIUM")
+                        .param("size", "5")
+                        .header("Authorization", seeder.bearer(data.owner())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.tasks", hasSize(5)))
+                .andExpect(jsonPath("$.data.totalMatches").value(75))
+                .andExpect(jsonPath("$.data.priorityFacets", hasSize(1)))
+                .andExpect(jsonPath("$.data.priorityFacets[0].value").value("MEDIUM"))
+                .andExpect(jsonPath("$.data.priorityFacets[0].count").value(75))
+                .andReturn().getResponse().getContentAsString();
+
+        // Each facet partitions the full matching set, not the page
+        for (String facet : List.of("statusFacets", "categoryFacets")) {
+            List<Integer> counts = JsonPath.read(body, "$.data." + facet + "[*].count");
+            assertThat(counts.stream().mapToInt(Integer::intValue).sum()).as(facet).isEqualTo(75);
+        }
+    }
+
+    @Test
+    void categoryFacetsIgnoreCaseLikeTheFilter() throws Exception {
+        User owner = seeder.freshUser();
+        Workspace workspace = seeder.freshWorkspace(owner, List.of());
+        for (String category : List.of("Work", "WORK")) {
+            Task task = seeder.freshTask(workspace, owner, List.of());
+            jdbcTemplate.update("UPDATE tasks SET category = ? WHERE id = ?", category, task.getId());
+        }
+
+        mockMvc.perform(get("/api/v1/workspaces/{id}/tasks/search/facets", workspace.getId())
+                        .param("category", "work")
+                        .header("Authorization", seeder.bearer(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalMatches").value(2))
+                .andExpect(jsonPath("$.data.categoryFacets", hasSize(1)))
+                .andExpect(jsonPath("$.data.categoryFacets[0].count").value(2));
+    }
+}
@@ -0,0 +1,117 @@
+package com.project.task_management_app.controllers;
+
+import com.jayway.jsonpath.JsonPath;
+import com.project.task_management_app.models.User;
+import com.project.task_management_app.payload.Request.UpdateUserRequest;
+import com.project.task_management_app.support.EndpointTest;
+import com.project.task_management_app.support.QueryBudget;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class UserControllerTest extends EndpointTest {
+
+    @Test
+    @QueryBudget(1)
+    void getCurrentUser() throws Exception {
+        mockMvc.perform(get("/api/v1/users/me")
+                        .header("Authorization", seeder.bearer(data.owner())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(data.owner().getId().toString()));
+    }
+
+    @Test
+    @QueryBudget(3)
+    void updateCurrentUser() throws Exception {
+        User user = seeder.freshUser();
+        UpdateUserRequest request = new UpdateUserRequest();
+        request.setUsername(user.getUsername() + "x");
+        request.setUserImgUrl("https://example.com/avatar.png");
+
+        mockMvc.perform(put("/api/v1/users/me")
+                        .header("Authorization", seeder.bearer(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.username").value(user.getUsername() + "x"));
+    }
+
+    // The owner belongs to ten workspaces and is assigned a third of the 300 team tasks
+    @Test
+    @QueryBudget(9)
+    void getDashboard() throws Exception {
+        mockMvc.perform(get("/api/v1/users/dashboard")
+                        .header("Authorization", seeder.bearer(data.owner())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true));
+    }
+
+    @Test
+    @QueryBudget(4)
+    void getAssignedTasks() throws Exception {
+        String first = mockMvc.perform(get("/api/v1/users/me/tasks")
+                        .param("limit", "20")
+                        .header("Authorization", seeder.bearer(data.owner())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.tasks", hasSize(20)))
+                .andExpect(jsonPath("$.data.hasMore").value(true))
+                .andReturn().getResponse().getContentAsString();
+
+        String cursor = JsonPath.read(first, "$.data.nextCursor");
+        String second = mockMvc.perform(get("/api/v1/users/me/tasks")
+                        .param("limit", "20")
+                        .param("cursor", cursor)
+                        .header("Authorization", seeder.bearer(data.owner())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.tasks", hasSize(20)))
+                .andReturn().getResponse().getContentAsString();
+
+        // The second page starts after the last due date of the first
+        List<String> firstDue = JsonPath.read(first, "$.data.tasks[*].dueDate");
+        List<String> secondDue = JsonPath.read(second, "$.data.tasks[*].dueDate");
+        assertThat(firstDue).isSorted();
+        assertThat(secondDue.get(0)).isGreaterThanOrEqualTo(firstDue.get(firstDue.size() - 1));
+        List<String> firstIds = JsonPath.read(first, "$.data.tasks[*].id");
+        List<String> secondIds = JsonPath.read(second, "$.data.tasks[*].id");
+        assertThat(secondIds).doesNotContainAnyElementsOf(firstIds);
+    }
+
+    @Test
+    @QueryBudget(3)
+    void getCalendar() throws Exception {
+        LocalDate today = LocalDate.now();
+        String body = mockMvc.perform(get("/api/v1/users/me/calendar")
+                        .param("from", today.toString())
+                        .param("to", today.plusDays(6).toString())
+                        .header("Authorization", seeder.bearer(data.owner())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.days", hasSize(7)))
+                .andReturn().getResponse().getContentAsString();
+
+        // Every workspace of the owner has tasks due in the week
+        List<String> workspaceIds = JsonPath.read(body, "$.data.days[*].tasks[*].workspaceId");
+        assertThat(workspaceIds).contains(data.teamWorkspaceId().toString());
+        assertThat(workspaceIds).containsAll(data.sideWorkspaceIds().stream().map(UUID::toString).toList());
+
+        mockMvc.perform(get("/api/v1/users/me/calendar")
+                        .param("from", today.toString())
+                        .param("to", today.plusDays(6).toString())
+                        .param("workspaceIds", data.sideWorkspaceIds().get(0).toString())
+                        .header("Authorization", seeder.bearer(data.owner())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.days[*].tasks[*].workspaceId",
+                        everyItem(is(data.sideWorkspaceIds().get(0).toString()))));
+    }
+}
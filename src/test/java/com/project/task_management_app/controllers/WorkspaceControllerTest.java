@@ -0,0 +1,203 @@
+package com.project.task_management_app.controllers;
+
+import com.project.task_management_app.enums.DeletionJobStatus;
+import com.project.task_management_app.enums.WorkspaceType;
+import com.project.task_management_app.models.User;
+import com.project.task_management_app.models.Workspace;
+import com.project.task_management_app.payload.Request.CreateWorkspaceRequest;
+import com.project.task_management_app.payload.Request.UpdateWorkspaceRequest;
+import com.project.task_management_app.repositories.WorkspaceDeletionJobRepository;
+import com.project.task_management_app.support.EndpointTest;
+import com.project.task_management_app.support.QueryBudget;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class WorkspaceControllerTest extends EndpointTest {
+    @Autowired
+    private WorkspaceDeletionJobRepository jobRepository;
+
+    @Test
+    @QueryBudget(4)
+    void createWorkspace() throws Exception {
+        User owner = seeder.freshUser();
+        CreateWorkspaceRequest request = new CreateWorkspaceRequest();
+        request.setName("Created by " + owner.getUsername());
+        request.setDescription("Budgeted");
+        request.setType(WorkspaceType.PRIVATE);
+
+        mockMvc.perform(post("/api/v1/workspaces")
+                        .header("Authorization", seeder.bearer(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.members", hasSize(1)));
+    }
+
+    @Test
+    @QueryBudget(3)
+    void updateWorkspace() throws Exception {
+        User owner = seeder.freshUser();
+        Workspace workspace = seeder.freshWorkspace(owner, data.members());
+        UpdateWorkspaceRequest request = new UpdateWorkspaceRequest();
+        request.setName(workspace.getName() + "-renamed");
+        request.setDescription("Renamed");
+
+        mockMvc.perform(put("/api/v1/workspaces/{id}", workspace.getId())
+                        .header("Authorization", seeder.bearer(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.members", hasSize(41)));
+    }
+
+    @Test
+    @QueryBudget(4)
+    void deleteWorkspace() throws Exception {
+        User owner = seeder.freshUser();
+        Workspace workspace = seeder.freshWorkspace(owner, List.of(seeder.freshUser()));
+
+        mockMvc.perform(delete("/api/v1/workspaces/{id}", workspace.getId())
+                        .header("Authorization", seeder.bearer(owner)))
+                .andExpect(status().isAccepted());
+
+        awaitDeletion(workspace.getId());
+    }
+
+    @Test
+    @QueryBudget(4)
+    void getDeletionStatus() throws Exception {
+        User owner = seeder.freshUser();
+        Workspace workspace = seeder.freshWorkspace(owner, List.of());
+        mockMvc.perform(delete("/api/v1/workspaces/{id}", workspace.getId())
+                        .header("Authorization", seeder.bearer(owner)))
+                .andExpect(status().isAccepted());
+
+        mockMvc.perform(get("/api/v1/workspaces/{id}/deletion", workspace.getId())
+                        .header("Authorization", seeder.bearer(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.workspaceId").value(workspace.getId().toString()));
+
+        awaitDeletion(workspace.getId());
+    }
+
+    @Test
+    @QueryBudget(4)
+    void deletionIsOwnerOnly() throws Exception {
+        User owner = seeder.freshUser();
+        User member = seeder.freshUser();
+        Workspace workspace = seeder.freshWorkspace(owner, List.of(member));
+
+        mockMvc.perform(delete("/api/v1/workspaces/{id}", workspace.getId())
+                        .header("Authorization", seeder.bearer(member)))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(delete("/api/v1/workspaces/{id}", workspace.getId())
+                        .header("Authorization", seeder.bearer(owner)))
+                .andExpect(status().isAccepted());
+
+        mockMvc.perform(get("/api/v1/workspaces/{id}/deletion", workspace.getId())
+                        .header("Authorization", seeder.bearer(member)))
+                .andExpect(status().isNotFound());
+
+        awaitDeletion(workspace.getId());
+    }
+
+    @Test
+    @QueryBudget(2)
+    void getAllWorkspaces() throws Exception {
+        mockMvc.perform(get("/api/v1/workspaces")
+                        .header("Authorization", seeder.bearer(data.owner())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(10)));
+    }
+
+    @Test
+    @QueryBudget(2)
+    void typeahead() throws Exception {
+        mockMvc.perform(get("/api/v1/workspaces/typeahead")
+                        .param("prefix", "ws")
+                        .header("Authorization", seeder.bearer(data.owner())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(10)));
+    }
+
+    // Only the synchronous part of the subscription is counted, events are sent later from other threads
+    @Test
+    @QueryBudget(3)
+    void streamEvents() throws Exception {
+        mockMvc.perform(get("/api/v1/workspaces/{id}/events", data.teamWorkspaceId())
+                        .header("Authorization", seeder.bearer(data.members().get(3))))
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    @QueryBudget(4)
+    void getWorkspaceMembers() throws Exception {
+        mockMvc.perform(get("/api/v1/workspaces/{id}/members", data.teamWorkspaceId())
+                        .param("size", "20")
+                        .header("Authorization", seeder.bearer(data.members().get(3))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.members", hasSize(20)))
+                .andExpect(jsonPath("$.data.hasMore").value(true));
+    }
+
+    @Test
+    @QueryBudget(3)
+    void getWorkspaceByName() throws Exception {
+        Workspace workspace = seeder.freshWorkspace(seeder.freshUser(), data.members());
+
+        mockMvc.perform(get("/api/v1/workspaces/search")
+                        .param("name", workspace.getName())
+                        .header("Authorization", seeder.bearer(data.owner())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.members", hasSize(41)));
+    }
+
+    @Test
+    @QueryBudget(5)
+    void joinWorkspaceByEntryCode() throws Exception {
+        User owner = seeder.freshUser();
+        Workspace workspace = seeder.freshWorkspace(owner, data.members());
+
+        mockMvc.perform(get("/api/v1/workspaces/{id}/invite/{code}", workspace.getId(), workspace.getEntryCode())
+                        .header("Authorization", seeder.bearer(seeder.freshUser())))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(2)
+    void leaveWorkspace() throws Exception {
+        User member = seeder.freshUser();
+        Workspace workspace = seeder.freshWorkspace(seeder.freshUser(), List.of(member));
+
+        mockMvc.perform(delete("/api/v1/workspaces/{id}/members/me", workspace.getId())
+                        .header("Authorization", seeder.bearer(member)))
+                .andExpect(status().isOk());
+    }
+
+    // The deletion worker ends by purging the workspace rows, which clears the shared workspaces cache
+    // region; letting it finish here keeps that from landing in the middle of a later test
+    private void awaitDeletion(UUID workspaceId) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (System.nanoTime() < deadline) {
+            DeletionJobStatus status = jobRepository.findFirstByWorkspaceIdOrderByCreatedAtDesc(workspaceId)
+                    .orElseThrow().getStatus();
+            if (status == DeletionJobStatus.COMPLETED) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Deletion of workspace " + workspaceId + " did not complete");
+    }
+}
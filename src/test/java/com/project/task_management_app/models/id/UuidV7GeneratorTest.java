@@ -0,0 +1,38 @@
+package com.project.task_management_app.models.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    void idsCarryVersionVariantAndCreationTime() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7Generator.next();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(id.getMostSignificantBits() >>> 16).isBetween(before, System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    void idsIncreaseInBinaryOrder() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            ids.add(UuidV7Generator.next());
+        }
+
+        assertThat(new HashSet<>(ids)).hasSize(ids.size());
+        // BINARY(16) compares bytes unsigned, the high 64 bits alone already order them
+        for (int i = 1; i < ids.size(); i++) {
+            assertThat(Long.compareUnsigned(ids.get(i - 1).getMostSignificantBits(), ids.get(i).getMostSignificantBits()))
+                    .isNegative();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.project.task_management_app.repositories;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.ResourceProvider;
+import org.flywaydb.core.api.resource.LoadableResource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Applies the Flyway migrations to H2 in MySQL mode and starts Hibernate with ddl-auto=validate, so a
+// migration that doesn't match the entities fails the normal build instead of the next deployment.
+// QueryPlanTest runs them on MySQL itself but needs Docker. H2 lacks two MySQL features the migrations
+// use, both are rewritten while the scripts are read: functional index key parts become plain columns
+// and UNHEX becomes HEXTORAW. Hibernate stores UUIDs as BINARY(16) like its MySQL dialect does.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:migrations;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.type.preferred_uuid_jdbc_type=BINARY"
+})
+@Import(MigrationSchemaTest.H2MigrationsConfig.class)
+class MigrationSchemaTest {
+    private static final String LOCATION = "db/migration/";
+    private static final Pattern FUNCTIONAL_KEY_PART = Pattern.compile("\\(LOWER\\((\\w+)\\)\\)");
+    private static final Pattern UNHEX = Pattern.compile("\\bUNHEX\\(");
+
+    @Autowired
+    private Flyway flyway;
+
+    @Test
+    void migrationsApplyAndMatchTheEntities() throws IOException {
+        // The context only starts once Hibernate has validated every entity against the migrated schema
+        int scripts = new PathMatchingResourcePatternResolver().getResources("classpath:" + LOCATION + "V*.sql").length;
+        assertThat(flyway.info().applied()).hasSize(scripts);
+        assertThat(flyway.info().pending()).isEmpty();
+    }
+
+    @TestConfiguration
+    static class H2MigrationsConfig {
+        @Bean
+        FlywayConfigurationCustomizer h2Migrations() {
+            return configuration -> configuration.resourceProvider(new H2MigrationResources());
+        }
+    }
+
+    static class H2MigrationResources implements ResourceProvider {
+        private final List<LoadableResource> resources;
+
+        H2MigrationResources() {
+            try {
+                resources = Arrays.stream(new PathMatchingResourcePatternResolver().getResources("classpath:" + LOCATION + "*.sql"))
+                        .map(H2MigrationResources::forH2)
+                        .toList();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public LoadableResource getResource(String name) {
+            return resources.stream()
+                    .filter(resource -> resource.getRelativePath().equals(name))
+                    .findFirst()
+                    .orElse(null);
+        }
+
+        @Override
+        public Collection<LoadableResource> getResources(String prefix, String[] suffixes) {
+            return resources.stream()
+                    .filter(resource -> resource.getFilename().startsWith(prefix))
+                    .filter(resource -> Arrays.stream(suffixes).anyMatch(resource.getFilename()::endsWith))
+                    .toList();
+        }
+
+        private static LoadableResource forH2(Resource script) {
+            String filename = script.getFilename();
+            String sql;
+            try {
+                sql = script.getContentAsString(StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            String h2Sql = UNHEX.matcher(FUNCTIONAL_KEY_PART.matcher(sql).replaceAll("$1")).replaceAll("HEXTORAW(");
+            return new LoadableResource() {
+                @Override
+                public Reader read() {
+                    return new StringReader(h2Sql);
+                }
+
+                @Override
+                public String getAbsolutePath() {
+                    return LOCATION + filename;
+                }
+
+                @Override
+                public String getAbsolutePathOnDisk() {
+                    return LOCATION + filename;
+                }
+
+                @Override
+                public String getFilename() {
+                    return filename;
+                }
+
+                @Override
+                public String getRelativePath() {
+                    return filename;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package com.project.task_management_app.repositories;
+
+import com.project.task_management_app.enums.AssignmentStatus;
+import com.project.task_management_app.enums.TaskPriority;
+import com.project.task_management_app.enums.TaskStatus;
+import com.project.task_management_app.models.Task;
+import com.project.task_management_app.models.User;
+import com.project.task_management_app.models.Workspace;
+import com.project.task_management_app.repositories.projections.TaskRefView;
+import com.project.task_management_app.support.StatementRecorder;
+import com.project.task_management_app.support.StatementRecorder.RecordedStatement;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs every query of the task, archive, workspace and assignment repositories against MySQL with the
+// schema built by the Flyway migrations, then EXPLAINs each statement sent and fails on a full table scan.
+// Needs Docker, skipped otherwise.
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        // Every lookup has to reach the database to be explained
+        "app.cache.second-level.enabled=false"
+})
+@Import(QueryPlanTest.RecorderConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+    private static final int USERS = 60;
+    private static final int WORKSPACES = 20;
+    private static final int MEMBERS_PER_WORKSPACE = 10;
+    private static final int TASKS_PER_WORKSPACE = 50;
+    private static final int ASSIGNEES_PER_TASK = 2;
+    private static final String[] CATEGORIES = {"Work", "Personal", "Ops", "Design"};
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void mysql(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.driver-class-name", MYSQL::getDriverClassName);
+    }
+
+    @TestConfiguration
+    static class RecorderConfig {
+        @Bean
+        static BeanPostProcessor statementRecorderPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && beanName.equals("dataSource")
+                            ? new StatementRecorder(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private TaskAssignmentRepository taskAssignmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<UUID> userIds = new ArrayList<>();
+    private final List<UUID> workspaceIds = new ArrayList<>();
+    private final List<UUID> taskIds = new ArrayList<>();
+    private UUID emptyWorkspaceId;
+
+    @BeforeAll
+    void seed() {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            UUID id = UUID.randomUUID();
+            userIds.add(id);
+            users.add(new Object[]{bytes(id), "plan" + i, "plan" + i + "@example.com", "x", "USER"});
+        }
+        jdbc.batchUpdate("INSERT INTO users (id, username, email, password, role) VALUES (?, ?, ?, ?, ?)", users);
+
+        List<Object[]> workspaces = new ArrayList<>();
+        List<Object[]> members = new ArrayList<>();
+        for (int w = 0; w <= WORKSPACES; w++) {
+            UUID id = UUID.randomUUID();
+            workspaces.add(new Object[]{bytes(id), "Workspace " + w, "", "code-" + id, "PUBLIC",
+                    bytes(userIds.get(w % USERS)), Timestamp.valueOf(now.minusDays(w))});
+            if (w == WORKSPACES) {
+                // Left without members and tasks so its row can be deleted
+                emptyWorkspaceId = id;
+                continue;
+            }
+            workspaceIds.add(id);
+            for (int m = 0; m < MEMBERS_PER_WORKSPACE; m++) {
+                members.add(new Object[]{bytes(id), bytes(userIds.get((w + m) % USERS))});
+            }
+        }
+        jdbc.batchUpdate("INSERT INTO workspaces (id, name, description, entry_code, type, owner_id, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", workspaces);
+        jdbc.batchUpdate("INSERT INTO workspace_members (workspace_id, user_id) VALUES (?, ?)", members);
+
+        List<Object[]> tasks = new ArrayList<>();
+        List<Object[]> assignments = new ArrayList<>();
+        List<Object[]> archivedTasks = new ArrayList<>();
+        List<Object[]> archivedAssignments = new ArrayList<>();
+        TaskStatus[] statuses = TaskStatus.values();
+        TaskPriority[] priorities = TaskPriority.values();
+        for (int w = 0; w < WORKSPACES; w++) {
+            for (int t = 0; t < TASKS_PER_WORKSPACE; t++) {
+                UUID id = UUID.randomUUID();
+                taskIds.add(id);
+                Timestamp created = Timestamp.valueOf(now.minusHours((long) w * TASKS_PER_WORKSPACE + t));
+                // The completed tasks of the second half of the workspaces have been moved to the archive
+                boolean archived = w >= WORKSPACES / 2 && statuses[t % statuses.length] == TaskStatus.COMPLETED;
+                (archived ? archivedTasks : tasks).add(new Object[]{bytes(id), "task-" + w + "-" + t,
+                        statuses[t % statuses.length].name(), priorities[t % priorities.length].name(),
+                        CATEGORIES[t % CATEGORIES.length], Timestamp.valueOf(now.plusDays(t % 14 - 3)), created, created,
+                        bytes(userIds.get(w % USERS)), bytes(workspaceIds.get(w)), Timestamp.valueOf(now)});
+                for (int a = 0; a < ASSIGNEES_PER_TASK; a++) {
+                    byte[] userId = bytes(userIds.get((w + t + a) % MEMBERS_PER_WORKSPACE + w % USERS));
+                    (archived ? archivedAssignments : assignments)
+                            .add(new Object[]{bytes(UUID.randomUUID()), bytes(id), userId, "PENDING"});
+                }
+            }
+        }
+        jdbc.batchUpdate("INSERT INTO tasks (id, title, status, priority, category, due_date, created_at, updated_at, " +
+                "user_id, workspace_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", withoutLast(tasks));
+        jdbc.batchUpdate("INSERT INTO task_assignments (id, task_id, user_id, status) VALUES (?, ?, ?, ?)", assignments);
+        jdbc.batchUpdate("INSERT INTO archived_tasks (id, title, status, priority, category, due_date, created_at, " +
+                "updated_at, user_id, workspace_id, archived_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", archivedTasks);
+        jdbc.batchUpdate("INSERT INTO archived_task_assignments (id, task_id, user_id, status) VALUES (?, ?, ?, ?)",
+                archivedAssignments);
+
+        // Stored responses to Idempotency-Key requests, one per user and day
+        List<Object[]> idempotencyKeys = new ArrayList<>();
+        for (int i = 0; i < USERS * 10; i++) {
+            Timestamp created = Timestamp.valueOf(now.minusDays(i / USERS));
+            idempotencyKeys.add(new Object[]{bytes(UUID.randomUUID()), bytes(userIds.get(i % USERS)), "key-" + i,
+                    "f".repeat(64), 201, created, created, Timestamp.valueOf(now.minusDays(i / USERS).plusDays(1))});
+        }
+        jdbc.batchUpdate("INSERT INTO idempotency_keys (id, user_id, idempotency_key, fingerprint, status_code, " +
+                "created_at, claimed_at, expires_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", idempotencyKeys);
+
+        // Fresh statistics, otherwise the optimizer still plans for empty tables
+        jdbc.execute("ANALYZE TABLE users, workspaces, workspace_members, tasks, task_assignments, " +
+                "archived_tasks, archived_task_assignments, idempotency_keys");
+    }
+
+    @Test
+    void repositoryQueriesUseIndexes() {
+        StatementRecorder recorder = (StatementRecorder) dataSource;
+        List<RecordedStatement> statements = recorder.record(() -> transactionTemplate.executeWithoutResult(status -> {
+            runQueries();
+            status.setRollbackOnly();
+        }));
+
+        List<String> fullScans = new ArrayList<>();
+        for (RecordedStatement statement : statements) {
+            String verb = statement.sql().stripLeading().toLowerCase(Locale.ROOT);
+            if (verb.startsWith("select") || verb.startsWith("update") || verb.startsWith("delete")) {
+                fullScans.addAll(fullScans(statement));
+            }
+        }
+
+        assertThat(statements).hasSizeGreaterThan(30);
+        assertThat(fullScans).as("statements scanning a whole table").isEmpty();
+    }
+
+    private void runQueries() {
+        UUID userId = userIds.get(3);
+        UUID workspaceId = workspaceIds.get(3);
+        UUID taskId = taskIds.get(3 * TASKS_PER_WORKSPACE + 7);
+        userRepository.findById(userId).orElseThrow();
+        Workspace workspace = workspaceRepository.findById(workspaceId).orElseThrow();
+        Task task = taskRepository.findById(taskId).orElseThrow();
+        LocalDateTime now = LocalDateTime.now();
+
+        taskRepository.findByTitle(task.getTitle());
+        taskRepository.findByTitleAndWorkspace(task.getTitle(), workspace);
+        taskRepository.findByIdAndWorkspace(taskId, workspace);
+        taskRepository.findByWorkspace(workspace);
+        taskRepository.findByWorkspaceAndStatus(workspace, TaskStatus.TODO);
+        taskRepository.findByWorkspaceAndPriority(workspace, TaskPriority.HIGH);
+        taskRepository.findByWorkspaceAndCategory(workspace, "Ops");
+        taskRepository.findByWorkspace(workspace, PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "createdAt")));
+        taskRepository.findByWorkspace(workspace, PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "dueDate")));
+        taskRepository.searchTasksByWorkspace(workspace, null, null, null, null, null, null, PageRequest.of(0, 10));
+        taskRepository.searchTasksByWorkspace(workspace, "task", TaskStatus.TODO, null, null, null, null, PageRequest.of(0, 10));
+        taskRepository.searchTasksByWorkspace(workspace, null, null, TaskPriority.LOW, "ops", null, null, PageRequest.of(0, 10));
+        taskRepository.searchTasksByWorkspace(workspace, null, null, null, null, now, now.plusDays(3), PageRequest.of(0, 10));
+        taskRepository.countFacetsByWorkspace(workspace, null, null, null, null, null, null);
+        taskRepository.countFacetsByWorkspace(workspace, "task", null, TaskPriority.LOW, null, null, null);
+        taskRepository.findRecentTasksByWorkspace(workspaceId);
+        taskRepository.findIdsByWorkspaceId(workspaceId, PageRequest.of(0, 20));
+        taskRepository.findChangedSince(workspaceId, now.minusDays(2), new UUID(0, 0), PageRequest.of(0, 20));
+        taskRepository.findCalendar(List.of(workspaceId), now.minusDays(3), now.plusDays(4));
+        taskRepository.findCalendar(workspaceIds.subList(0, 4), now.minusDays(3), now.plusDays(4));
+        taskRepository.findAssignedTo(userId);
+        List<Task> assigned = taskRepository.findAssignedPage(userId, null, null, null, null, null, PageRequest.of(0, 20));
+        Task lastAssigned = assigned.get(assigned.size() - 1);
+        taskRepository.findAssignedPage(userId, AssignmentStatus.PENDING, now.minusDays(3), now.plusDays(10),
+                lastAssigned.getDueDate(), lastAssigned.getId(), PageRequest.of(0, 20));
+
+        workspaceRepository.findByIdAndEntryCode(workspaceId, workspace.getEntryCode());
+        workspaceRepository.findByName(workspace.getName());
+        workspaceRepository.existsByNameIgnoreCaseAndOwner("workspace 3", workspace.getOwner());
+        workspaceRepository.existsById(workspaceId);
+        workspaceRepository.existsMember(workspaceId, userId);
+        workspaceRepository.findMemberIds(workspaceId);
+        workspaceRepository.countMembers(workspaceId);
+        workspaceRepository.findSummariesByOwnerId(userId);
+        workspaceRepository.findNamesAccessibleBy(userId);
+        List<User> roster = workspaceRepository.findMembersAfter(workspaceId, null, PageRequest.of(0, 5));
+        workspaceRepository.findMembersAfter(workspaceId, roster.get(roster.size() - 1).getId(), PageRequest.of(0, 5));
+
+        archivedTaskRepository.findWithArchivedByWorkspace(workspace, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")));
+        archivedTaskRepository.searchWithArchivedByWorkspace(workspace, null, TaskStatus.COMPLETED, null, null, null, null, PageRequest.of(0, 10));
+        archivedTaskRepository.countFacetsWithArchivedByWorkspace(workspace, null, TaskStatus.COMPLETED, null, null, null, null);
+        archivedTaskRepository.findIdsByWorkspaceId(workspaceIds.get(WORKSPACES - 1), PageRequest.of(0, 20));
+        archivedTaskRepository.countWithArchivedByWorkspaceId(workspaceIds.get(WORKSPACES - 1));
+        archivedTaskRepository.countCreatedByStatus(userId);
+        archivedTaskRepository.countAssignedByStatus(userId);
+
+        idempotencyRecordRepository.findByUserIdAndIdempotencyKey(userId, "key-3");
+        idempotencyRecordRepository.takeOver(userId, "key-3", now.minusMinutes(1), now, now.plusDays(1));
+        idempotencyRecordRepository.complete(userId, "key-3", now, 201, "application/json", new byte[0], null);
+        idempotencyRecordRepository.release(userId, "key-3", now);
+        idempotencyRecordRepository.deleteExpired(now.minusDays(8));
+
+        taskAssignmentRepository.findByTask(task);
+        taskAssignmentRepository.countStatusesByWorkspace(userId);
+
+        List<UUID> toArchive = taskRepository.findRefsByStatusUpdatedBefore(TaskStatus.COMPLETED, now, PageRequest.of(0, 10))
+                .stream().map(TaskRefView::getId).toList();
+        archivedTaskRepository.copyTasks(toArchive, now);
+        archivedTaskRepository.copyAssignments(toArchive);
+        archivedTaskRepository.deleteAssignmentsByTaskIds(toArchive);
+        archivedTaskRepository.deleteByIds(toArchive);
+
+        List<UUID> chunk = taskIds.subList(3 * TASKS_PER_WORKSPACE, 3 * TASKS_PER_WORKSPACE + 10);
+        taskAssignmentRepository.deleteByTaskIds(chunk);
+        taskRepository.deleteByIds(chunk);
+        workspaceRepository.removeMember(workspaceId, userId);
+        workspaceRepository.addMember(workspaceId, userId);
+        List<UUID> purgedMembers = workspaceRepository.findMembersForPurge(workspaceId, PageRequest.of(0, 5))
+                .stream().map(User::getId).toList();
+        workspaceRepository.deleteMembers(workspaceId, purgedMembers);
+        workspaceRepository.deleteRowById(emptyWorkspaceId);
+    }
+
+    // Live task rows have no archived_at
+    private static List<Object[]> withoutLast(List<Object[]> rows) {
+        return rows.stream().map(row -> Arrays.copyOf(row, row.length - 1)).toList();
+    }
+
+    private List<String> fullScans(RecordedStatement statement) {
+        List<String> scans = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.sql())) {
+            for (int i = 0; i < statement.parameters().size(); i++) {
+                Object value = statement.parameters().get(i);
+                if (value == null) {
+                    explain.setNull(i + 1, Types.NULL);
+                } else {
+                    explain.setObject(i + 1, value);
+                }
+            }
+            try (ResultSet plan = explain.executeQuery()) {
+                while (plan.next()) {
+                    String table = plan.getString("table");
+                    // <union1,2>, <derived2> and <subquery2> are temporary results, not stored tables
+                    if ("ALL".equals(plan.getString("type")) && table != null && !table.startsWith("<")) {
+                        scans.add(table + ": " + statement.sql());
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("EXPLAIN failed for " + statement.sql(), e);
+        }
+        return scans;
+    }
+
+    private static byte[] bytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,161 @@
+package com.project.task_management_app.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.project.task_management_app.enums.OutboxStatus;
+import com.project.task_management_app.models.EmailOutbox;
+import com.project.task_management_app.repositories.EmailOutboxRepository;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class EmailOutboxDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP.dynamicPort());
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private EmailOutboxRepository repository;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(EmailOutboxRepository.class);
+        when(repository.claim(any(), any(), any(), anyInt())).thenReturn(1);
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void sendsClaimedEmailsAndMarksThemSent() throws Exception {
+        EmailOutbox first = outboxEntry("alice@example.com", "Alice", 1);
+        EmailOutbox second = outboxEntry("bob@example.com", "Bob", 1);
+        stubDue(first, second);
+
+        int dispatched = dispatcher(greenMail.getSmtp().getPort()).dispatchOnce();
+
+        assertThat(dispatched).isEqualTo(2);
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(2);
+        assertThat(GreenMailUtil.getBody(received[0]) + GreenMailUtil.getBody(received[1]))
+                .contains("Hi Alice,")
+                .contains("Hi Bob,");
+        verify(repository).markSent(eq(first.getId()), any());
+        verify(repository).markSent(eq(second.getId()), any());
+        verify(repository, never()).markFailed(any(), any(), any(), any());
+    }
+
+    @Test
+    void schedulesRetryWithBackoffWhenSmtpIsDown() throws Exception {
+        EmailOutbox email = outboxEntry("carol@example.com", "Carol", 1);
+        stubDue(email);
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher(unusedPort()).dispatchOnce();
+
+        verify(repository).markFailed(eq(email.getId()), eq(OutboxStatus.PENDING),
+                argThat(next -> next.isAfter(before.plusSeconds(29))), anyString());
+        verify(repository, never()).markSent(any(), any());
+    }
+
+    @Test
+    void deadLettersAfterLastAttempt() throws Exception {
+        EmailOutbox email = outboxEntry("dave@example.com", "Dave", 3);
+        stubDue(email);
+
+        dispatcher(unusedPort()).dispatchOnce();
+
+        verify(repository).markFailed(eq(email.getId()), eq(OutboxStatus.DEAD), isNull(), anyString());
+    }
+
+    @Test
+    void deadLettersAtOnceWhenATemplateVariableIsMissing() throws Exception {
+        EmailOutbox email = outboxEntry("erin@example.com", "Erin", 1);
+        email.setVariables(objectMapper.writeValueAsString(Map.of("userName", "Erin")));
+        stubDue(email);
+
+        dispatcher(greenMail.getSmtp().getPort()).dispatchOnce();
+
+        verify(repository).markFailed(eq(email.getId()), eq(OutboxStatus.DEAD), isNull(), contains("workspaceName"));
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+    }
+
+    @Test
+    void deadLettersExpiredClaimsOnTheirLastAttempt() throws Exception {
+        when(repository.deadLetterExpiredClaims(any(), anyInt(), anyString())).thenReturn(1);
+        when(repository.findDueIds(any(), any())).thenReturn(List.of());
+
+        int dispatched = dispatcher(greenMail.getSmtp().getPort()).dispatchOnce();
+
+        assertThat(dispatched).isZero();
+        verify(repository).deadLetterExpiredClaims(any(), eq(3), anyString());
+        verify(repository, never()).claim(any(), any(), any(), anyInt());
+    }
+
+    private EmailOutboxDispatcher dispatcher(int smtpPort) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtpPort);
+
+        EmailTemplateEngine templateEngine = new EmailTemplateEngine(new DefaultResourceLoader());
+        templateEngine.loadTemplates();
+        EmailService emailService = new EmailService(
+                mailSender, templateEngine, mock(EmailOutboxService.class), "example.com");
+
+        return new EmailOutboxDispatcher(repository, emailService, objectMapper, executor,
+                true, 2, 10, 3, Duration.ofSeconds(30), Duration.ofHours(1), Duration.ofMinutes(5));
+    }
+
+    private void stubDue(EmailOutbox... emails) {
+        List<UUID> ids = Arrays.stream(emails).map(EmailOutbox::getId).toList();
+        when(repository.findDueIds(any(), any())).thenReturn(ids);
+        when(repository.findAllById(ids)).thenReturn(List.of(emails));
+    }
+
+    // attempts is the count as read back after the claim, which includes the current attempt
+    private EmailOutbox outboxEntry(String to, String userName, int attempts) throws Exception {
+        EmailOutbox email = new EmailOutbox();
+        email.setId(UUID.randomUUID());
+        email.setRecipient(to);
+        email.setSubject("Welcome to Team!");
+        email.setTemplateName(EmailService.WORKSPACE_WELCOME_TEMPLATE);
+        email.setVariables(objectMapper.writeValueAsString(Map.of(
+                "userName", userName,
+                "workspaceName", "Team",
+                "workspaceLink", "https://taskbuddy.com/workspace/1",
+                "unsubscribeLink", "example.com/unsubscribe?email=" + to)));
+        email.setStatus(OutboxStatus.SENDING);
+        email.setAttempts(attempts);
+        return email;
+    }
+
+    private int unusedPort() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
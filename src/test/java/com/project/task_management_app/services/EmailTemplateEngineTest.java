@@ -0,0 +1,87 @@
+package com.project.task_management_app.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class EmailTemplateEngineTest {
+    private EmailTemplateEngine engine;
+    private EmailOutboxService outbox;
+    private EmailService emailService;
+
+    @BeforeEach
+    void setUp() {
+        engine = new EmailTemplateEngine(new DefaultResourceLoader());
+        engine.loadTemplates();
+        outbox = mock(EmailOutboxService.class);
+        emailService = new EmailService(new JavaMailSenderImpl(), engine, outbox, "example.com");
+    }
+
+    @Test
+    void rendersInviteEmail() {
+        emailService.queueWorkspaceInviteEmail("erin@example.com", "Alice", "R&D", "https://taskbuddy.com/invite/abc123");
+
+        String html = engine.render(EmailService.WORKSPACE_INVITE_TEMPLATE, queuedVariables(EmailService.WORKSPACE_INVITE_TEMPLATE));
+        assertThat(html)
+                .contains("Alice has invited you")
+                .contains("\"R&amp;D\"")
+                .contains("href=\"https://taskbuddy.com/invite/abc123\"")
+                .contains("example.com/unsubscribe?email=erin@example.com")
+                .doesNotContain("{{");
+    }
+
+    @Test
+    void rendersReminderEmail() {
+        emailService.queueTaskReminderEmail("bob@example.com", "Bob", "Ship <v2>", "Platform", "2025-03-14",
+                "IN_PROGRESS", "HIGH", "https://taskbuddy.com/tasks/1");
+
+        String html = engine.render(EmailService.TASK_REMINDER_TEMPLATE, queuedVariables(EmailService.TASK_REMINDER_TEMPLATE));
+        assertThat(html)
+                .contains("Hi Bob,")
+                .contains("Ship &lt;v2&gt;")
+                .contains("due on <strong>2025-03-14</strong>")
+                .contains("Status: IN_PROGRESS")
+                .doesNotContain("{{");
+    }
+
+    @Test
+    void rendersDigestWithEscapedRows() {
+        emailService.queueTaskDigestEmail("carol@example.com", "Carol", "this week", List.of(
+                new EmailService.DigestTask("Plan <sprint>", "Platform", "2025-03-10", "TODO", "https://taskbuddy.com/tasks/1"),
+                new EmailService.DigestTask("Review PRs", "Web & Mobile", "2025-03-12", "IN_PROGRESS", "https://taskbuddy.com/tasks/2")
+        ), "https://taskbuddy.com/dashboard");
+
+        String html = engine.render(EmailService.TASK_DIGEST_TEMPLATE, queuedVariables(EmailService.TASK_DIGEST_TEMPLATE));
+        assertThat(html)
+                .contains("<strong>2</strong> open tasks due this week")
+                .contains("<a href=\"https://taskbuddy.com/tasks/1\">Plan &lt;sprint&gt;</a>")
+                .contains("<td>Web &amp; Mobile</td>")
+                .doesNotContain("{{");
+    }
+
+    @Test
+    void missingVariableFailsTheRender() {
+        assertThatThrownBy(() -> engine.render(EmailService.WORKSPACE_WELCOME_TEMPLATE, Map.of("userName", "Dave")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("workspaceName");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> queuedVariables(String template) {
+        ArgumentCaptor<Map<String, String>> variables = ArgumentCaptor.forClass(Map.class);
+        verify(outbox).enqueue(anyString(), anyString(), eq(template), variables.capture());
+        return variables.getValue();
+    }
+}
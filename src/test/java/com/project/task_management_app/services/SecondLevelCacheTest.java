@@ -0,0 +1,158 @@
+package com.project.task_management_app.services;
+
+import com.project.task_management_app.enums.Role;
+import com.project.task_management_app.models.User;
+import com.project.task_management_app.models.Workspace;
+import com.project.task_management_app.payload.Request.CreateWorkspaceRequest;
+import com.project.task_management_app.payload.Request.UpdateWorkspaceRequest;
+import com.project.task_management_app.payload.Response.CacheRegionStatsResponse;
+import com.project.task_management_app.repositories.UserRepository;
+import com.project.task_management_app.repositories.WorkspaceRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Changes made through the services must never leave a stale User, Workspace or member set in the cache
+@SpringBootTest
+class SecondLevelCacheTest {
+    private static final String MEMBERS_ROLE = Workspace.class.getName() + ".members";
+
+    @Autowired
+    private WorkspaceService workspaceService;
+
+    @Autowired
+    private CacheStatsService cacheStatsService;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Cache cache;
+    private User owner;
+    private UUID workspaceId;
+
+    @BeforeEach
+    void setUp() {
+        cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        owner = createUser();
+
+        CreateWorkspaceRequest request = new CreateWorkspaceRequest();
+        request.setName("Cache " + UUID.randomUUID().toString().substring(0, 8));
+        request.setDescription("");
+        workspaceId = workspaceService.createWorkspace(UserDetailsImpl.build(owner), request).getData().getId();
+    }
+
+    @Test
+    void renameThroughServiceReplacesCachedWorkspace() {
+        assertThat(loadWorkspace().getName()).startsWith("Cache ");
+        assertThat(cache.containsEntity(Workspace.class, workspaceId)).isTrue();
+
+        UpdateWorkspaceRequest update = new UpdateWorkspaceRequest();
+        update.setName("Renamed");
+        update.setDescription("changed");
+        // The response mapping reads lazy associations, open-in-view keeps the session open for it in a request
+        transactionTemplate.executeWithoutResult(status -> workspaceService.updateWorkspace(workspaceId, update));
+
+        Workspace reloaded = loadWorkspace();
+        assertThat(reloaded.getName()).isEqualTo("Renamed");
+        assertThat(reloaded.getDescription()).isEqualTo("changed");
+    }
+
+    @Test
+    void joinAndLeaveRefreshCachedMembers() {
+        User member = createUser();
+        assertThat(memberIds()).containsExactly(owner.getId());
+        assertThat(cache.containsCollection(MEMBERS_ROLE, workspaceId)).isTrue();
+
+        String entryCode = loadWorkspace().getEntryCode();
+        workspaceService.joinWorkspaceByEntryCode(workspaceId, entryCode, member.getId());
+
+        // Only the member set is dropped, the workspace itself stays cached
+        assertThat(cache.containsCollection(MEMBERS_ROLE, workspaceId)).isFalse();
+        assertThat(cache.containsEntity(Workspace.class, workspaceId)).isTrue();
+        assertThat(memberIds()).containsExactlyInAnyOrder(owner.getId(), member.getId());
+
+        workspaceService.leaveWorkspace(workspaceId, member.getId());
+        assertThat(memberIds()).containsExactly(owner.getId());
+    }
+
+    @Test
+    void deletionRequestHidesCachedWorkspace() {
+        loadWorkspace();
+        assertThat(cache.containsEntity(Workspace.class, workspaceId)).isTrue();
+
+        workspaceService.deleteWorkspace(workspaceId, owner.getId());
+
+        assertThat(cache.containsEntity(Workspace.class, workspaceId)).isFalse();
+        assertThat(workspaceRepository.findById(workspaceId)).isEmpty();
+    }
+
+    @Test
+    void userUpdateReplacesCachedUser() {
+        userRepository.findById(owner.getId()).orElseThrow();
+        assertThat(cache.containsEntity(User.class, owner.getId())).isTrue();
+
+        // Same steps as the profile update endpoint
+        User user = userRepository.findById(owner.getId()).orElseThrow();
+        user.setUserImgUrl("https://example.com/avatar.png");
+        userRepository.save(user);
+
+        assertThat(userRepository.findById(owner.getId()).orElseThrow().getUserImgUrl())
+                .isEqualTo("https://example.com/avatar.png");
+    }
+
+    @Test
+    void statsListEveryConfiguredRegion() {
+        loadWorkspace();
+        loadWorkspace();
+
+        assertThat(cacheStatsService.getSecondLevelCacheStats())
+                .extracting(CacheRegionStatsResponse::getRegion)
+                .contains("users", "workspaces", "workspace-members");
+        assertThat(cacheStatsService.getSecondLevelCacheStats())
+                .filteredOn(region -> region.getRegion().equals("workspaces"))
+                .allSatisfy(region -> {
+                    assertThat(region.getMaximumSize()).isEqualTo(5000L);
+                    assertThat(region.getHitCount()).isPositive();
+                });
+    }
+
+    private Workspace loadWorkspace() {
+        return workspaceRepository.findById(workspaceId).orElseThrow();
+    }
+
+    private Set<UUID> memberIds() {
+        return transactionTemplate.execute(status -> loadWorkspace().getMembers().stream()
+                .map(User::getId)
+                .collect(Collectors.toSet()));
+    }
+
+    private User createUser() {
+        String name = "u" + UUID.randomUUID().toString().substring(0, 12);
+        User user = new User();
+        user.setUsername(name);
+        user.setEmail(name + "@example.com");
+        user.setPassword("password");
+        user.setRole(Role.USER);
+        return userRepository.save(user);
+    }
+}
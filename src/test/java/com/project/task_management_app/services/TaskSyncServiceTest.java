@@ -0,0 +1,94 @@
+package com.project.task_management_app.services;
+
+import com.project.task_management_app.models.TaskTombstone;
+import com.project.task_management_app.payload.Response.TaskChangesResponse;
+import com.project.task_management_app.repositories.TaskRepository;
+import com.project.task_management_app.repositories.TaskTombstoneRepository;
+import com.project.task_management_app.repositories.WorkspaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TaskSyncServiceTest {
+    private static final Duration OVERLAP = Duration.ofSeconds(5);
+    private static final Duration RETENTION = Duration.ofDays(30);
+    private static final Instant START = Instant.parse("2026-01-01T12:00:00Z");
+
+    private final UUID workspaceId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+    private TaskRepository taskRepository;
+    private TaskTombstoneRepository taskTombstoneRepository;
+    private WorkspaceRepository workspaceRepository;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        taskTombstoneRepository = mock(TaskTombstoneRepository.class);
+        workspaceRepository = mock(WorkspaceRepository.class);
+        when(workspaceRepository.existsById(workspaceId)).thenReturn(true);
+        when(taskRepository.findChangedSince(any(), any(), any(), any())).thenReturn(List.of());
+        when(taskTombstoneRepository.findDeletedSince(any(), any(), any(), any())).thenReturn(List.of());
+    }
+
+    @Test
+    void tokenFromAWorkspaceWithoutDeletionsStaysValidWhileSyncedRegularly() {
+        String token = changesAt(START, null).getNextToken();
+
+        // Every sync is within the retention window of the previous one, but the total spans several windows
+        for (int day = 20; day <= 100; day += 20) {
+            TaskChangesResponse changes = changesAt(START.plus(Duration.ofDays(day)), token);
+            assertThat(changes.isResyncRequired()).isFalse();
+            token = changes.getNextToken();
+        }
+
+        // The last call resumes tombstones from the previous sync, held back by the overlap
+        LocalDateTime previousSync = LocalDateTime.ofInstant(START.plus(Duration.ofDays(80)), ZoneOffset.UTC);
+        verify(taskTombstoneRepository).findDeletedSince(
+                eq(workspaceId), eq(previousSync.minus(OVERLAP)), eq(new UUID(0L, 0L)), any());
+    }
+
+    @Test
+    void tokenOlderThanTheRetentionRequiresResync() {
+        String token = changesAt(START, null).getNextToken();
+
+        TaskChangesResponse changes = changesAt(START.plus(RETENTION).plus(Duration.ofDays(1)), token);
+
+        assertThat(changes.isResyncRequired()).isTrue();
+        assertThat(changes.getNextToken()).isNull();
+    }
+
+    @Test
+    void tombstonesAfterTheTokenAreReturnedOnce() {
+        String token = changesAt(START, null).getNextToken();
+        UUID deletedTaskId = UUID.randomUUID();
+        LocalDateTime deletedAt = LocalDateTime.ofInstant(START.plus(Duration.ofHours(1)), ZoneOffset.UTC);
+        when(taskTombstoneRepository.findDeletedSince(any(), any(), any(), any())).thenAnswer(invocation ->
+                invocation.<LocalDateTime>getArgument(1).isBefore(deletedAt)
+                        ? List.of(new TaskTombstone(UUID.randomUUID(), deletedTaskId, workspaceId, deletedAt))
+                        : List.of());
+
+        TaskChangesResponse first = changesAt(START.plus(Duration.ofDays(1)), token);
+        TaskChangesResponse second = changesAt(START.plus(Duration.ofDays(2)), first.getNextToken());
+
+        assertThat(first.getDeletedTaskIds()).containsExactly(deletedTaskId);
+        assertThat(second.getDeletedTaskIds()).isEmpty();
+        assertThat(second.isResyncRequired()).isFalse();
+    }
+
+    private TaskChangesResponse changesAt(Instant now, String since) {
+        TaskSyncService service = new TaskSyncService(taskRepository, taskTombstoneRepository, workspaceRepository,
+                mock(WorkspaceMembershipService.class), OVERLAP, RETENTION, Clock.fixed(now, ZoneOffset.UTC));
+        return service.getChanges(workspaceId, userId, since, 100).getData();
+    }
+}
@@ -0,0 +1,138 @@
+package com.project.task_management_app.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.task_management_app.models.User;
+import com.project.task_management_app.payload.Request.SignUpRequest;
+import com.project.task_management_app.repositories.UserRepository;
+import com.project.task_management_app.repositories.WorkspaceRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UserProvisioningServiceTest {
+    private static final String CONSTRAINT_TEXT = "Duplicate entry 'bob' for key 'users.uk_users_username'";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private UserRepository userRepository;
+    private PasswordEncoder passwordEncoder;
+    private ValidatorFactory validatorFactory;
+    private ThreadPoolTaskExecutor executor;
+    private UserProvisioningService provisioningService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> "hashed-" + invocation.getArgument(0));
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.initialize();
+        provisioningService = new UserProvisioningService(userRepository, mock(WorkspaceRepository.class),
+                passwordEncoder, validatorFactory.getValidator(), objectMapper,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), executor, 10, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+        validatorFactory.close();
+    }
+
+    @Test
+    void failedHashFailsOnlyItsRow() throws Exception {
+        when(passwordEncoder.encode("broken-pw")).thenThrow(new IllegalStateException("encoder down"));
+
+        Map<String, JsonNode> rows = provision(row("alice", "secret-pw"), row("bob", "broken-pw"), row("carol", "secret-pw"));
+
+        assertThat(statuses(rows)).containsExactlyInAnyOrderEntriesOf(
+                Map.of("alice", "CREATED", "bob", "FAILED", "carol", "CREATED"));
+        assertThat(rows.get("bob").get("message").asText()).isEqualTo("Password hashing failed");
+    }
+
+    @Test
+    void duplicateMissedByThePrecheckFailsOnlyItsRow() throws Exception {
+        // "bob" is registered by someone else between the lookup and the insert
+        when(userRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException(CONSTRAINT_TEXT));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+            User user = invocation.getArgument(0);
+            if (user.getUsername().equals("bob")) throw new DataIntegrityViolationException(CONSTRAINT_TEXT);
+            return user;
+        });
+
+        Map<String, JsonNode> rows = provision(row("alice", "secret-pw"), row("bob", "secret-pw"), row("carol", "secret-pw"));
+
+        assertThat(statuses(rows)).containsExactlyInAnyOrderEntriesOf(
+                Map.of("alice", "CREATED", "bob", "FAILED", "carol", "CREATED"));
+        assertThat(rows.get("bob").get("message").asText())
+                .isEqualTo("Conflicts with an existing user or workspace")
+                .doesNotContain("uk_users_username");
+        verify(userRepository, times(2)).save(argThat(user -> user.getUsername().equals("bob")));
+    }
+
+    @Test
+    void entryCodeCollisionIsRetriedOnce() throws Exception {
+        when(userRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("uk_workspaces_entry_code"));
+        AtomicInteger bobAttempts = new AtomicInteger();
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+            User user = invocation.getArgument(0);
+            if (user.getUsername().equals("bob") && bobAttempts.incrementAndGet() == 1) {
+                throw new DataIntegrityViolationException("uk_workspaces_entry_code");
+            }
+            return user;
+        });
+
+        Map<String, JsonNode> rows = provision(row("alice", "secret-pw"), row("bob", "secret-pw"));
+
+        assertThat(statuses(rows)).containsExactlyInAnyOrderEntriesOf(Map.of("alice", "CREATED", "bob", "CREATED"));
+        assertThat(bobAttempts).hasValue(2);
+    }
+
+    private Map<String, JsonNode> provision(SignUpRequest... requests) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        provisioningService.provision(List.of(requests), out);
+        return out.toString().lines()
+                .map(this::readTree)
+                .filter(line -> line.get("type").asText().equals("row"))
+                .collect(Collectors.toMap(line -> line.get("username").asText(), line -> line));
+    }
+
+    private Map<String, String> statuses(Map<String, JsonNode> rows) {
+        return rows.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().get("status").asText()));
+    }
+
+    private JsonNode readTree(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static SignUpRequest row(String username, String password) {
+        SignUpRequest request = new SignUpRequest();
+        request.setUsername(username);
+        request.setEmail(username + "@example.com");
+        request.setPassword(password);
+        return request;
+    }
+}
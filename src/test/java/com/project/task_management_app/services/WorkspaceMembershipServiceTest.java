@@ -0,0 +1,62 @@
+package com.project.task_management_app.services;
+
+import com.project.task_management_app.repositories.WorkspaceRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class WorkspaceMembershipServiceTest {
+    private final UUID workspaceId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+    private WorkspaceRepository workspaceRepository;
+    private WorkspaceMembershipService membershipService;
+
+    @BeforeEach
+    void setUp() {
+        workspaceRepository = mock(WorkspaceRepository.class);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(mock(org.hibernate.Cache.class));
+        membershipService = new WorkspaceMembershipService(workspaceRepository, entityManagerFactory,
+                1_000_000, 50_000, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void cachesLoadedMembers() {
+        when(workspaceRepository.findMemberIds(workspaceId)).thenReturn(List.of(userId));
+
+        assertThat(membershipService.isMember(workspaceId, userId)).isTrue();
+        assertThat(membershipService.isMember(workspaceId, userId)).isTrue();
+
+        verify(workspaceRepository, times(1)).findMemberIds(workspaceId);
+    }
+
+    @Test
+    void loadOverlappingAnEvictionIsNotCached() {
+        // The user is removed while the first load is running; that load read the old membership
+        AtomicReference<List<UUID>> members = new AtomicReference<>(List.of(userId));
+        when(workspaceRepository.findMemberIds(workspaceId)).thenAnswer(invocation -> {
+            List<UUID> snapshot = members.get();
+            if (!snapshot.isEmpty()) {
+                members.set(List.of());
+                membershipService.evict(workspaceId);
+            }
+            return snapshot;
+        });
+
+        assertThat(membershipService.isMember(workspaceId, userId)).isTrue();
+        assertThat(membershipService.isMember(workspaceId, userId)).isFalse();
+
+        verify(workspaceRepository, times(2)).findMemberIds(workspaceId);
+    }
+}
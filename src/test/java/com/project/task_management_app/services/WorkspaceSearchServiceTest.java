@@ -0,0 +1,64 @@
+package com.project.task_management_app.services;
+
+import com.project.task_management_app.repositories.WorkspaceRepository;
+import com.project.task_management_app.repositories.projections.WorkspaceNameView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class WorkspaceSearchServiceTest {
+    // Fixed ids so the two users never share a patch stripe
+    private final UUID userId = new UUID(0L, 1L);
+    private final UUID otherUserId = new UUID(0L, 2L);
+    private final UUID workspaceId = UUID.randomUUID();
+    private WorkspaceRepository workspaceRepository;
+    private WorkspaceSearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        workspaceRepository = mock(WorkspaceRepository.class);
+        searchService = new WorkspaceSearchService(workspaceRepository, 10_000, Duration.ofMinutes(30));
+    }
+
+    @Test
+    void loadOverlappingAPatchToAnotherUserIsCached() {
+        when(workspaceRepository.findNamesAccessibleBy(userId)).thenAnswer(invocation -> {
+            searchService.workspaceAdded(otherUserId, UUID.randomUUID(), "Elsewhere");
+            return List.of(workspace(workspaceId, "Roadmap"));
+        });
+
+        assertThat(searchService.search(userId, "road", 10)).hasSize(1);
+        assertThat(searchService.search(userId, "road", 10)).hasSize(1);
+
+        verify(workspaceRepository, times(1)).findNamesAccessibleBy(userId);
+    }
+
+    @Test
+    void loadOverlappingAPatchToTheSameUserIsNotCached() {
+        when(workspaceRepository.findNamesAccessibleBy(userId))
+                .thenAnswer(invocation -> {
+                    // The user leaves while the first load is running; that load read the old workspaces
+                    searchService.workspaceLeft(userId, workspaceId);
+                    return List.of(workspace(workspaceId, "Roadmap"));
+                })
+                .thenReturn(List.of());
+
+        assertThat(searchService.search(userId, "road", 10)).hasSize(1);
+        assertThat(searchService.search(userId, "road", 10)).isEmpty();
+
+        verify(workspaceRepository, times(2)).findNamesAccessibleBy(userId);
+    }
+
+    private static WorkspaceNameView workspace(UUID id, String name) {
+        WorkspaceNameView view = mock(WorkspaceNameView.class);
+        when(view.getId()).thenReturn(id);
+        when(view.getName()).thenReturn(name);
+        return view;
+    }
+}
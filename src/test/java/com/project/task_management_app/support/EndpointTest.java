@@ -0,0 +1,54 @@
+package com.project.task_management_app.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.task_management_app.services.WorkspaceMembershipService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+// Base for the controller integration tests: full context on H2, seeded data, real JWTs and a
+// per-request statement count checked against @QueryBudget. Caches start cold for every test.
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import({QueryCountingFilter.class, TestDataSeeder.class})
+@ExtendWith(QueryBudgetExtension.class)
+public abstract class EndpointTest {
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    @Autowired
+    protected TestDataSeeder seeder;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private WorkspaceMembershipService workspaceMembershipService;
+
+    protected TestDataSeeder.Dataset data;
+
+    @BeforeEach
+    void seedAndResetCaches() {
+        data = seeder.dataset();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        workspaceMembershipService.evict(data.teamWorkspaceId());
+        for (UUID workspaceId : data.sideWorkspaceIds()) {
+            workspaceMembershipService.evict(workspaceId);
+        }
+    }
+
+    protected String json(Object body) throws Exception {
+        return objectMapper.writeValueAsString(body);
+    }
+}
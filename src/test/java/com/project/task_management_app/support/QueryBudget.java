@@ -0,0 +1,14 @@
+package com.project.task_management_app.support;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Most SQL statements any single request made by the annotated test may issue, checked by
+// QueryBudgetExtension. Budgets are measured with cold caches, so they hold for the first request too.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+    int value();
+}
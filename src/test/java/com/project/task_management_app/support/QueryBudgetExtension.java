@@ -0,0 +1,52 @@
+package com.project.task_management_app.support;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Fails a @QueryBudget test when any request it made issued more statements than the budget.
+// The failure lists the statements, which is usually enough to spot the lazy load behind an N+1.
+public class QueryBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+    private static final Logger log = LoggerFactory.getLogger(QueryBudgetExtension.class);
+    private static final ThreadLocal<List<RecordedRequest>> REQUESTS = ThreadLocal.withInitial(ArrayList::new);
+
+    static void record(String request, List<String> statements) {
+        REQUESTS.get().add(new RecordedRequest(request, statements));
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        REQUESTS.get().clear();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        List<RecordedRequest> requests = new ArrayList<>(REQUESTS.get());
+        REQUESTS.get().clear();
+
+        QueryBudget budget = context.getRequiredTestMethod().getAnnotation(QueryBudget.class);
+        if (budget == null || context.getExecutionException().isPresent()) {
+            return;
+        }
+        if (requests.isEmpty()) {
+            throw new AssertionError("@QueryBudget test " + context.getDisplayName() + " made no request");
+        }
+
+        for (RecordedRequest request : requests) {
+            log.info("{}: {} statements (budget {})",
+                    request.request(), request.statements().size(), budget.value());
+            if (request.statements().size() > budget.value()) {
+                throw new AssertionError(String.format("%s issued %d SQL statements, budget is %d:%n  %s",
+                        request.request(), request.statements().size(), budget.value(),
+                        String.join(System.lineSeparator() + "  ", request.statements())));
+            }
+        }
+    }
+
+    private record RecordedRequest(String request, List<String> statements) {}
+}
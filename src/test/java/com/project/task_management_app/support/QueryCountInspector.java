@@ -0,0 +1,32 @@
+package com.project.task_management_app.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Hibernate statement inspector registered by the test configuration. While recording is on it keeps
+// every SQL statement prepared on the current thread; MockMvc runs a request on the calling thread,
+// so one recording covers exactly one request.
+public class QueryCountInspector implements StatementInspector {
+    private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+    public static void start() {
+        STATEMENTS.set(new ArrayList<>());
+    }
+
+    public static List<String> stop() {
+        List<String> statements = STATEMENTS.get();
+        STATEMENTS.remove();
+        return statements == null ? List.of() : statements;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = STATEMENTS.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+}
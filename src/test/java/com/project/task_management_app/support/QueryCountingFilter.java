@@ -0,0 +1,27 @@
+package com.project.task_management_app.support;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Outermost filter, so the statements of the JWT filter's user lookup count towards the request too
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryCountingFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCountInspector.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryBudgetExtension.record(request.getMethod() + " " + request.getRequestURI(), QueryCountInspector.stop());
+        }
+    }
+}
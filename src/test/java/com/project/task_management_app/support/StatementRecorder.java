@@ -0,0 +1,90 @@
+package com.project.task_management_app.support;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Wraps the application's DataSource and records the prepared statements run on the recording thread,
+// with their bound parameters, so QueryPlanTest can EXPLAIN exactly what the repositories sent
+public class StatementRecorder extends DelegatingDataSource {
+    public record RecordedStatement(String sql, List<Object> parameters) {
+    }
+
+    private final List<RecordedStatement> statements = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<Boolean> recording = ThreadLocal.withInitial(() -> false);
+
+    public StatementRecorder(DataSource target) {
+        super(target);
+    }
+
+    public List<RecordedStatement> record(Runnable work) {
+        statements.clear();
+        recording.set(true);
+        try {
+            work.run();
+        } finally {
+            recording.set(false);
+        }
+        return List.copyOf(statements);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return recordingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return recordingConnection(super.getConnection(username, password));
+    }
+
+    private Connection recordingConnection(Connection connection) {
+        return proxy(Connection.class, (method, args) -> {
+            Object result = method.invoke(connection, args);
+            if (method.getName().equals("prepareStatement") && recording.get()) {
+                return recordingStatement((PreparedStatement) result, (String) args[0]);
+            }
+            return result;
+        });
+    }
+
+    private PreparedStatement recordingStatement(PreparedStatement statement, String sql) {
+        Map<Integer, Object> parameters = new TreeMap<>();
+        return proxy(PreparedStatement.class, (method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameters.put(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.startsWith("execute") || name.equals("addBatch")) {
+                statements.add(new RecordedStatement(sql, new ArrayList<>(parameters.values())));
+            }
+            return method.invoke(statement, args);
+        });
+    }
+
+    private interface Invocation {
+        Object invoke(Method method, Object[] args) throws Exception;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Invocation invocation) {
+        return (T) Proxy.newProxyInstance(StatementRecorder.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    try {
+                        return invocation.invoke(method, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
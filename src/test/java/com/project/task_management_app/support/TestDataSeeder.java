@@ -0,0 +1,172 @@
+package com.project.task_management_app.support;
+
+import com.project.task_management_app.enums.AssignmentStatus;
+import com.project.task_management_app.enums.Role;
+import com.project.task_management_app.enums.TaskPriority;
+import com.project.task_management_app.enums.TaskStatus;
+import com.project.task_management_app.enums.WorkspaceType;
+import com.project.task_management_app.models.Task;
+import com.project.task_management_app.models.TaskAssignment;
+import com.project.task_management_app.models.User;
+import com.project.task_management_app.models.Workspace;
+import com.project.task_management_app.repositories.TaskRepository;
+import com.project.task_management_app.repositories.UserRepository;
+import com.project.task_management_app.repositories.WorkspaceRepository;
+import com.project.task_management_app.security.jwt.JwtUtils;
+import com.project.task_management_app.services.UserDetailsImpl;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+// Seeds the shared data set once per test JVM: a team workspace with 40 members and 300 tasks of three
+// assignees each, nine smaller workspaces for the same owner, and an admin. Tests that change data
+// create their own users, workspaces and tasks with the fresh* helpers so the seed stays as described.
+public class TestDataSeeder {
+    public static final String PASSWORD = "password123";
+
+    static final int MEMBERS = 40;
+    static final int TEAM_TASKS = 300;
+    static final int SIDE_WORKSPACES = 9;
+    static final int SIDE_TASKS = 20;
+    static final int ASSIGNEES_PER_TASK = 3;
+    private static final String[] CATEGORIES = {"Work", "Personal", "Ops", "Design"};
+
+    private static volatile Dataset dataset;
+
+    private final UserRepository userRepository;
+    private final WorkspaceRepository workspaceRepository;
+    private final TaskRepository taskRepository;
+    private final JwtUtils jwtUtils;
+    private final String passwordHash;
+
+    public TestDataSeeder(UserRepository userRepository, WorkspaceRepository workspaceRepository,
+                          TaskRepository taskRepository, PasswordEncoder passwordEncoder, JwtUtils jwtUtils) {
+        this.userRepository = userRepository;
+        this.workspaceRepository = workspaceRepository;
+        this.taskRepository = taskRepository;
+        this.jwtUtils = jwtUtils;
+        this.passwordHash = passwordEncoder.encode(PASSWORD);
+    }
+
+    public Dataset dataset() {
+        if (dataset == null) {
+            synchronized (TestDataSeeder.class) {
+                if (dataset == null) {
+                    dataset = seed();
+                }
+            }
+        }
+        return dataset;
+    }
+
+    public String bearer(User user) {
+        UserDetailsImpl principal = UserDetailsImpl.build(user);
+        return "Bearer " + jwtUtils.generateJwtToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    public User freshUser() {
+        return freshUser(Role.USER);
+    }
+
+    public User freshUser(Role role) {
+        String name = "u" + UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+        User user = new User();
+        user.setUsername(name);
+        user.setEmail(name + "@example.com");
+        user.setPassword(passwordHash);
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+
+    public Workspace freshWorkspace(User owner, List<User> members) {
+        Workspace workspace = new Workspace();
+        workspace.setName("ws-" + UUID.randomUUID().toString().substring(0, 8));
+        workspace.setDescription("Test workspace");
+        workspace.setEntryCode(UUID.randomUUID().toString().substring(0, 6));
+        workspace.setOwner(owner);
+        workspace.setType(WorkspaceType.PUBLIC);
+        Set<User> all = new HashSet<>(members);
+        all.add(owner);
+        workspace.setMembers(all);
+        return workspaceRepository.save(workspace);
+    }
+
+    public Task freshTask(Workspace workspace, User creator, List<User> assignees) {
+        return taskRepository.save(task("fresh-" + UUID.randomUUID(), 0, workspace, creator, assignees));
+    }
+
+    private Dataset seed() {
+        User admin = freshUser(Role.ADMIN);
+        User owner = freshUser();
+        List<User> members = new ArrayList<>(MEMBERS);
+        for (int i = 0; i < MEMBERS; i++) {
+            members.add(freshUser());
+        }
+
+        Workspace team = freshWorkspace(owner, members);
+        List<Task> teamTasks = new ArrayList<>(TEAM_TASKS);
+        for (int i = 0; i < TEAM_TASKS; i++) {
+            User creator = i % 4 == 0 ? owner : members.get(i % MEMBERS);
+            teamTasks.add(task("team-" + i, i, team, creator, assigneesFor(i, owner, members)));
+        }
+        List<UUID> teamTaskIds = taskRepository.saveAll(teamTasks).stream().map(Task::getId).toList();
+
+        List<UUID> sideWorkspaceIds = new ArrayList<>(SIDE_WORKSPACES);
+        for (int w = 0; w < SIDE_WORKSPACES; w++) {
+            Workspace side = freshWorkspace(owner, members.subList(w, w + 3));
+            List<Task> sideTasks = new ArrayList<>(SIDE_TASKS);
+            for (int i = 0; i < SIDE_TASKS; i++) {
+                sideTasks.add(task("side-" + w + "-" + i, i, side, owner, List.of(members.get(w))));
+            }
+            taskRepository.saveAll(sideTasks);
+            sideWorkspaceIds.add(side.getId());
+        }
+
+        return new Dataset(admin, owner, members, team.getId(), team.getEntryCode(), teamTaskIds, sideWorkspaceIds);
+    }
+
+    // Every third task includes the owner, so the owner's dashboard has assigned work as well
+    private static List<User> assigneesFor(int i, User owner, List<User> members) {
+        List<User> assignees = new ArrayList<>(ASSIGNEES_PER_TASK);
+        if (i % 3 == 0) assignees.add(owner);
+        for (int a = 0; assignees.size() < ASSIGNEES_PER_TASK; a++) {
+            assignees.add(members.get((i + a * 7) % MEMBERS));
+        }
+        return assignees;
+    }
+
+    private static Task task(String title, int i, Workspace workspace, User creator, List<User> assignees) {
+        TaskStatus[] statuses = TaskStatus.values();
+        TaskPriority[] priorities = TaskPriority.values();
+        AssignmentStatus[] assignmentStatuses = AssignmentStatus.values();
+
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription("Seeded task " + title);
+        task.setStatus(statuses[i % statuses.length]);
+        task.setPriority(priorities[i % priorities.length]);
+        task.setCategory(CATEGORIES[i % CATEGORIES.length]);
+        task.setDueDate(LocalDateTime.now().plusDays(i % 30 - 10));
+        task.setUser(creator);
+        task.setWorkspace(workspace);
+        for (int a = 0; a < assignees.size(); a++) {
+            TaskAssignment assignment = new TaskAssignment();
+            assignment.setTask(task);
+            assignment.setAssignee(assignees.get(a));
+            assignment.setStatus(assignmentStatuses[(i + a) % assignmentStatuses.length]);
+            assignment.setAssignedAt(LocalDateTime.now().minusDays(a));
+            task.getAssignments().add(assignment);
+        }
+        return task;
+    }
+
+    public record Dataset(User admin, User owner, List<User> members, UUID teamWorkspaceId, String teamEntryCode,
+                          List<UUID> teamTaskIds, List<UUID> sideWorkspaceIds) {}
+}